@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.sharding.standard;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
+import io.shardingsphere.core.exception.ShardingException;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Abstract interval sharding algorithm.
+ * 
+ * <p>
+ * Every target owns a closed-open interval of sharding value which is resolved from its name.
+ * Interval index is built once for every collection of available targets,
+ * precise value is routed to the only target which contains it, range value is routed to the targets which overlap it.
+ * Built-in implementations are configured by constructor, extend them with no argument constructor to use in yaml configuration.
+ * </p>
+ *
+ * @author agent
+ */
+public abstract class AbstractIntervalShardingAlgorithm implements PreciseShardingAlgorithm<Comparable<?>>, RangeShardingAlgorithm<Comparable<?>> {
+    
+    private final LoadingCache<Collection<String>, IntervalIndex> intervalIndexes = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<Collection<String>, IntervalIndex>() {
+        
+        @Override
+        public IntervalIndex load(final Collection<String> availableTargetNames) {
+            return createIntervalIndex(availableTargetNames);
+        }
+    });
+    
+    @Override
+    public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        return intervalIndexes.getUnchecked(availableTargetNames).find(toLong(shardingValue.getValue())).orNull();
+    }
+    
+    @Override
+    public final Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        Range<Comparable<?>> valueRange = shardingValue.getValueRange();
+        long from = Long.MIN_VALUE;
+        if (valueRange.hasLowerBound()) {
+            from = toLong(valueRange.lowerEndpoint());
+            if (BoundType.OPEN == valueRange.lowerBoundType()) {
+                from = Long.MAX_VALUE == from ? from : from + 1;
+            }
+        }
+        long to = Long.MAX_VALUE;
+        if (valueRange.hasUpperBound()) {
+            to = toLong(valueRange.upperEndpoint());
+            if (BoundType.OPEN == valueRange.upperBoundType()) {
+                to = Long.MIN_VALUE == to ? to : to - 1;
+            }
+        }
+        return intervalIndexes.getUnchecked(availableTargetNames).find(from, to);
+    }
+    
+    private IntervalIndex createIntervalIndex(final Collection<String> availableTargetNames) {
+        Map<String, Range<Long>> targetIntervals = new LinkedHashMap<>(availableTargetNames.size(), 1);
+        for (String each : availableTargetNames) {
+            Optional<Range<Long>> interval = getInterval(each);
+            if (interval.isPresent()) {
+                targetIntervals.put(each, interval.get());
+            }
+        }
+        return new IntervalIndex(targetIntervals);
+    }
+    
+    /**
+     * Get interval of target.
+     * 
+     * @param targetName data source or table's name
+     * @return closed-open interval of target, absent if target does not own any interval
+     */
+    protected abstract Optional<Range<Long>> getInterval(String targetName);
+    
+    /**
+     * Convert sharding value to the value in intervals.
+     * 
+     * @param value sharding value
+     * @return value in intervals
+     */
+    protected long toLong(final Comparable<?> value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        try {
+            return Long.parseLong(value.toString().trim());
+        } catch (final NumberFormatException ex) {
+            throw new ShardingException("Sharding value `%s` should be a number.", value);
+        }
+    }
+    
+    /**
+     * Get numeric suffix of target.
+     * 
+     * @param targetName data source or table's name
+     * @return numeric suffix of target, absent if target does not end with digit
+     */
+    protected final Optional<Long> getNumericSuffix(final String targetName) {
+        int index = targetName.length();
+        while (index > 0 && Character.isDigit(targetName.charAt(index - 1))) {
+            index--;
+        }
+        return index == targetName.length() ? Optional.<Long>absent() : Optional.of(Long.parseLong(targetName.substring(index)));
+    }
+}
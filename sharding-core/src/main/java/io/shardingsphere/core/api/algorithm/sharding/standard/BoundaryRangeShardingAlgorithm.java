@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.sharding.standard;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+
+/**
+ * Boundary range sharding algorithm.
+ * 
+ * <p>
+ * Ascending boundaries split numeric sharding values into ranges, target with numeric suffix {@code n} holds the {@code n}th range.
+ * For example, if boundaries are {@code 100, 1000}, {@code t_order_0} holds values less than {@code 100}, {@code t_order_1} holds {@code [100, 1000)}
+ * and {@code t_order_2} holds values not less than {@code 1000}.
+ * </p>
+ *
+ * @author agent
+ */
+public class BoundaryRangeShardingAlgorithm extends AbstractIntervalShardingAlgorithm {
+    
+    private final long[] boundaries;
+    
+    public BoundaryRangeShardingAlgorithm(final long... boundaries) {
+        Preconditions.checkArgument(boundaries.length > 0, "Boundaries of range sharding algorithm cannot be empty.");
+        for (int i = 1; i < boundaries.length; i++) {
+            Preconditions.checkArgument(boundaries[i] > boundaries[i - 1], "Boundaries of range sharding algorithm should be ascending.");
+        }
+        this.boundaries = boundaries.clone();
+    }
+    
+    @Override
+    protected Optional<Range<Long>> getInterval(final String targetName) {
+        Optional<Long> suffix = getNumericSuffix(targetName);
+        if (!suffix.isPresent() || suffix.get() > boundaries.length) {
+            return Optional.absent();
+        }
+        int index = suffix.get().intValue();
+        long lowerEndpoint = 0 == index ? Long.MIN_VALUE : boundaries[index - 1];
+        long upperEndpoint = boundaries.length == index ? Long.MAX_VALUE : boundaries[index];
+        return Optional.of(Range.closedOpen(lowerEndpoint, upperEndpoint));
+    }
+}
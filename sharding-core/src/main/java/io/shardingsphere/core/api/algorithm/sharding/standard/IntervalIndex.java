@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.sharding.standard;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Interval index of sharding targets.
+ * 
+ * <p>Every target owns a closed-open interval, intervals are sorted by lower endpoint and located via binary search.</p>
+ *
+ * @author agent
+ */
+final class IntervalIndex {
+    
+    private final long[] lowerEndpoints;
+    
+    private final long[] upperEndpoints;
+    
+    private final String[] targetNames;
+    
+    IntervalIndex(final Map<String, Range<Long>> targetIntervals) {
+        List<Entry<String, Range<Long>>> entries = new ArrayList<>(targetIntervals.entrySet());
+        Collections.sort(entries, new Comparator<Entry<String, Range<Long>>>() {
+            
+            @Override
+            public int compare(final Entry<String, Range<Long>> o1, final Entry<String, Range<Long>> o2) {
+                return o1.getValue().lowerEndpoint().compareTo(o2.getValue().lowerEndpoint());
+            }
+        });
+        lowerEndpoints = new long[entries.size()];
+        upperEndpoints = new long[entries.size()];
+        targetNames = new String[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            lowerEndpoints[i] = entries.get(i).getValue().lowerEndpoint();
+            upperEndpoints[i] = entries.get(i).getValue().upperEndpoint();
+            targetNames[i] = entries.get(i).getKey();
+            if (i > 0) {
+                Preconditions.checkState(lowerEndpoints[i] >= upperEndpoints[i - 1], "Intervals of `%s` and `%s` are overlapped.", targetNames[i - 1], targetNames[i]);
+            }
+        }
+    }
+    
+    /**
+     * Find target which interval contains value.
+     * 
+     * @param value value
+     * @return target name
+     */
+    Optional<String> find(final long value) {
+        int index = floorIndex(value);
+        return index >= 0 && value < upperEndpoints[index] ? Optional.of(targetNames[index]) : Optional.<String>absent();
+    }
+    
+    /**
+     * Find targets which intervals overlap the closed range.
+     * 
+     * @param from lower endpoint of range, inclusive
+     * @param to upper endpoint of range, inclusive
+     * @return target names
+     */
+    Collection<String> find(final long from, final long to) {
+        Collection<String> result = new LinkedHashSet<>();
+        if (from > to) {
+            return result;
+        }
+        int index = floorIndex(from);
+        if (index < 0 || upperEndpoints[index] <= from) {
+            index++;
+        }
+        for (int i = index; i < targetNames.length && lowerEndpoints[i] <= to; i++) {
+            result.add(targetNames[i]);
+        }
+        return result;
+    }
+    
+    private int floorIndex(final long value) {
+        int result = Arrays.binarySearch(lowerEndpoints, value);
+        return result >= 0 ? result : -result - 2;
+    }
+}
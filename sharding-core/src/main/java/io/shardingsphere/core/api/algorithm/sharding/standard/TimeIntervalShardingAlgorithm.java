@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.sharding.standard;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+import io.shardingsphere.core.exception.ShardingException;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Time interval sharding algorithm.
+ * 
+ * <p>
+ * Suffix of target is formatted by suffix pattern, and every target holds one unit of time which is the smallest field of suffix pattern.
+ * For example, if suffix pattern is {@code yyyyMM}, {@code t_order_201801} holds January 2018;
+ * if suffix pattern is {@code yyyyMMdd}, {@code t_order_20180101} holds the first day of January 2018.
+ * </p>
+ * 
+ * <p>
+ * Suffix pattern should be consecutive time units of {@code yMdHms} from year, separators between them are allowed but quoted text is not.
+ * Sharding value can be date, epoch milliseconds or text formatted by value pattern or its prefix.
+ * </p>
+ *
+ * @author agent
+ */
+public class TimeIntervalShardingAlgorithm extends AbstractIntervalShardingAlgorithm {
+    
+    private static final String DEFAULT_VALUE_PATTERN = "yyyy-MM-dd HH:mm:ss";
+    
+    private static final String TIME_UNIT_LETTERS = "yMdHms";
+    
+    private static final int[] TIME_UNIT_CALENDAR_FIELDS = {Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH, Calendar.HOUR_OF_DAY, Calendar.MINUTE, Calendar.SECOND};
+    
+    private final String suffixPattern;
+    
+    private final int calendarField;
+    
+    private final String valuePattern;
+    
+    public TimeIntervalShardingAlgorithm(final String suffixPattern) {
+        this(suffixPattern, DEFAULT_VALUE_PATTERN);
+    }
+    
+    public TimeIntervalShardingAlgorithm(final String suffixPattern, final String valuePattern) {
+        this.suffixPattern = suffixPattern;
+        calendarField = getCalendarField(suffixPattern);
+        this.valuePattern = valuePattern;
+    }
+    
+    private static int getCalendarField(final String suffixPattern) {
+        int timeUnitCount = 0;
+        while (timeUnitCount < TIME_UNIT_LETTERS.length() && -1 != suffixPattern.indexOf(TIME_UNIT_LETTERS.charAt(timeUnitCount))) {
+            timeUnitCount++;
+        }
+        Preconditions.checkArgument(timeUnitCount > 0, "Cannot find year from suffix pattern `%s`.", suffixPattern);
+        String supportedLetters = TIME_UNIT_LETTERS.substring(0, timeUnitCount);
+        for (char each : suffixPattern.toCharArray()) {
+            Preconditions.checkArgument(-1 != supportedLetters.indexOf(each) || !Character.isLetter(each) && '\'' != each,
+                    "Unsupported character `%s` in suffix pattern `%s`, only consecutive time units of `%s` from year are supported.", each, suffixPattern, TIME_UNIT_LETTERS);
+        }
+        return TIME_UNIT_CALENDAR_FIELDS[timeUnitCount - 1];
+    }
+    
+    @Override
+    protected Optional<Range<Long>> getInterval(final String targetName) {
+        if (targetName.length() < suffixPattern.length()) {
+            return Optional.absent();
+        }
+        String suffix = targetName.substring(targetName.length() - suffixPattern.length());
+        SimpleDateFormat dateFormat = new SimpleDateFormat(suffixPattern);
+        dateFormat.setLenient(false);
+        ParsePosition position = new ParsePosition(0);
+        Date lowerEndpoint = dateFormat.parse(suffix, position);
+        if (null == lowerEndpoint || suffix.length() != position.getIndex()) {
+            return Optional.absent();
+        }
+        Calendar upperEndpoint = Calendar.getInstance();
+        upperEndpoint.setTime(lowerEndpoint);
+        upperEndpoint.add(calendarField, 1);
+        return Optional.of(Range.closedOpen(lowerEndpoint.getTime(), upperEndpoint.getTimeInMillis()));
+    }
+    
+    @Override
+    protected long toLong(final Comparable<?> value) {
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        String text = value.toString().trim();
+        String pattern = text.length() < valuePattern.length() ? valuePattern.substring(0, text.length()) : valuePattern;
+        try {
+            return new SimpleDateFormat(pattern).parse(text).getTime();
+        } catch (final ParseException ex) {
+            throw new ShardingException("Sharding value `%s` should be formatted by `%s`.", value, valuePattern);
+        }
+    }
+}
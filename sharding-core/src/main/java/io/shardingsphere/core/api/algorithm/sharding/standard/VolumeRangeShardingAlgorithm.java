@@ -0,0 +1,52 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.sharding.standard;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+import com.google.common.math.LongMath;
+
+/**
+ * Volume range sharding algorithm.
+ * 
+ * <p>
+ * Every target holds a fixed volume of numeric sharding values, target with numeric suffix {@code n} holds {@code [n * volume, (n + 1) * volume)}.
+ * For example, if volume is {@code 10000}, {@code t_order_0} holds {@code [0, 10000)} and {@code t_order_1} holds {@code [10000, 20000)}.
+ * </p>
+ *
+ * @author agent
+ */
+public class VolumeRangeShardingAlgorithm extends AbstractIntervalShardingAlgorithm {
+    
+    private final long volume;
+    
+    public VolumeRangeShardingAlgorithm(final long volume) {
+        Preconditions.checkArgument(volume > 0, "Volume of range sharding algorithm should be positive.");
+        this.volume = volume;
+    }
+    
+    @Override
+    protected Optional<Range<Long>> getInterval(final String targetName) {
+        Optional<Long> suffix = getNumericSuffix(targetName);
+        if (!suffix.isPresent()) {
+            return Optional.absent();
+        }
+        return Optional.of(Range.closedOpen(LongMath.checkedMultiply(suffix.get(), volume), LongMath.checkedMultiply(LongMath.checkedAdd(suffix.get(), 1L), volume)));
+    }
+}
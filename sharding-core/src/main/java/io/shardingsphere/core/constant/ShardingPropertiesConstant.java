@@ -64,6 +64,27 @@ public enum ShardingPropertiesConstant {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Worker thread queue size.
+     *
+     * <p>
+     * Only works when executor size is not infinite.
+     * If the queue is full, SQL will be executed by the calling thread to throttle the caller.
+     * Default: 0, means infinite.
+     * </p>
+     */
+    EXECUTOR_QUEUE_SIZE("executor.queue.size", String.valueOf(0), int.class),
+    
+    /**
+     * Max concurrent executing SQL size of one data source.
+     *
+     * <p>
+     * Limit the concurrent SQL to each data source, so a slow data source can not occupy all worker threads.
+     * Default: 0, means infinite.
+     * </p>
+     */
+    EXECUTOR_MAX_CONCURRENCY_PER_DATASOURCE("executor.max.concurrency.per.datasource", String.valueOf(0), int.class),
+    
     /**
      * Connection mode of connected to databases.
      *
@@ -81,13 +102,86 @@ public enum ShardingPropertiesConstant {
      */
     CONNECTION_MODE("connection.mode", ConnectionMode.MEMORY_STRICTLY.name(), String.class),
     
+    /**
+     * Max connections size per data source for one query in MEMORY_STRICTLY connection mode.
+     *
+     * <p>
+     * If routed actual tables of a data source are more than this size, they will share these connections and be executed sequentially,
+     * and result sets of this data source will be loaded into memory instead of streaming.
+     * Default: 0, means one connection per actual table.
+     * </p>
+     */
+    MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(0), int.class),
+    
+    /**
+     * Max groups size in memory for merging group by result.
+     *
+     * <p>
+     * If group by result can not be merged by streaming and groups are more than this size, groups will be spilled to local temporary files.
+     * Default: 0, means no limit.
+     * </p>
+     */
+    MAX_GROUPS_SIZE_IN_MEMORY("max.groups.size.in.memory", String.valueOf(0), int.class),
+    
+    /**
+     * Max entry count of parsing result cache.
+     *
+     * <p>
+     * One sharding data source will use an independent parsing result cache.
+     * Least recently used parsing results will be evicted when exceed.
+     * Default: 65535.
+     * </p>
+     */
+    PARSING_RESULT_CACHE_MAX_SIZE("parsing.result.cache.max.size", String.valueOf(65535), long.class),
+    
+    /**
+     * Max weight of parsing result cache.
+     *
+     * <p>
+     * Weight of each parsing result is the length of its SQL, bound memory usage of cache for long SQL.
+     * Use {@code parsing.result.cache.max.size} instead if not positive.
+     * Default: 0.
+     * </p>
+     */
+    PARSING_RESULT_CACHE_MAX_WEIGHT("parsing.result.cache.max.weight", String.valueOf(0), long.class),
+    
     PROXY_TRANSACTION_MODE("proxy.transaction.mode", TransactionType.NONE.name(), String.class),
     
     PROXY_BACKEND_USE_NIO("proxy.backend.use.nio", Boolean.FALSE.toString(), boolean.class),
     
     PROXY_BACKEND_MAX_CONNECTIONS("proxy.backend.max.connections", 8 + "", int.class),
     
-    PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", 60 + "", int.class);
+    PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", 60 + "", int.class),
+    
+    /**
+     * Enable or disable compressed protocol between clients and proxy.
+     *
+     * <p>
+     * Compression is used only if client requests it during handshake.
+     * Default: false.
+     * </p>
+     */
+    PROXY_FRONTEND_COMPRESSION_ENABLED("proxy.frontend.compression.enabled", Boolean.FALSE.toString(), boolean.class),
+    
+    /**
+     * Enable or disable compressed protocol between proxy and backend databases.
+     *
+     * <p>
+     * Only works when {@code proxy.backend.use.nio} is enabled and backend database supports compression.
+     * Default: false.
+     * </p>
+     */
+    PROXY_BACKEND_COMPRESSION_ENABLED("proxy.backend.compression.enabled", Boolean.FALSE.toString(), boolean.class),
+    
+    /**
+     * Min payload length to be compressed in compressed protocol.
+     *
+     * <p>
+     * Payload shorter than this length is sent without compression, because compression costs more than it saves.
+     * Default: 50.
+     * </p>
+     */
+    PROXY_COMPRESSION_THRESHOLD("proxy.compression.threshold", String.valueOf(50), int.class);
     
     private final String key;
     
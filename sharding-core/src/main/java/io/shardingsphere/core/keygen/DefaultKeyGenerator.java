@@ -18,12 +18,16 @@
 package io.shardingsphere.core.keygen;
 
 import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Default distributed primary key generator.
@@ -43,10 +47,15 @@ import java.util.Date;
  * Call @{@code DefaultKeyGenerator.setWorkerId} to set.
  * </p>
  * 
+ * <p>
+ * Keys are reserved by CAS without lock, a batch of keys in same millisecond can be reserved in one CAS.
+ * Clock moving backwards within {@code DefaultKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds} is tolerated by using last time.
+ * </p>
+ * 
  * @author gaohongtao
  */
 @Slf4j
-public final class DefaultKeyGenerator implements KeyGenerator {
+public final class DefaultKeyGenerator implements BatchKeyGenerator {
     
     public static final long EPOCH;
     
@@ -67,6 +76,8 @@ public final class DefaultKeyGenerator implements KeyGenerator {
     
     private static long workerId;
     
+    private static long maxTolerateTimeDifferenceMilliseconds = 10L;
+    
     static {
         Calendar calendar = Calendar.getInstance();
         calendar.set(2016, Calendar.NOVEMBER, 1);
@@ -77,9 +88,7 @@ public final class DefaultKeyGenerator implements KeyGenerator {
         EPOCH = calendar.getTimeInMillis();
     }
     
-    private long sequence;
-    
-    private long lastTime;
+    private final AtomicLong lastTimeAndSequence = new AtomicLong();
     
     /**
      * Set work process id.
@@ -91,27 +100,78 @@ public final class DefaultKeyGenerator implements KeyGenerator {
         DefaultKeyGenerator.workerId = workerId;
     }
     
+    /**
+     * Set max tolerate time difference milliseconds when clock is moving backwards.
+     * 
+     * @param maxTolerateTimeDifferenceMilliseconds max tolerate time difference milliseconds
+     */
+    public static void setMaxTolerateTimeDifferenceMilliseconds(final long maxTolerateTimeDifferenceMilliseconds) {
+        Preconditions.checkArgument(maxTolerateTimeDifferenceMilliseconds >= 0L);
+        DefaultKeyGenerator.maxTolerateTimeDifferenceMilliseconds = maxTolerateTimeDifferenceMilliseconds;
+    }
+    
     /**
      * Generate key.
      * 
      * @return key type is @{@link Long}.
      */
     @Override
-    public synchronized Number generateKey() {
-        long currentMillis = timeService.getCurrentMillis();
-        Preconditions.checkState(lastTime <= currentMillis, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastTime, currentMillis);
-        if (lastTime == currentMillis) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMillis = waitUntilNextTime(currentMillis);
+    public Number generateKey() {
+        return reserve(1).getKey(0);
+    }
+    
+    /**
+     * Generate keys.
+     * 
+     * <p>Keys in same millisecond are continuous.</p>
+     * 
+     * @param count count of keys to be generated
+     * @return keys type are @{@link Long}.
+     */
+    @Override
+    public List<Number> generateKeys(final int count) {
+        Preconditions.checkArgument(count > 0, "Count of keys must be positive.");
+        List<Number> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            KeyBlock keyBlock = reserve(count - result.size());
+            for (int i = 0; i < keyBlock.size; i++) {
+                result.add(keyBlock.getKey(i));
             }
-        } else {
-            sequence = 0;
         }
-        lastTime = currentMillis;
-        if (log.isDebugEnabled()) {
-            log.debug("{}-{}-{}", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date(lastTime)), workerId, sequence);
+        return result;
+    }
+    
+    private KeyBlock reserve(final int count) {
+        while (true) {
+            long lastState = lastTimeAndSequence.get();
+            long lastTime = lastState >>> SEQUENCE_BITS;
+            long currentMillis = getCurrentMillis(lastTime);
+            long firstSequence = 0L;
+            if (lastTime == currentMillis) {
+                firstSequence = (lastState & SEQUENCE_MASK) + 1;
+                if (firstSequence > SEQUENCE_MASK) {
+                    currentMillis = waitUntilNextTime(currentMillis);
+                    firstSequence = 0L;
+                }
+            }
+            long lastSequence = Math.min(SEQUENCE_MASK, firstSequence + count - 1);
+            if (lastTimeAndSequence.compareAndSet(lastState, currentMillis << SEQUENCE_BITS | lastSequence)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("{}-{}-{}~{}", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date(currentMillis)), workerId, firstSequence, lastSequence);
+                }
+                return new KeyBlock(currentMillis, firstSequence, (int) (lastSequence - firstSequence + 1));
+            }
         }
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long getCurrentMillis(final long lastTime) {
+        long result = timeService.getCurrentMillis();
+        if (lastTime <= result) {
+            return result;
+        }
+        Preconditions.checkState(lastTime - result <= maxTolerateTimeDifferenceMilliseconds,
+                "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastTime, result);
+        return lastTime;
     }
     
     private long waitUntilNextTime(final long lastTime) {
@@ -121,4 +181,18 @@ public final class DefaultKeyGenerator implements KeyGenerator {
         }
         return time;
     }
+    
+    @RequiredArgsConstructor
+    private static final class KeyBlock {
+        
+        private final long time;
+        
+        private final long firstSequence;
+        
+        private final int size;
+        
+        private Number getKey(final int index) {
+            return ((time - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | (firstSequence + index);
+        }
+    }
 }
@@ -51,8 +51,24 @@ public final class MergeEngineFactory {
      */
     public static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults,
                                           final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData) throws SQLException {
+        return newInstance(shardingRule, queryResults, sqlStatement, shardingTableMetaData, 0);
+    }
+    
+    /**
+     * Create merge engine instance.
+     *
+     * @param shardingRule sharding rule
+     * @param queryResults query results
+     * @param sqlStatement SQL statement
+     * @param shardingTableMetaData sharding table meta Data
+     * @param maxGroupsSizeInMemory max groups size in memory for group by, spill to disk if exceed, 0 means no limit
+     * @return merge engine instance
+     * @throws SQLException SQL exception
+     */
+    public static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults,
+                                          final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData, final int maxGroupsSizeInMemory) throws SQLException {
         if (sqlStatement instanceof SelectStatement) {
-            return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement);
+            return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement, maxGroupsSizeInMemory);
         } 
         if (sqlStatement instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, (DALStatement) sqlStatement, shardingTableMetaData);
@@ -105,4 +105,11 @@ public interface MergedResult {
      * @throws SQLException SQL Exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Close merged result and release resources held by merging, such as temporary files.
+     * 
+     * <p>Query results which are merged are not closed.</p>
+     */
+    void close();
 }
@@ -76,4 +76,8 @@ public final class ShowDatabasesMergedResult implements MergedResult {
     public boolean wasNull() {
         return false;
     }
+    
+    @Override
+    public void close() {
+    }
 }
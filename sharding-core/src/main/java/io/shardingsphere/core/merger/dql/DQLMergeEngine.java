@@ -50,9 +50,16 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final Map<String, Integer> columnLabelIndexMap;
     
+    private final int maxGroupsSizeInMemory;
+    
     public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(queryResults, selectStatement, 0);
+    }
+    
+    public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement, final int maxGroupsSizeInMemory) throws SQLException {
         this.queryResults = queryResults;
         this.selectStatement = selectStatement;
+        this.maxGroupsSizeInMemory = maxGroupsSizeInMemory;
         columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
     }
     
@@ -75,7 +82,7 @@ public final class DQLMergeEngine implements MergeEngine {
             if (selectStatement.isSameGroupByAndOrderByItems()) {
                 return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement);
             } else {
-                return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+                return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement, maxGroupsSizeInMemory);
             }
         }
         if (!selectStatement.getOrderByItems().isEmpty()) {
@@ -70,4 +70,9 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() {
+        mergedResult.close();
+    }
 }
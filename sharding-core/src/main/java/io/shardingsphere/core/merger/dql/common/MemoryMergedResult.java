@@ -97,4 +97,8 @@ public abstract class MemoryMergedResult implements MergedResult {
     public boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public void close() {
+    }
 }
@@ -20,14 +20,19 @@ package io.shardingsphere.core.merger.dql.common;
 import com.google.common.base.Preconditions;
 import io.shardingsphere.core.merger.QueryResult;
 
+import java.io.Serializable;
 import java.sql.SQLException;
 
 /**
  * Memory query result row.
  * 
+ * <p>Row is serializable for spilling to disk, values of cells should be serializable too.</p>
+ * 
  * @author zhangliang
  */
-public class MemoryQueryResultRow {
+public class MemoryQueryResultRow implements Serializable {
+    
+    private static final long serialVersionUID = 2806318419245423165L;
     
     private final Object[] data;
     
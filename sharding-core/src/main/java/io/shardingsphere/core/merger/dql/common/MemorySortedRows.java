@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Sorted rows held in memory.
+ *
+ * @author agent
+ */
+public final class MemorySortedRows implements SortedRows {
+    
+    private final Iterator<MemoryQueryResultRow> rows;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    public MemorySortedRows(final List<MemoryQueryResultRow> sortedRows) {
+        rows = sortedRows.iterator();
+    }
+    
+    @Override
+    public boolean next() {
+        if (rows.hasNext()) {
+            currentRow = rows.next();
+            return true;
+        }
+        currentRow = null;
+        return false;
+    }
+    
+    @Override
+    public MemoryQueryResultRow getCurrentRow() {
+        return currentRow;
+    }
+    
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * K-way merged sorted rows.
+ *
+ * @author agent
+ */
+public final class MergedSortedRows implements SortedRows {
+    
+    private final Queue<SortedRows> sortedRowsQueue;
+    
+    private SortedRows currentSortedRows;
+    
+    public MergedSortedRows(final Collection<SortedRows> sortedRowsCollection, final Comparator<MemoryQueryResultRow> comparator) throws SQLException {
+        sortedRowsQueue = new PriorityQueue<>(Math.max(1, sortedRowsCollection.size()), new Comparator<SortedRows>() {
+            
+            @Override
+            public int compare(final SortedRows o1, final SortedRows o2) {
+                return comparator.compare(o1.getCurrentRow(), o2.getCurrentRow());
+            }
+        });
+        for (SortedRows each : sortedRowsCollection) {
+            if (each.next()) {
+                sortedRowsQueue.offer(each);
+            }
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != currentSortedRows && currentSortedRows.next()) {
+            sortedRowsQueue.offer(currentSortedRows);
+        }
+        currentSortedRows = sortedRowsQueue.poll();
+        return null != currentSortedRows;
+    }
+    
+    @Override
+    public MemoryQueryResultRow getCurrentRow() {
+        return null == currentSortedRows ? null : currentSortedRows.getCurrentRow();
+    }
+    
+    @Override
+    public void close() {
+        if (null != currentSortedRows) {
+            currentSortedRows.close();
+            currentSortedRows = null;
+        }
+        for (SortedRows each : sortedRowsQueue) {
+            each.close();
+        }
+        sortedRowsQueue.clear();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import io.shardingsphere.core.exception.ShardingException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+/**
+ * Sorted rows spilled to local temporary file.
+ * 
+ * <p>Rows are written when constructing, and read by streaming. Temporary file will be deleted after all rows read or closed.</p>
+ *
+ * @author agent
+ */
+public final class SpilledSortedRows implements SortedRows {
+    
+    private final File file;
+    
+    private int remainRowCount;
+    
+    private ObjectInputStream inputStream;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    public SpilledSortedRows(final List<MemoryQueryResultRow> sortedRows) {
+        remainRowCount = sortedRows.size();
+        file = createTempFile();
+        try {
+            write(sortedRows);
+        } catch (final IOException ex) {
+            file.delete();
+            throw new ShardingException("Can not spill rows to temporary file", ex);
+        }
+    }
+    
+    private File createTempFile() {
+        try {
+            return File.createTempFile("sharding-sphere-merge-", ".spill");
+        } catch (final IOException ex) {
+            throw new ShardingException("Can not create temporary file to spill rows", ex);
+        }
+    }
+    
+    private void write(final List<MemoryQueryResultRow> sortedRows) throws IOException {
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            for (MemoryQueryResultRow each : sortedRows) {
+                outputStream.writeObject(each);
+                outputStream.reset();
+            }
+        }
+    }
+    
+    @Override
+    public boolean next() {
+        if (0 == remainRowCount) {
+            close();
+            return false;
+        }
+        try {
+            if (null == inputStream) {
+                inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+            }
+            currentRow = (MemoryQueryResultRow) inputStream.readObject();
+        } catch (final IOException | ClassNotFoundException ex) {
+            close();
+            throw new ShardingException("Can not read spilled rows from temporary file", ex);
+        }
+        remainRowCount--;
+        if (0 == remainRowCount) {
+            deleteFile();
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() {
+        currentRow = null;
+        remainRowCount = 0;
+        deleteFile();
+    }
+    
+    private void deleteFile() {
+        if (null != inputStream) {
+            try {
+                inputStream.close();
+            } catch (final IOException ignore) {
+            }
+            inputStream = null;
+        }
+        file.delete();
+    }
+    
+    @Override
+    public MemoryQueryResultRow getCurrentRow() {
+        return currentRow;
+    }
+}
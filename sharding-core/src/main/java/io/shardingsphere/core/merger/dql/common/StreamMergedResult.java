@@ -92,4 +92,8 @@ public abstract class StreamMergedResult implements MergedResult {
     public boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public void close() {
+    }
 }
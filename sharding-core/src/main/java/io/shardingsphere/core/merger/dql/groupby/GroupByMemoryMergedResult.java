@@ -17,28 +17,42 @@
 
 package io.shardingsphere.core.merger.dql.groupby;
 
-import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
+import io.shardingsphere.core.constant.OrderDirection;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.common.MemoryMergedResult;
 import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
+import io.shardingsphere.core.merger.dql.common.MemorySortedRows;
+import io.shardingsphere.core.merger.dql.common.MergedSortedRows;
+import io.shardingsphere.core.merger.dql.common.SortedRows;
+import io.shardingsphere.core.merger.dql.common.SpilledSortedRows;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnit;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnitFactory;
+import io.shardingsphere.core.merger.dql.orderby.CompareUtil;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>
+ * If groups are more than max groups size in memory, partially aggregated groups will be sorted by group by values and spilled to temporary files.
+ * Spilled groups are merged and aggregated again by streaming, then sorted by order by items with spilling too.
+ * Aggregation of partially aggregated groups is same as aggregation of rows, because derived count and sum are used for average.
+ * </p>
  *
  * @author zhangliang
  */
@@ -46,90 +60,206 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
     private final SelectStatement selectStatement;
     
-    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    private final int maxGroupsSizeInMemory;
+    
+    private final List<AggregationSelectItem> aggregationSelectItems;
+    
+    private final int[][] aggregationValueIndexes;
+    
+    private final SortedRows sortedRows;
     
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatement, 0);
+    }
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap,
+                                     final List<QueryResult> queryResults, final SelectStatement selectStatement, final int maxGroupsSizeInMemory) throws SQLException {
         super(labelAndIndexMap);
         this.selectStatement = selectStatement;
-        memoryResultSetRows = init(queryResults);
+        this.maxGroupsSizeInMemory = maxGroupsSizeInMemory;
+        aggregationSelectItems = selectStatement.getAggregationSelectItems();
+        aggregationValueIndexes = getAggregationValueIndexes();
+        sortedRows = init(queryResults);
+    }
+    
+    private int[][] getAggregationValueIndexes() {
+        int[][] result = new int[aggregationSelectItems.size()][];
+        int count = 0;
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            if (each.getDerivedAggregationSelectItems().isEmpty()) {
+                result[count++] = new int[] {each.getIndex()};
+                continue;
+            }
+            int[] indexes = new int[each.getDerivedAggregationSelectItems().size()];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = each.getDerivedAggregationSelectItems().get(i).getIndex();
+            }
+            result[count++] = indexes;
+        }
+        return result;
     }
     
-    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
-        for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
+    private SortedRows init(final List<QueryResult> queryResults) throws SQLException {
+        Map<GroupByValue, AggregatedGroup> groups = new HashMap<>(1024);
+        Collection<SortedRows> spilledGroups = new LinkedList<>();
+        try {
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
+                    AggregatedGroup group = groups.get(groupByValue);
+                    if (null == group) {
+                        group = new AggregatedGroup(new MemoryQueryResultRow(each), createAggregationUnits());
+                        groups.put(groupByValue, group);
+                    }
+                    aggregate(each, group.getAggregationUnits());
+                    if (isMemoryExceeded(groups.size())) {
+                        spilledGroups.add(new SpilledSortedRows(getSortedRows(groups.values(), getGroupByValueComparator())));
+                        groups.clear();
+                    }
+                }
             }
+        } catch (final SQLException | RuntimeException ex) {
+            for (SortedRows each : spilledGroups) {
+                each.close();
+            }
+            throw ex;
         }
-        setAggregationValueToMemoryRow(dataMap, aggregationMap);
-        List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap);
-        if (!result.isEmpty()) {
-            setCurrentResultSetRow(result.get(0));
+        if (spilledGroups.isEmpty()) {
+            return new MemorySortedRows(getSortedRows(groups.values(), new GroupByRowComparator(selectStatement)));
         }
-        return result.iterator();
+        spilledGroups.add(new MemorySortedRows(getSortedRows(groups.values(), getGroupByValueComparator())));
+        groups.clear();
+        return reaggregate(new MergedSortedRows(spilledGroups, getGroupByValueComparator()));
+    }
+    
+    private boolean isMemoryExceeded(final int groupsSize) {
+        return maxGroupsSizeInMemory > 0 && groupsSize >= maxGroupsSizeInMemory;
     }
     
-    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationSelectItems.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationSelectItems.get(i).getType());
         }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationSelectItem, AggregationUnit> map = Maps.toMap(selectStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
-                
-                @Override
-                public AggregationUnit apply(final AggregationSelectItem input) {
-                    return AggregationUnitFactory.create(input.getType());
-                }
-            });
-            aggregationMap.put(groupByValue, map);
+        return result;
+    }
+    
+    private void aggregate(final QueryResult queryResult, final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            List<Comparable<?>> values = new ArrayList<>(aggregationValueIndexes[i].length);
+            for (int each : aggregationValueIndexes[i]) {
+                values.add(getAggregationValue(queryResult.getValue(each, Object.class)));
+            }
+            aggregationUnits[i].merge(values);
         }
     }
     
-    private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationSelectItem derived : each.getDerivedAggregationSelectItems()) {
-                    values.add(getAggregationValue(queryResult, derived));
-                }
+    private void aggregate(final MemoryQueryResultRow row, final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            List<Comparable<?>> values = new ArrayList<>(aggregationValueIndexes[i].length);
+            for (int each : aggregationValueIndexes[i]) {
+                values.add(getAggregationValue(row.getCell(each)));
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnits[i].merge(values);
         }
     }
     
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationSelectItem aggregationSelectItem) throws SQLException {
-        Object result = queryResult.getValue(aggregationSelectItem.getIndex(), Object.class);
-        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
-        return (Comparable<?>) result;
+    private Comparable<?> getAggregationValue(final Object value) {
+        Preconditions.checkState(null == value || value instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) value;
+    }
+    
+    private List<MemoryQueryResultRow> getSortedRows(final Collection<AggregatedGroup> groups, final Comparator<MemoryQueryResultRow> comparator) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(groups.size());
+        for (AggregatedGroup each : groups) {
+            result.add(getAggregatedRow(each.getRow(), each.getAggregationUnits()));
+        }
+        Collections.sort(result, comparator);
+        return result;
     }
     
-    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    private MemoryQueryResultRow getAggregatedRow(final MemoryQueryResultRow row, final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            row.setCell(aggregationSelectItems.get(i).getIndex(), aggregationUnits[i].getResult());
+        }
+        return row;
+    }
+    
+    private SortedRows reaggregate(final SortedRows partiallyAggregatedRows) throws SQLException {
+        Comparator<MemoryQueryResultRow> groupByValueComparator = getGroupByValueComparator();
+        Comparator<MemoryQueryResultRow> groupByRowComparator = new GroupByRowComparator(selectStatement);
+        Collection<SortedRows> spilledRows = new LinkedList<>();
+        List<MemoryQueryResultRow> rows = new ArrayList<>();
+        MemoryQueryResultRow currentRow = null;
+        AggregationUnit[] aggregationUnits = null;
+        while (partiallyAggregatedRows.next()) {
+            MemoryQueryResultRow partiallyAggregatedRow = partiallyAggregatedRows.getCurrentRow();
+            if (null == currentRow || 0 != groupByValueComparator.compare(currentRow, partiallyAggregatedRow)) {
+                if (null != currentRow) {
+                    rows.add(getAggregatedRow(currentRow, aggregationUnits));
+                }
+                if (isMemoryExceeded(rows.size())) {
+                    Collections.sort(rows, groupByRowComparator);
+                    spilledRows.add(new SpilledSortedRows(rows));
+                    rows = new ArrayList<>();
+                }
+                currentRow = partiallyAggregatedRow;
+                aggregationUnits = createAggregationUnits();
             }
+            aggregate(partiallyAggregatedRow, aggregationUnits);
+        }
+        if (null != currentRow) {
+            rows.add(getAggregatedRow(currentRow, aggregationUnits));
         }
+        Collections.sort(rows, groupByRowComparator);
+        spilledRows.add(new MemorySortedRows(rows));
+        return new MergedSortedRows(spilledRows, groupByRowComparator);
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap) {
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        Collections.sort(result, new GroupByRowComparator(selectStatement));
-        return result;
+    private Comparator<MemoryQueryResultRow> getGroupByValueComparator() {
+        return new Comparator<MemoryQueryResultRow>() {
+            
+            @Override
+            public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+                for (OrderItem each : selectStatement.getGroupByItems()) {
+                    int result = CompareUtil.compareTo(
+                            getGroupByValue(o1, each), getGroupByValue(o2, each), OrderDirection.ASC, OrderDirection.ASC);
+                    if (0 != result) {
+                        return result;
+                    }
+                }
+                return 0;
+            }
+        };
+    }
+    
+    private Comparable<?> getGroupByValue(final MemoryQueryResultRow row, final OrderItem groupByItem) {
+        Object result = row.getCell(groupByItem.getIndex());
+        Preconditions.checkState(null == result || result instanceof Comparable, "Group by value must implements Comparable");
+        return (Comparable<?>) result;
     }
     
     @Override
-    public boolean next() {
-        if (memoryResultSetRows.hasNext()) {
-            setCurrentResultSetRow(memoryResultSetRows.next());
+    public boolean next() throws SQLException {
+        if (sortedRows.next()) {
+            setCurrentResultSetRow(sortedRows.getCurrentRow());
             return true;
         }
         return false;
     }
+    
+    @Override
+    public void close() {
+        sortedRows.close();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class AggregatedGroup {
+        
+        private final MemoryQueryResultRow row;
+        
+        private final AggregationUnit[] aggregationUnits;
+    }
 }
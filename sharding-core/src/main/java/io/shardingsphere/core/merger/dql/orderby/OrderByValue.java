@@ -21,11 +21,8 @@ import com.google.common.base.Preconditions;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -33,43 +30,50 @@ import java.util.List;
  * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class OrderByValue implements Comparable<OrderByValue> {
     
     @Getter
     private final QueryResult queryResult;
     
-    private final List<OrderItem> orderByItems;
+    private final OrderItem[] orderByItems;
     
-    private List<Comparable<?>> orderValues;
+    private final Comparable<?>[] orderValues;
+    
+    public OrderByValue(final QueryResult queryResult, final List<OrderItem> orderByItems) {
+        this.queryResult = queryResult;
+        this.orderByItems = orderByItems.toArray(new OrderItem[orderByItems.size()]);
+        orderValues = new Comparable<?>[orderByItems.size()];
+    }
     
     /**
      * iterate next data.
+     * 
+     * <p>Order values are reused by every row, so no allocation for each row.</p>
      *
      * @return has next data
      * @throws SQLException SQL Exception
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        if (result) {
+            fillOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void fillOrderValues() throws SQLException {
+        for (int i = 0; i < orderByItems.length; i++) {
+            Object value = queryResult.getValue(orderByItems[i].getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        for (int i = 0; i < orderByItems.size(); i++) {
-            OrderItem thisOrderBy = orderByItems.get(i);
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), thisOrderBy.getOrderDirection(), thisOrderBy.getNullOrderDirection());
+        for (int i = 0; i < orderByItems.length; i++) {
+            OrderItem thisOrderBy = orderByItems[i];
+            int result = CompareUtil.compareTo(orderValues[i], o.orderValues[i], thisOrderBy.getOrderDirection(), thisOrderBy.getNullOrderDirection());
             if (0 != result) {
                 return result;
             }
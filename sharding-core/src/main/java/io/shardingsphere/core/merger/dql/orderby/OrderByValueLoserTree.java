@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>
+ * Tournament tree for k-way merge, every internal node keeps the loser of its sub tree and root keeps the overall winner.
+ * Advance winner only replays the path from its leaf to root, which needs log(k) comparisons.
+ * Exhausted order by value always loses.
+ * </p>
+ *
+ * @author agent
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        losers = new int[this.orderByValues.length];
+        winner = build();
+    }
+    
+    private int build() {
+        int size = orderByValues.length;
+        if (0 == size) {
+            return -1;
+        }
+        int[] winners = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            winners[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                losers[node] = right;
+            } else {
+                winners[node] = right;
+                losers[node] = left;
+            }
+        }
+        return 1 == size ? 0 : winners[1];
+    }
+    
+    /**
+     * Judge all order by values are exhausted or not.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return -1 == winner || null == orderByValues[winner];
+    }
+    
+    /**
+     * Get winner.
+     *
+     * @return order by value which is the first in order
+     */
+    public OrderByValue getWinner() {
+        return orderByValues[winner];
+    }
+    
+    /**
+     * Iterate winner to next data and replay the tournament.
+     *
+     * @return has next data
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (isEmpty()) {
+            return false;
+        }
+        if (!orderByValues[winner].next()) {
+            orderByValues[winner] = null;
+        }
+        int current = winner;
+        for (int node = (winner + orderByValues.length) / 2; node > 0; node /= 2) {
+            if (beats(losers[node], current)) {
+                int swap = losers[node];
+                losers[node] = current;
+                current = swap;
+            }
+        }
+        winner = current;
+        return !isEmpty();
+    }
+    
+    private boolean beats(final int index, final int otherIndex) {
+        if (null == orderByValues[index]) {
+            return false;
+        }
+        if (null == orderByValues[otherIndex]) {
+            return true;
+        }
+        int result = orderByValues[index].compareTo(orderByValues[otherIndex]);
+        return result < 0 || 0 == result && index < otherIndex;
+    }
+}
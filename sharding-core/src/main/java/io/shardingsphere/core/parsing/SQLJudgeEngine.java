@@ -45,6 +45,8 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * SQL judge engine.
+ * 
+ * <p>SQL is lexed by lexer of database type, MySQL lexer is used if database type is not specified.</p>
  *
  * @author zhangliang
  * @author panjuan
@@ -52,15 +54,21 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public final class SQLJudgeEngine {
     
+    private final DatabaseType databaseType;
+    
     private final String sql;
     
+    public SQLJudgeEngine(final String sql) {
+        this(DatabaseType.MySQL, sql);
+    }
+    
     /**
      * Judge SQL type only.
      *
      * @return SQL statement
      */
     public SQLStatement judge() {
-        LexerEngine lexerEngine = LexerEngineFactory.newInstance(DatabaseType.MySQL, sql);
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
         lexerEngine.nextToken();
         while (true) {
             TokenType tokenType = lexerEngine.getCurrentToken().getType();
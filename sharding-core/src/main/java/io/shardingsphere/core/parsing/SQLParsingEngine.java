@@ -44,9 +44,17 @@ public final class SQLParsingEngine {
     
     private final ShardingTableMetaData shardingTableMetaData;
     
+    private final ParsingResultCache parsingResultCache;
+    
+    public SQLParsingEngine(final DatabaseType dbType, final String sql, final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData) {
+        this(dbType, sql, shardingRule, shardingTableMetaData, null);
+    }
+    
     /**
      * Parse SQL.
      * 
+     * <p>Parsing result cache will be skipped if absent.</p>
+     * 
      * @param useCache use cache or not
      * @return parsed SQL statement
      */
@@ -58,13 +66,13 @@ public final class SQLParsingEngine {
         LexerEngine lexerEngine = LexerEngineFactory.newInstance(dbType, sql);
         lexerEngine.nextToken();
         SQLStatement result = SQLParserFactory.newInstance(dbType, lexerEngine.getCurrentToken().getType(), shardingRule, lexerEngine, shardingTableMetaData).parse();
-        if (useCache) {
-            ParsingResultCache.getInstance().put(sql, result);
+        if (useCache && null != parsingResultCache) {
+            parsingResultCache.put(sql, result);
         }
         return result;
     }
     
     private Optional<SQLStatement> getSQLStatementFromCache(final boolean useCache) {
-        return useCache ? Optional.fromNullable(ParsingResultCache.getInstance().getSQLStatement(sql)) : Optional.<SQLStatement>absent();
+        return useCache && null != parsingResultCache ? Optional.fromNullable(parsingResultCache.getSQLStatement(sql)) : Optional.<SQLStatement>absent();
     }
 }
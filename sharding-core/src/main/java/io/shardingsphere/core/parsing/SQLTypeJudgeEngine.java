@@ -0,0 +1,214 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.parsing.lexer.analyzer.CharType;
+import io.shardingsphere.core.parsing.lexer.dialect.mysql.MySQLKeyword;
+import io.shardingsphere.core.parsing.lexer.dialect.postgresql.PostgreSQLKeyword;
+import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.lexer.token.Keyword;
+import lombok.RequiredArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * SQL type judge engine.
+ * 
+ * <p>
+ * Judge SQL type by the leading keywords of SQL without lexer, comments and hints are skipped.
+ * Comments and keywords follow the rules of database type, such as {@code #} comment and {@code DESCRIBE} for MySQL only.
+ * SQL which can not be judged by leading keywords is delegated to {@code SQLJudgeEngine} with lexer of same database type.
+ * Judged SQL types are cached for each database type, because SQL type depends on SQL text and database type only.
+ * Cache is bounded by total length of cached SQL rather than configurable, because judging by leading keywords is cheap on cache miss.
+ * The cache only saves fallback lexing and repeated scanning of hot SQL, long SQL such as batch insert is weighed by its length and evicted first.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class SQLTypeJudgeEngine {
+    
+    private static final long CACHE_MAXIMUM_WEIGHT = 256 * 1024;
+    
+    private static final Map<DatabaseType, Cache<String, SQLType>> CACHES = new EnumMap<>(DatabaseType.class);
+    
+    private static final Keyword[] DQL_PREFIX = {DefaultKeyword.SELECT};
+    
+    private static final Keyword[] DML_PREFIX = {DefaultKeyword.INSERT, DefaultKeyword.UPDATE, DefaultKeyword.DELETE};
+    
+    private static final Keyword[] TCL_PREFIX = {DefaultKeyword.SET, DefaultKeyword.COMMIT, DefaultKeyword.ROLLBACK, DefaultKeyword.SAVEPOINT, DefaultKeyword.BEGIN};
+    
+    private static final Keyword[] DAL_PREFIX = {DefaultKeyword.USE, DefaultKeyword.DESC};
+    
+    private static final Keyword[] MYSQL_DAL_PREFIX = {DefaultKeyword.USE, DefaultKeyword.DESC, MySQLKeyword.DESCRIBE, MySQLKeyword.SHOW};
+    
+    private static final Keyword[] POSTGRESQL_DAL_PREFIX = {DefaultKeyword.USE, DefaultKeyword.DESC, PostgreSQLKeyword.SHOW};
+    
+    private static final Keyword[] DCL_PREFIX = {DefaultKeyword.GRANT, DefaultKeyword.REVOKE, DefaultKeyword.DENY};
+    
+    private static final Keyword[] DDL_PRIMARY_PREFIX = {DefaultKeyword.CREATE, DefaultKeyword.ALTER, DefaultKeyword.DROP, DefaultKeyword.TRUNCATE};
+    
+    private static final Keyword[] DCL_SECONDARY_PREFIX = {DefaultKeyword.LOGIN, DefaultKeyword.USER, DefaultKeyword.ROLE};
+    
+    static {
+        for (DatabaseType each : DatabaseType.values()) {
+            CACHES.put(each, createCache());
+        }
+    }
+    
+    private final DatabaseType databaseType;
+    
+    private final String sql;
+    
+    private int offset;
+    
+    private static Cache<String, SQLType> createCache() {
+        return CacheBuilder.newBuilder().maximumWeight(CACHE_MAXIMUM_WEIGHT).weigher(new Weigher<String, SQLType>() {
+            
+            @Override
+            public int weigh(final String sql, final SQLType sqlType) {
+                return sql.length();
+            }
+        }).build();
+    }
+    
+    /**
+     * Judge SQL type.
+     *
+     * @return SQL type
+     */
+    public SQLType judge() {
+        Cache<String, SQLType> cache = CACHES.get(databaseType);
+        SQLType result = cache.getIfPresent(sql);
+        if (null == result) {
+            result = judgeByLeadingKeywords();
+            if (null == result) {
+                result = new SQLJudgeEngine(databaseType, sql).judge().getType();
+            }
+            cache.put(sql, result);
+        }
+        return result;
+    }
+    
+    private SQLType judgeByLeadingKeywords() {
+        int length = nextWordLength();
+        if (matches(DQL_PREFIX, length)) {
+            return SQLType.DQL;
+        }
+        if (matches(DML_PREFIX, length)) {
+            return SQLType.DML;
+        }
+        if (matches(TCL_PREFIX, length)) {
+            return SQLType.TCL;
+        }
+        if (matches(getDALPrefix(), length)) {
+            return SQLType.DAL;
+        }
+        if (matches(DCL_PREFIX, length)) {
+            return SQLType.DCL;
+        }
+        if (matches(DDL_PRIMARY_PREFIX, length)) {
+            boolean isTruncate = matches(DefaultKeyword.TRUNCATE, length);
+            offset += length;
+            if (matches(DCL_SECONDARY_PREFIX, nextWordLength())) {
+                return isTruncate ? null : SQLType.DCL;
+            }
+            return SQLType.DDL;
+        }
+        return null;
+    }
+    
+    private Keyword[] getDALPrefix() {
+        switch (databaseType) {
+            case MySQL:
+                return MYSQL_DAL_PREFIX;
+            case PostgreSQL:
+                return POSTGRESQL_DAL_PREFIX;
+            default:
+                return DAL_PREFIX;
+        }
+    }
+    
+    private int nextWordLength() {
+        skipIgnoredChars();
+        int result = 0;
+        while (isWordChar(charAt(offset + result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private void skipIgnoredChars() {
+        while (true) {
+            while (CharType.isWhitespace(charAt(offset))) {
+                offset++;
+            }
+            char current = charAt(offset);
+            char next = charAt(offset + 1);
+            if ('-' == current && '-' == next || '/' == current && '/' == next || '#' == current && DatabaseType.MySQL == databaseType) {
+                skipSingleLineComment();
+            } else if ('/' == current && '*' == next) {
+                skipMultipleLineComment();
+            } else {
+                return;
+            }
+        }
+    }
+    
+    private void skipSingleLineComment() {
+        while (!CharType.isEndOfInput(charAt(offset)) && '\n' != charAt(offset)) {
+            offset++;
+        }
+    }
+    
+    private void skipMultipleLineComment() {
+        offset += 2;
+        while (!CharType.isEndOfInput(charAt(offset)) && !('*' == charAt(offset) && '/' == charAt(offset + 1))) {
+            offset++;
+        }
+        offset += 2;
+    }
+    
+    private boolean isWordChar(final char ch) {
+        return CharType.isAlphabet(ch) || CharType.isDigital(ch) || '_' == ch || '$' == ch || '#' == ch;
+    }
+    
+    private boolean matches(final Keyword[] keywords, final int length) {
+        for (Keyword each : keywords) {
+            if (matches(each, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean matches(final Keyword keyword, final int length) {
+        String literals = keyword.toString();
+        return literals.length() == length && sql.regionMatches(true, offset, literals, 0, length);
+    }
+    
+    private char charAt(final int index) {
+        return index >= sql.length() ? (char) CharType.EOI : sql.charAt(index);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Strings;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.lexer.LexerEngine;
+import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.lexer.token.Keyword;
+import io.shardingsphere.core.parsing.lexer.token.Literals;
+import io.shardingsphere.core.parsing.lexer.token.Symbol;
+import io.shardingsphere.core.parsing.lexer.token.TokenType;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.DQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.core.util.SQLUtil;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Unsharded SQL judge engine.
+ * 
+ * <p>
+ * Judge DQL or DML which does not reference any sharding table by lexer only, this kind of SQL can be routed to default data source without parsing.
+ * Every identifier of SQL is regarded as possible table name, so SQL is never judged as unsharded if any identifier is same with logic or actual table name of table rules.
+ * SQL type is judged by the first keyword in the same pass of dialect lexer, lexing stops as soon as the first keyword is neither DQL nor DML.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class UnshardedSQLJudgeEngine {
+    
+    private final DatabaseType databaseType;
+    
+    private final String sql;
+    
+    private final ShardingRule shardingRule;
+    
+    private int parametersIndex;
+    
+    /**
+     * Judge SQL is unsharded or not.
+     *
+     * @return SQL statement with SQL type and parameters count only if SQL is unsharded, otherwise absent
+     */
+    public Optional<SQLStatement> judge() {
+        if (Strings.isNullOrEmpty(shardingRule.getShardingDataSourceNames().getDefaultDataSourceName())) {
+            return Optional.absent();
+        }
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
+        TokenType statementTokenType = null;
+        boolean containsIdentifier = false;
+        lexerEngine.nextToken();
+        while (!lexerEngine.isEnd()) {
+            TokenType tokenType = lexerEngine.getCurrentToken().getType();
+            if (null == statementTokenType && tokenType instanceof Keyword) {
+                if (!DQLStatement.isDQL(tokenType) && !DMLStatement.isDML(tokenType)) {
+                    return Optional.absent();
+                }
+                statementTokenType = tokenType;
+            }
+            if (Symbol.QUESTION == tokenType) {
+                parametersIndex++;
+            }
+            if (Literals.IDENTIFIER == tokenType || tokenType instanceof Keyword) {
+                if (isShardingTable(SQLUtil.getExactlyValue(lexerEngine.getCurrentToken().getLiterals()))) {
+                    return Optional.absent();
+                }
+                containsIdentifier = containsIdentifier || Literals.IDENTIFIER == tokenType;
+            }
+            lexerEngine.nextToken();
+        }
+        if (null == statementTokenType || !containsIdentifier) {
+            return Optional.absent();
+        }
+        SQLStatement result = createSQLStatement(statementTokenType);
+        result.setParametersIndex(parametersIndex);
+        return Optional.of(result);
+    }
+    
+    private SQLStatement createSQLStatement(final TokenType statementTokenType) {
+        if (DQLStatement.isDQL(statementTokenType)) {
+            return new SelectStatement();
+        }
+        return DefaultKeyword.INSERT == statementTokenType ? new InsertStatement() : new DMLStatement();
+    }
+    
+    private boolean isShardingTable(final String name) {
+        return shardingRule.tryFindTableRuleByLogicTable(name).isPresent() || shardingRule.tryFindTableRuleByActualTable(name).isPresent();
+    }
+}
@@ -17,37 +17,60 @@
 
 package io.shardingsphere.core.parsing.cache;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
-
-import java.util.Map;
-import java.util.WeakHashMap;
+import io.shardingsphere.core.routing.router.sharding.RoutePlanCache;
+import lombok.Getter;
 
 /**
  * Parsing result cache.
  *
+ * <p>
+ * Cache is bounded by entry count or by weight (length of SQL), evict the least recently used entries when exceed.
+ * One sharding data source should hold an independent instance.
+ * Route plans of cached SQL are kept in a companion cache with same bounds, and cleared together with parsing results.
+ * Unsharded SQL judged by lexer only are kept in another companion cache, so they are neither lexed again nor confused with parsing results.
+ * </p>
+ *
  * @author zhangliang
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
 public final class ParsingResultCache {
     
-    private static final ParsingResultCache INSTANCE = new ParsingResultCache();
+    private final Cache<String, SQLStatement> cache;
     
-    private final Map<String, SQLStatement> cache = new WeakHashMap<>(65535, 1);
+    private final Cache<String, SQLStatement> unshardedCache;
+    
+    @Getter
+    private final RoutePlanCache routePlanCache;
     
     /**
-     * Get parsing result cache instance.
-     * 
-     * @return parsing result cache instance
+     * Constructs parsing result cache.
+     *
+     * @param maximumSize maximum entry count of cache
+     * @param maximumWeight maximum weight of cache, weight is the length of SQL, use {@code maximumSize} if not positive
      */
-    public static ParsingResultCache getInstance() {
-        return INSTANCE;
+    public ParsingResultCache(final long maximumSize, final long maximumWeight) {
+        cache = maximumWeight > 0 ? createWeightedCache(maximumWeight) : CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().<String, SQLStatement>build();
+        unshardedCache = maximumWeight > 0 ? createWeightedCache(maximumWeight) : CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().<String, SQLStatement>build();
+        routePlanCache = new RoutePlanCache(maximumSize, maximumWeight);
+    }
+    
+    private Cache<String, SQLStatement> createWeightedCache(final long maximumWeight) {
+        return CacheBuilder.newBuilder().maximumWeight(maximumWeight).weigher(new Weigher<String, SQLStatement>() {
+            
+            @Override
+            public int weigh(final String sql, final SQLStatement sqlStatement) {
+                return sql.length();
+            }
+        }).recordStats().build();
     }
     
     /**
      * Put SQL and parsing result into cache.
-     * 
+     *
      * @param sql SQL
      * @param sqlStatement SQL statement
      */
@@ -62,13 +85,53 @@ public final class ParsingResultCache {
      * @return SQL statement
      */
     public SQLStatement getSQLStatement(final String sql) {
-        return cache.get(sql);
+        return cache.getIfPresent(sql);
+    }
+    
+    /**
+     * Put unsharded SQL and its SQL statement judged by lexer into cache.
+     *
+     * @param sql SQL
+     * @param sqlStatement SQL statement with SQL type and parameters count only
+     */
+    public void putUnsharded(final String sql, final SQLStatement sqlStatement) {
+        unshardedCache.put(sql, sqlStatement);
+    }
+    
+    /**
+     * Get SQL statement of unsharded SQL.
+     *
+     * @param sql SQL
+     * @return SQL statement of unsharded SQL, null if SQL is not judged as unsharded or evicted
+     */
+    public SQLStatement getUnshardedSQLStatement(final String sql) {
+        return unshardedCache.getIfPresent(sql);
+    }
+    
+    /**
+     * Get cached entry count.
+     *
+     * @return cached entry count
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Get statistics of hit, miss and eviction.
+     *
+     * @return statistics of cache
+     */
+    public CacheStats getStats() {
+        return cache.stats();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
+        unshardedCache.invalidateAll();
+        routePlanCache.clear();
     }
 }
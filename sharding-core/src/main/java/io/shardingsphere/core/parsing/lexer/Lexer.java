@@ -24,45 +24,48 @@ import io.shardingsphere.core.parsing.lexer.token.Assist;
 import io.shardingsphere.core.parsing.lexer.token.Token;
 import io.shardingsphere.core.parsing.parser.exception.SQLParsingException;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Lexical analysis.
  * 
  * @author zhangliang 
  */
-@RequiredArgsConstructor
 public class Lexer {
     
     @Getter
     private final String input;
     
-    private final Dictionary dictionary;
+    private final Tokenizer tokenizer;
     
     private int offset;
     
     @Getter
     private Token currentToken;
     
+    public Lexer(final String input, final Dictionary dictionary) {
+        this.input = input;
+        tokenizer = new Tokenizer(input, dictionary, 0);
+    }
+    
     /**
      * Analyse next token.
      */
     public final void nextToken() {
         skipIgnoredToken();
         if (isVariableBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanVariable();
+            currentToken = tokenizer.moveTo(offset).scanVariable();
         } else if (isNCharBegin()) {
-            currentToken = new Tokenizer(input, dictionary, ++offset).scanChars();
+            currentToken = tokenizer.moveTo(++offset).scanChars();
         } else if (isIdentifierBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanIdentifier();
+            currentToken = tokenizer.moveTo(offset).scanIdentifier();
         } else if (isHexDecimalBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanHexDecimal();
+            currentToken = tokenizer.moveTo(offset).scanHexDecimal();
         } else if (isNumberBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanNumber();
+            currentToken = tokenizer.moveTo(offset).scanNumber();
         } else if (isSymbolBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanSymbol();
+            currentToken = tokenizer.moveTo(offset).scanSymbol();
         } else if (isCharsBegin()) {
-            currentToken = new Tokenizer(input, dictionary, offset).scanChars();
+            currentToken = tokenizer.moveTo(offset).scanChars();
         } else if (isEnd()) {
             currentToken = new Token(Assist.END, "", offset);
         } else {
@@ -72,14 +75,14 @@ public class Lexer {
     }
     
     private void skipIgnoredToken() {
-        offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+        offset = tokenizer.moveTo(offset).skipWhitespace();
         while (isHintBegin()) {
-            offset = new Tokenizer(input, dictionary, offset).skipHint();
-            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+            offset = tokenizer.moveTo(offset).skipHint();
+            offset = tokenizer.moveTo(offset).skipWhitespace();
         }
         while (isCommentBegin()) {
-            offset = new Tokenizer(input, dictionary, offset).skipComment();
-            offset = new Tokenizer(input, dictionary, offset).skipWhitespace();
+            offset = tokenizer.moveTo(offset).skipComment();
+            offset = tokenizer.moveTo(offset).skipWhitespace();
         }
     }
     
@@ -21,17 +21,18 @@ import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
 import io.shardingsphere.core.parsing.lexer.token.Keyword;
 import io.shardingsphere.core.parsing.lexer.token.TokenType;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Token dictionary.
+ * 
+ * <p>
+ * Keywords are stored in a case insensitive trie, so that keyword can be recognized from the slice of SQL directly, without creating upper case string.
+ * </p>
  *
  * @author zhangliang
  */
 public final class Dictionary {
     
-    private final Map<String, Keyword> tokens = new HashMap<>(1024);
+    private final KeywordNode root = new KeywordNode();
     
     public Dictionary(final Keyword... dialectKeywords) {
         fill(dialectKeywords);
@@ -39,23 +40,73 @@ public final class Dictionary {
     
     private void fill(final Keyword... dialectKeywords) {
         for (DefaultKeyword each : DefaultKeyword.values()) {
-            tokens.put(each.name(), each);
+            put(each.name(), each);
         }
         for (Keyword each : dialectKeywords) {
-            tokens.put(each.toString(), each);
+            put(each.toString(), each);
+        }
+    }
+    
+    private void put(final String literals, final Keyword keyword) {
+        KeywordNode node = root;
+        for (int i = 0; i < literals.length(); i++) {
+            node = node.getOrCreateChild(toUpperCase(literals.charAt(i)));
         }
+        node.keyword = keyword;
     }
     
-    TokenType findTokenType(final String literals, final TokenType defaultTokenType) {
-        String key = null == literals ? null : literals.toUpperCase();
-        return tokens.containsKey(key) ? tokens.get(key) : defaultTokenType;
+    TokenType findTokenType(final String input, final int offset, final int length, final TokenType defaultTokenType) {
+        Keyword result = find(input, offset, length);
+        return null == result ? defaultTokenType : result;
     }
     
-    TokenType findTokenType(final String literals) {
-        String key = null == literals ? null : literals.toUpperCase();
-        if (tokens.containsKey(key)) {
-            return tokens.get(key);
+    private Keyword find(final String input, final int offset, final int length) {
+        KeywordNode node = root;
+        for (int i = offset; i < offset + length; i++) {
+            node = node.findChild(toUpperCase(input.charAt(i)));
+            if (null == node) {
+                return null;
+            }
+        }
+        return node.keyword;
+    }
+    
+    private static char toUpperCase(final char ch) {
+        return ch >= 'a' && ch <= 'z' ? (char) (ch - 'a' + 'A') : Character.toUpperCase(ch);
+    }
+    
+    private static final class KeywordNode {
+        
+        private char[] chars = new char[0];
+        
+        private KeywordNode[] children = new KeywordNode[0];
+        
+        private Keyword keyword;
+        
+        private KeywordNode findChild(final char ch) {
+            for (int i = 0; i < chars.length; i++) {
+                if (ch == chars[i]) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+        
+        private KeywordNode getOrCreateChild(final char ch) {
+            KeywordNode result = findChild(ch);
+            if (null != result) {
+                return result;
+            }
+            result = new KeywordNode();
+            char[] newChars = new char[chars.length + 1];
+            System.arraycopy(chars, 0, newChars, 0, chars.length);
+            newChars[chars.length] = ch;
+            KeywordNode[] newChildren = new KeywordNode[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, children.length);
+            newChildren[children.length] = result;
+            chars = newChars;
+            children = newChildren;
+            return result;
         }
-        throw new IllegalArgumentException();
     }
 }
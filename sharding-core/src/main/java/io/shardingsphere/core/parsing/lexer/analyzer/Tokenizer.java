@@ -22,14 +22,14 @@ import io.shardingsphere.core.parsing.lexer.token.Literals;
 import io.shardingsphere.core.parsing.lexer.token.Symbol;
 import io.shardingsphere.core.parsing.lexer.token.Token;
 import io.shardingsphere.core.parsing.lexer.token.TokenType;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Tokenizer.
  *
+ * <p>Tokenizer can be moved to other offset of same input and reused.</p>
+ *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class Tokenizer {
     
     private static final int MYSQL_SPECIAL_COMMENT_BEGIN_SYMBOL_LENGTH = 1;
@@ -42,11 +42,38 @@ public final class Tokenizer {
     
     private static final int HEX_BEGIN_SYMBOL_LENGTH = 2;
     
+    private static final int MAX_SYMBOL_LENGTH = getMaxSymbolLength();
+    
     private final String input;
     
     private final Dictionary dictionary;
     
-    private final int offset;
+    private int offset;
+    
+    private static int getMaxSymbolLength() {
+        int result = 0;
+        for (Symbol each : Symbol.values()) {
+            result = Math.max(result, each.getLiterals().length());
+        }
+        return result;
+    }
+    
+    public Tokenizer(final String input, final Dictionary dictionary, final int offset) {
+        this.input = input;
+        this.dictionary = dictionary;
+        this.offset = offset;
+    }
+    
+    /**
+     * Move to offset.
+     *
+     * @param offset offset to be moved to
+     * @return current tokenizer
+     */
+    public Tokenizer moveTo(final int offset) {
+        this.offset = offset;
+        return this;
+    }
     
     /**
      * skip whitespace.
@@ -165,11 +192,8 @@ public final class Tokenizer {
         while (isIdentifierChar(charAt(offset + length))) {
             length++;
         }
-        String literals = input.substring(offset, offset + length);
-        if (isAmbiguousIdentifier(literals)) {
-            return new Token(processAmbiguousIdentifier(offset + length, literals), literals, offset + length);
-        }
-        return new Token(dictionary.findTokenType(literals, Literals.IDENTIFIER), literals, offset + length);
+        TokenType tokenType = isAmbiguousIdentifier(length) ? processAmbiguousIdentifier(offset + length, length) : dictionary.findTokenType(input, offset, length, Literals.IDENTIFIER);
+        return new Token(tokenType, input.substring(offset, offset + length), offset + length);
     }
     
     private int getLengthUntilTerminatedChar(final char terminatedChar) {
@@ -194,17 +218,21 @@ public final class Tokenizer {
         return CharType.isAlphabet(ch) || CharType.isDigital(ch) || '_' == ch || '$' == ch || '#' == ch;
     }
     
-    private boolean isAmbiguousIdentifier(final String literals) {
-        return DefaultKeyword.ORDER.name().equalsIgnoreCase(literals) || DefaultKeyword.GROUP.name().equalsIgnoreCase(literals);
+    private boolean isAmbiguousIdentifier(final int length) {
+        return isKeyword(DefaultKeyword.ORDER, offset, length) || isKeyword(DefaultKeyword.GROUP, offset, length);
+    }
+    
+    private boolean isKeyword(final DefaultKeyword keyword, final int offset, final int length) {
+        return keyword.name().length() == length && input.regionMatches(true, offset, keyword.name(), 0, length);
     }
     
-    private TokenType processAmbiguousIdentifier(final int offset, final String literals) {
+    private TokenType processAmbiguousIdentifier(final int offset, final int length) {
         int i = 0;
         while (CharType.isWhitespace(charAt(offset + i))) {
             i++;
         }
-        if (DefaultKeyword.BY.name().equalsIgnoreCase(String.valueOf(new char[] {charAt(offset + i), charAt(offset + i + 1)}))) {
-            return dictionary.findTokenType(literals);
+        if (isKeyword(DefaultKeyword.BY, offset + i, DefaultKeyword.BY.name().length())) {
+            return dictionary.findTokenType(input, this.offset, length, Literals.IDENTIFIER);
         }
         return Literals.IDENTIFIER;
     }
@@ -300,7 +328,7 @@ public final class Tokenizer {
      */
     public Token scanSymbol() {
         int length = 0;
-        while (CharType.isSymbol(charAt(offset + length))) {
+        while (length < MAX_SYMBOL_LENGTH && CharType.isSymbol(charAt(offset + length))) {
             length++;
         }
         String literals = input.substring(offset, offset + length);
@@ -44,6 +44,7 @@ import io.shardingsphere.core.parsing.parser.expression.SQLPropertyExpression;
 import io.shardingsphere.core.parsing.parser.expression.SQLTextExpression;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.parsing.parser.token.InValuesToken;
 import io.shardingsphere.core.parsing.parser.token.OffsetToken;
 import io.shardingsphere.core.parsing.parser.token.RowCountToken;
 import io.shardingsphere.core.rule.ShardingRule;
@@ -220,20 +221,43 @@ public class WhereClauseParser implements SQLClauseParser {
     }
     
     private Condition parseInCondition(final ShardingRule shardingRule, final SQLStatement sqlStatement, final SQLExpression left) {
+        int beginPosition = lexerEngine.getCurrentToken().getEndPosition();
         lexerEngine.accept(Symbol.LEFT_PAREN);
         List<SQLExpression> rights = new LinkedList<>();
+        List<String> items = new LinkedList<>();
+        int itemBeginPosition = beginPosition;
+        int itemEndPosition;
         do {
             rights.add(basicExpressionParser.parse(sqlStatement));
             skipsDoubleColon();
+            itemEndPosition = lexerEngine.getCurrentToken().getEndPosition() - lexerEngine.getCurrentToken().getLiterals().length();
+            items.add(lexerEngine.getInput().substring(itemBeginPosition, itemEndPosition).trim());
+            itemBeginPosition = lexerEngine.getCurrentToken().getEndPosition();
         } while (lexerEngine.skipIfEqual(Symbol.COMMA));
         lexerEngine.accept(Symbol.RIGHT_PAREN);
         Optional<Column> column = find(sqlStatement.getTables(), left);
         if (column.isPresent() && shardingRule.isShardingColumn(column.get())) {
-            return new Condition(column.get(), rights);
+            Condition result = new Condition(column.get(), rights);
+            if (isPrunableInValues(rights)) {
+                sqlStatement.getSqlTokens().add(new InValuesToken(beginPosition, itemEndPosition - beginPosition, items, result));
+            }
+            return result;
         }
         return new NullCondition();
     }
     
+    private boolean isPrunableInValues(final List<SQLExpression> sqlExpressions) {
+        if (sqlExpressions.size() < 2) {
+            return false;
+        }
+        for (SQLExpression each : sqlExpressions) {
+            if (!(each instanceof SQLNumberExpression || each instanceof SQLTextExpression || each instanceof SQLPlaceholderExpression)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private Condition parseBetweenCondition(final ShardingRule shardingRule, final SQLStatement sqlStatement, final SQLExpression left) {
         List<SQLExpression> rights = new LinkedList<>();
         rights.add(basicExpressionParser.parse(sqlStatement));
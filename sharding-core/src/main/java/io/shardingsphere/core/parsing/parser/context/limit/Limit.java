@@ -108,6 +108,24 @@ public final class Limit {
         }
     }
     
+    /**
+     * Copy limit.
+     * 
+     * <p>Values of limit will be filled by parameters during routing, limit of cached SQL statement should be copied before routing.</p>
+     * 
+     * @return copied limit
+     */
+    public Limit copy() {
+        Limit result = new Limit(databaseType);
+        if (null != offset) {
+            result.setOffset(new LimitValue(offset.getValue(), offset.getIndex(), offset.isBoundOpened()));
+        }
+        if (null != rowCount) {
+            result.setRowCount(new LimitValue(rowCount.getValue(), rowCount.getIndex(), rowCount.isBoundOpened()));
+        }
+        return result;
+    }
+    
     /**
      * Is need rewrite row count.
      * 
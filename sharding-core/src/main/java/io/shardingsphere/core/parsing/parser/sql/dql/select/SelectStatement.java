@@ -223,6 +223,30 @@ public final class SelectStatement extends DQLStatement {
         return null != subQueryStatement;
     }
     
+    /**
+     * Copy select statement for routing.
+     * 
+     * <p>Limit will be changed during routing, so it is copied. Other parsed contexts are shared with original select statement.</p>
+     * 
+     * @return copied select statement
+     */
+    public SelectStatement copyForRouting() {
+        SelectStatement result = new SelectStatement();
+        result.getTables().addAll(getTables());
+        result.getConditions().getOrCondition().getAndConditions().addAll(getConditions().getOrCondition().getAndConditions());
+        result.getSqlTokens().addAll(getSqlTokens());
+        result.setParametersIndex(getParametersIndex());
+        result.containStar = containStar;
+        result.selectListLastPosition = selectListLastPosition;
+        result.groupByLastPosition = groupByLastPosition;
+        result.items.addAll(items);
+        result.groupByItems.addAll(groupByItems);
+        result.orderByItems.addAll(orderByItems);
+        result.limit = null == limit ? null : limit.copy();
+        result.subQueryStatement = subQueryStatement;
+        return result;
+    }
+    
     /**
      * Merge sub query statement if contains.
      * 
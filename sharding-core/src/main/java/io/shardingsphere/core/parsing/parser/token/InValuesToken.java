@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.parser.token;
+
+import io.shardingsphere.core.parsing.parser.context.condition.Condition;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * In values token.
+ * 
+ * <p>Values list of sharding column's IN condition, which can be pruned for every routed table unit.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class InValuesToken implements SQLToken {
+    
+    private final int beginPosition;
+    
+    private final int originalLength;
+    
+    private final List<String> items;
+    
+    private final Condition condition;
+}
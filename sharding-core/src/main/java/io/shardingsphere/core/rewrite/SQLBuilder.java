@@ -17,25 +17,35 @@
 
 package io.shardingsphere.core.rewrite;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Strings;
+import io.shardingsphere.core.api.algorithm.sharding.ListShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.optimizer.condition.ShardingCondition;
 import io.shardingsphere.core.optimizer.insert.InsertShardingCondition;
+import io.shardingsphere.core.rewrite.placeholder.InValuesPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.IndexPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.InsertValuesPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.SchemaPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.ShardingPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.TablePlaceholder;
 import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.routing.type.TableUnit;
 import io.shardingsphere.core.rule.DataNode;
 import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.core.rule.TableRule;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 /**
  * SQL builder.
@@ -63,6 +73,24 @@ public final class SQLBuilder {
         segments.add(currentSegment);
     }
     
+    private SQLBuilder(final List<Object> segments, final StringBuilder currentSegment, final List<Object> parameters) {
+        this.segments = segments;
+        this.parameters = parameters;
+        this.currentSegment = currentSegment;
+    }
+    
+    /**
+     * Create SQL builder with same segments and other parameters.
+     * 
+     * <p>Segments are shared with current SQL builder, so both of them should not append literals or placeholders any more.</p>
+     *
+     * @param parameters parameters
+     * @return SQL builder with other parameters
+     */
+    public SQLBuilder withParameters(final List<Object> parameters) {
+        return new SQLBuilder(segments, currentSegment, parameters);
+    }
+    
     /**
      * Append literals.
      *
@@ -95,6 +123,7 @@ public final class SQLBuilder {
     public SQLUnit toSQL(final TableUnit tableUnit, final Map<String, String> logicAndActualTableMap, final ShardingRule shardingRule, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
         StringBuilder result = new StringBuilder();
         List<Object> insertParameters = new LinkedList<>();
+        Set<Integer> prunedParameterIndexes = new HashSet<>();
         for (Object each : segments) {
             if (!(each instanceof ShardingPlaceholder)) {
                 result.append(each);
@@ -110,12 +139,27 @@ public final class SQLBuilder {
                 appendIndexPlaceholder((IndexPlaceholder) each, actualTableName, result);
             } else if (each instanceof InsertValuesPlaceholder) {
                 appendInsertValuesPlaceholder(tableUnit, insertParameters, (InsertValuesPlaceholder) each, result);
+            } else if (each instanceof InValuesPlaceholder) {
+                appendInValuesPlaceholder(tableUnit, shardingRule, prunedParameterIndexes, (InValuesPlaceholder) each, result);
             } else {
                 result.append(each);
             }
         }
-        List<List<Object>> parameterSets = insertParameters.isEmpty() ? new ArrayList<>(Collections.singleton(parameters)) : new ArrayList<>(Collections.singleton(insertParameters));
-        return new SQLUnit(result.toString(), parameterSets);
+        List<Object> unitParameters = insertParameters.isEmpty() ? getUnitParameters(prunedParameterIndexes) : insertParameters;
+        return new SQLUnit(result.toString(), new ArrayList<>(Collections.singleton(unitParameters)));
+    }
+    
+    private List<Object> getUnitParameters(final Set<Integer> prunedParameterIndexes) {
+        if (prunedParameterIndexes.isEmpty()) {
+            return parameters;
+        }
+        List<Object> result = new ArrayList<>(parameters.size() - prunedParameterIndexes.size());
+        for (int i = 0; i < parameters.size(); i++) {
+            if (!prunedParameterIndexes.contains(i)) {
+                result.add(parameters.get(i));
+            }
+        }
+        return result;
     }
     
     private void appendTablePlaceholder(final TablePlaceholder tablePlaceholder, final String actualTableName, final StringBuilder stringBuilder) {
@@ -157,6 +201,66 @@ public final class SQLBuilder {
         }
     }
     
+    private void appendInValuesPlaceholder(final TableUnit tableUnit, final ShardingRule shardingRule, final Set<Integer> prunedParameterIndexes,
+                                           final InValuesPlaceholder inValuesPlaceholder, final StringBuilder stringBuilder) {
+        List<String> items = inValuesPlaceholder.getItems();
+        List<Integer> keptPositions = getKeptPositions(tableUnit, shardingRule, inValuesPlaceholder);
+        if (keptPositions.isEmpty()) {
+            keptPositions.add(0);
+        }
+        for (int i = 0; i < keptPositions.size(); i++) {
+            if (0 != i) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(items.get(keptPositions.get(i)));
+        }
+        Set<Integer> keptPositionSet = new HashSet<>(keptPositions);
+        for (Entry<Integer, Integer> entry : inValuesPlaceholder.getCondition().getPositionIndexMap().entrySet()) {
+            if (!keptPositionSet.contains(entry.getKey())) {
+                prunedParameterIndexes.add(entry.getValue());
+            }
+        }
+    }
+    
+    private List<Integer> getKeptPositions(final TableUnit tableUnit, final ShardingRule shardingRule, final InValuesPlaceholder inValuesPlaceholder) {
+        List<Integer> result = new LinkedList<>();
+        int size = inValuesPlaceholder.getItems().size();
+        String logicTableName = inValuesPlaceholder.getLogicTableName();
+        Optional<TableRule> tableRule = shardingRule.tryFindTableRuleByLogicTable(logicTableName);
+        Set<String> actualTableNames = tableUnit.getActualTableNames(tableUnit.getDataSourceName(), logicTableName);
+        String columnName = inValuesPlaceholder.getCondition().getColumn().getName();
+        ShardingStrategy databaseShardingStrategy = tableRule.isPresent() ? shardingRule.getDatabaseShardingStrategy(tableRule.get()) : null;
+        ShardingStrategy tableShardingStrategy = tableRule.isPresent() ? shardingRule.getTableShardingStrategy(tableRule.get()) : null;
+        boolean isDatabasePrunable = isPrunable(databaseShardingStrategy, columnName);
+        boolean isTablePrunable = isPrunable(tableShardingStrategy, columnName);
+        if (actualTableNames.isEmpty() || !isDatabasePrunable && !isTablePrunable) {
+            for (int i = 0; i < size; i++) {
+                result.add(i);
+            }
+            return result;
+        }
+        List<Comparable<?>> values = inValuesPlaceholder.getCondition().getConditionValues(parameters);
+        for (int i = 0; i < size; i++) {
+            Collection<ShardingValue> shardingValues = Collections.<ShardingValue>singletonList(
+                    new ListShardingValue<>(logicTableName, columnName, Collections.<Comparable<?>>singletonList(values.get(i))));
+            if (isDatabasePrunable && !databaseShardingStrategy.doSharding(tableRule.get().getActualDatasourceNames(), shardingValues).contains(tableUnit.getDataSourceName())) {
+                continue;
+            }
+            if (isTablePrunable && Collections.disjoint(tableShardingStrategy.doSharding(tableRule.get().getActualTableNames(tableUnit.getDataSourceName()), shardingValues), actualTableNames)) {
+                continue;
+            }
+            result.add(i);
+        }
+        return result;
+    }
+    
+    private boolean isPrunable(final ShardingStrategy shardingStrategy, final String columnName) {
+        if (null == shardingStrategy || 1 != shardingStrategy.getShardingColumns().size()) {
+            return false;
+        }
+        return shardingStrategy.getShardingColumns().iterator().next().equalsIgnoreCase(columnName);
+    }
+    
     private void processInsertShardingCondition(final TableUnit tableUnit, final InsertShardingCondition shardingCondition, final List<String> expressions, final List<Object> parameters) {
         for (DataNode each : shardingCondition.getDataNodes()) {
             if (each.getDataSourceName().equals(tableUnit.getDataSourceName()) && each.getTableName().equals(tableUnit.getRoutingTables().iterator().next().getActualTableName())) {
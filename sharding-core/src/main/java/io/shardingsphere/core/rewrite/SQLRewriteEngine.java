@@ -17,7 +17,6 @@
 
 package io.shardingsphere.core.rewrite;
 
-import com.google.common.base.Optional;
 import com.google.common.base.Strings;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
@@ -27,6 +26,7 @@ import io.shardingsphere.core.parsing.parser.context.limit.Limit;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.parsing.parser.token.InValuesToken;
 import io.shardingsphere.core.parsing.parser.token.IndexToken;
 import io.shardingsphere.core.parsing.parser.token.InsertColumnToken;
 import io.shardingsphere.core.parsing.parser.token.InsertValuesToken;
@@ -38,23 +38,20 @@ import io.shardingsphere.core.parsing.parser.token.SQLToken;
 import io.shardingsphere.core.parsing.parser.token.SchemaToken;
 import io.shardingsphere.core.parsing.parser.token.TableToken;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.rewrite.placeholder.InValuesPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.IndexPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.InsertValuesPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.SchemaPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.TablePlaceholder;
 import io.shardingsphere.core.routing.SQLUnit;
-import io.shardingsphere.core.routing.type.RoutingTable;
 import io.shardingsphere.core.routing.type.TableUnit;
-import io.shardingsphere.core.rule.BindingTableRule;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.core.util.SQLUtil;
 
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * SQL rewrite engine.
@@ -130,6 +127,8 @@ public final class SQLRewriteEngine {
                 appendItemsToken(result, (ItemsToken) each, count, sqlTokens);
             } else if (each instanceof InsertValuesToken) {
                 appendInsertValuesToken(result, (InsertValuesToken) each, count, sqlTokens);
+            } else if (each instanceof InValuesToken) {
+                appendInValuesPlaceholder(result, (InValuesToken) each, count, sqlTokens);
             } else if (each instanceof RowCountToken) {
                 appendLimitRowCount(result, (RowCountToken) each, count, sqlTokens, isRewriteLimit);
             } else if (each instanceof OffsetToken) {
@@ -194,6 +193,12 @@ public final class SQLRewriteEngine {
         appendRest(sqlBuilder, count, sqlTokens, ((InsertStatement) sqlStatement).getInsertValuesListLastPosition());
     }
     
+    private void appendInValuesPlaceholder(final SQLBuilder sqlBuilder, final InValuesToken inValuesToken, final int count, final List<SQLToken> sqlTokens) {
+        String logicTableName = inValuesToken.getCondition().getColumn().getTableName().toLowerCase();
+        sqlBuilder.appendPlaceholder(new InValuesPlaceholder(logicTableName, inValuesToken.getItems(), inValuesToken.getCondition()));
+        appendRest(sqlBuilder, count, sqlTokens, inValuesToken.getBeginPosition() + inValuesToken.getOriginalLength());
+    }
+    
     private void appendLimitRowCount(final SQLBuilder sqlBuilder, final RowCountToken rowCountToken, final int count, final List<SQLToken> sqlTokens, final boolean isRewrite) {
         SelectStatement selectStatement = (SelectStatement) sqlStatement;
         Limit limit = selectStatement.getLimit();
@@ -253,30 +258,6 @@ public final class SQLRewriteEngine {
      * @return SQL unit
      */
     public SQLUnit generateSQL(final TableUnit tableUnit, final SQLBuilder sqlBuilder, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
-        return sqlBuilder.toSQL(tableUnit, getTableTokens(tableUnit), shardingRule, shardingDataSourceMetaData);
-    }
-   
-    private Map<String, String> getTableTokens(final TableUnit tableUnit) {
-        Map<String, String> result = new HashMap<>();
-        for (RoutingTable routingTable : tableUnit.getRoutingTables()) {
-            String logicTableName = routingTable.getLogicTableName().toLowerCase();
-            result.put(logicTableName, routingTable.getActualTableName());
-            Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(logicTableName);
-            if (bindingTableRule.isPresent()) {
-                result.putAll(getBindingTableTokens(tableUnit.getDataSourceName(), routingTable, bindingTableRule.get()));
-            }
-        }
-        return result;
-    }
-    
-    private Map<String, String> getBindingTableTokens(final String dataSourceName, final RoutingTable routingTable, final BindingTableRule bindingTableRule) {
-        Map<String, String> result = new HashMap<>();
-        for (String eachTable : sqlStatement.getTables().getTableNames()) {
-            String tableName = eachTable.toLowerCase();
-            if (!tableName.equals(routingTable.getLogicTableName().toLowerCase()) && bindingTableRule.hasLogicTable(tableName)) {
-                result.put(tableName, bindingTableRule.getBindingActualTable(dataSourceName, tableName, routingTable.getActualTableName()));
-            }
-        }
-        return result;
+        return new SQLUnitGenerator(shardingRule, sqlStatement, shardingDataSourceMetaData).generateSQL(tableUnit, sqlBuilder);
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.rewrite;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.routing.SQLUnit;
+import io.shardingsphere.core.routing.type.RoutingTable;
+import io.shardingsphere.core.routing.type.TableUnit;
+import io.shardingsphere.core.rule.BindingTableRule;
+import io.shardingsphere.core.rule.ShardingRule;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL unit generator.
+ * 
+ * <p>Generate actual SQL of table unit from rewritten SQL builder, it does not need the tokens of SQL, so rewritten SQL templates can be reused without rewrite engine.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class SQLUnitGenerator {
+    
+    private final ShardingRule shardingRule;
+    
+    private final SQLStatement sqlStatement;
+    
+    private final ShardingDataSourceMetaData shardingDataSourceMetaData;
+    
+    /**
+     * Generate SQL string.
+     * 
+     * @param tableUnit route table unit
+     * @param sqlBuilder SQL builder
+     * @return SQL unit
+     */
+    public SQLUnit generateSQL(final TableUnit tableUnit, final SQLBuilder sqlBuilder) {
+        return sqlBuilder.toSQL(tableUnit, getTableTokens(tableUnit), shardingRule, shardingDataSourceMetaData);
+    }
+    
+    private Map<String, String> getTableTokens(final TableUnit tableUnit) {
+        Map<String, String> result = new HashMap<>();
+        for (RoutingTable routingTable : tableUnit.getRoutingTables()) {
+            String logicTableName = routingTable.getLogicTableName().toLowerCase();
+            result.put(logicTableName, routingTable.getActualTableName());
+            Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(logicTableName);
+            if (bindingTableRule.isPresent()) {
+                result.putAll(getBindingTableTokens(tableUnit.getDataSourceName(), routingTable, bindingTableRule.get()));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, String> getBindingTableTokens(final String dataSourceName, final RoutingTable routingTable, final BindingTableRule bindingTableRule) {
+        Map<String, String> result = new HashMap<>();
+        for (String eachTable : sqlStatement.getTables().getTableNames()) {
+            String tableName = eachTable.toLowerCase();
+            if (!tableName.equals(routingTable.getLogicTableName().toLowerCase()) && bindingTableRule.hasLogicTable(tableName)) {
+                result.put(tableName, bindingTableRule.getBindingActualTable(dataSourceName, tableName, routingTable.getActualTableName()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.rewrite.placeholder;
+
+import io.shardingsphere.core.parsing.parser.context.condition.Condition;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * In values placeholder for rewrite.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class InValuesPlaceholder implements ShardingPlaceholder {
+    
+    private final String logicTableName;
+    
+    private final List<String> items;
+    
+    private final Condition condition;
+}
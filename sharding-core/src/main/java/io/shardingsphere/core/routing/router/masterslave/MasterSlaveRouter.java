@@ -17,9 +17,10 @@
 
 package io.shardingsphere.core.routing.router.masterslave;
 
+import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.hint.HintManagerHolder;
-import io.shardingsphere.core.parsing.SQLJudgeEngine;
+import io.shardingsphere.core.parsing.SQLTypeJudgeEngine;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.util.SQLLogger;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +40,8 @@ public final class MasterSlaveRouter {
     
     private final MasterSlaveRule masterSlaveRule;
     
+    private final DatabaseType databaseType;
+    
     private final boolean showSQL;
     
     /**
@@ -49,7 +52,18 @@ public final class MasterSlaveRouter {
      */
     // TODO for multiple masters may return more than one data source
     public Collection<String> route(final String sql) {
-        Collection<String> result = route(new SQLJudgeEngine(sql).judge().getType());
+        return route(sql, new SQLTypeJudgeEngine(databaseType, sql).judge());
+    }
+    
+    /**
+     * Route Master slave with judged SQL type.
+     *
+     * @param sql SQL
+     * @param sqlType SQL type
+     * @return data source names
+     */
+    public Collection<String> route(final String sql, final SQLType sqlType) {
+        Collection<String> result = route(sqlType);
         if (showSQL) {
             SQLLogger.logSQL(sql, result);
         }
@@ -23,8 +23,13 @@ import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.optimizer.OptimizeEngineFactory;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
 import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.UnshardedSQLJudgeEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.context.condition.AndCondition;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
+import io.shardingsphere.core.parsing.parser.context.condition.Condition;
 import io.shardingsphere.core.parsing.parser.context.condition.GeneratedKeyCondition;
+import io.shardingsphere.core.parsing.parser.context.limit.Limit;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowDatabasesStatement;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowTablesStatement;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.UseStatement;
@@ -37,8 +42,10 @@ import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.rewrite.SQLBuilder;
 import io.shardingsphere.core.rewrite.SQLRewriteEngine;
+import io.shardingsphere.core.rewrite.SQLUnitGenerator;
 import io.shardingsphere.core.routing.SQLExecutionUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.routing.type.RoutingEngine;
 import io.shardingsphere.core.routing.type.RoutingResult;
 import io.shardingsphere.core.routing.type.TableUnit;
@@ -54,9 +61,12 @@ import io.shardingsphere.core.rule.TableRule;
 import io.shardingsphere.core.util.SQLLogger;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.TreeSet;
 
 /**
  * Sharding router with parse.
@@ -80,31 +90,62 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
     
+    private final ParsingResultCache parsingResultCache;
+    
+    private SQLStatement unshardedSQLStatement;
+    
     @Override
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
-        return new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData).parse(useCache);
+        Optional<SQLStatement> unshardedResult = judgeUnsharded(logicSQL, useCache && null != parsingResultCache);
+        unshardedSQLStatement = unshardedResult.orNull();
+        if (unshardedResult.isPresent()) {
+            return unshardedSQLStatement;
+        }
+        return new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData, parsingResultCache).parse(useCache);
+    }
+    
+    private Optional<SQLStatement> judgeUnsharded(final String logicSQL, final boolean useCache) {
+        if (useCache) {
+            SQLStatement cachedResult = parsingResultCache.getUnshardedSQLStatement(logicSQL);
+            if (null != cachedResult) {
+                return Optional.of(cachedResult);
+            }
+            if (null != parsingResultCache.getSQLStatement(logicSQL)) {
+                return Optional.absent();
+            }
+        }
+        Optional<SQLStatement> result = new UnshardedSQLJudgeEngine(databaseType, logicSQL, shardingRule).judge();
+        if (useCache && result.isPresent()) {
+            parsingResultCache.putUnsharded(logicSQL, result.get());
+        }
+        return result;
     }
     
     @Override
-    public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
+    public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement parsedSQLStatement) {
+        if (null != unshardedSQLStatement && unshardedSQLStatement == parsedSQLStatement) {
+            return routeToDefaultDataSource(logicSQL, parameters, parsedSQLStatement);
+        }
+        RoutePlan routePlan = getRoutePlan(logicSQL, parsedSQLStatement);
+        SQLStatement sqlStatement = getSQLStatementForRouting(parsedSQLStatement);
         GeneratedKey generatedKey = null;
         if (sqlStatement instanceof InsertStatement) {
             generatedKey = getGenerateKey(shardingRule, (InsertStatement) sqlStatement, parameters);
         }
         SQLRouteResult result = new SQLRouteResult(sqlStatement, generatedKey);
-        ShardingConditions shardingConditions = OptimizeEngineFactory.newInstance(shardingRule, sqlStatement, parameters, generatedKey).optimize();
+        ShardingConditions shardingConditions = getShardingConditions(routePlan, sqlStatement, parameters, generatedKey);
         if (null != generatedKey) {
             setGeneratedKeys(result, generatedKey);
         }
-        RoutingResult routingResult = route(sqlStatement, shardingConditions);
-        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, sqlStatement, shardingConditions, parameters);
+        RoutingResult routingResult = route(routePlan, shardingConditions);
         boolean isSingleRouting = routingResult.isSingleRouting();
         if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
             processLimit(parameters, (SelectStatement) sqlStatement, isSingleRouting);
         }
-        SQLBuilder sqlBuilder = rewriteEngine.rewrite(!isSingleRouting);
+        SQLBuilder sqlBuilder = rewrite(routePlan, logicSQL, sqlStatement, shardingConditions, !isSingleRouting, parameters);
+        SQLUnitGenerator sqlUnitGenerator = new SQLUnitGenerator(shardingRule, sqlStatement, shardingDataSourceMetaData);
         for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
-            result.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, sqlBuilder, shardingDataSourceMetaData)));
+            result.getExecutionUnits().add(new SQLExecutionUnit(each.getDataSourceName(), sqlUnitGenerator.generateSQL(each, sqlBuilder)));
         }
         if (showSQL) {
             SQLLogger.logSQL(logicSQL, sqlStatement, result.getExecutionUnits());
@@ -112,32 +153,142 @@ public final class ParsingSQLRouter implements ShardingRouter {
         return result;
     }
     
-    private RoutingResult route(final SQLStatement sqlStatement, final ShardingConditions shardingConditions) {
-        Collection<String> tableNames = sqlStatement.getTables().getTableNames();
-        RoutingEngine routingEngine;
+    private SQLRouteResult routeToDefaultDataSource(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
+        SQLRouteResult result = new SQLRouteResult(sqlStatement);
+        SQLUnit sqlUnit = new SQLUnit(logicSQL, new ArrayList<>(Collections.singleton(parameters)));
+        result.getExecutionUnits().add(new SQLExecutionUnit(shardingRule.getShardingDataSourceNames().getDefaultDataSourceName(), sqlUnit));
+        if (showSQL) {
+            SQLLogger.logSQL(logicSQL, sqlStatement, result.getExecutionUnits());
+        }
+        return result;
+    }
+    
+    private RoutePlan getRoutePlan(final String logicSQL, final SQLStatement parsedSQLStatement) {
+        if (null == parsingResultCache) {
+            return createRoutePlan(parsedSQLStatement);
+        }
+        RoutePlan result = parsingResultCache.getRoutePlanCache().getRoutePlan(logicSQL);
+        if (null == result) {
+            result = createRoutePlan(parsedSQLStatement);
+            parsingResultCache.getRoutePlanCache().put(logicSQL, result);
+        }
+        return result;
+    }
+    
+    private RoutePlan createRoutePlan(final SQLStatement sqlStatement) {
         if (sqlStatement instanceof UseStatement) {
-            routingEngine = new IgnoreRoutingEngine();
-        } else if (sqlStatement instanceof DDLStatement || (sqlStatement instanceof DCLStatement && ((DCLStatement) sqlStatement).isGrantForSingleTable())) {
-            routingEngine = new TableBroadcastRoutingEngine(shardingRule, sqlStatement);
-        } else if (sqlStatement instanceof ShowDatabasesStatement || sqlStatement instanceof ShowTablesStatement) {
-            routingEngine = new DatabaseBroadcastRoutingEngine(shardingRule);
-        } else if (sqlStatement instanceof DCLStatement) {
-            routingEngine = new InstanceBroadcastRoutingEngine(shardingRule, shardingDataSourceMetaData);
-        } else if (shardingConditions.isAlwaysFalse()) {
-            routingEngine = new UnicastRoutingEngine(shardingRule, tableNames);
-        } else if (sqlStatement instanceof DALStatement) {
-            routingEngine = new UnicastRoutingEngine(shardingRule, tableNames);
-        } else if (tableNames.isEmpty() && sqlStatement instanceof SelectStatement) {
-            routingEngine = new UnicastRoutingEngine(shardingRule, tableNames);
-        } else if (tableNames.isEmpty()) {
-            routingEngine = new DatabaseBroadcastRoutingEngine(shardingRule);
-        } else if (1 == tableNames.size() || shardingRule.isAllBindingTables(tableNames) || shardingRule.isAllInDefaultDataSource(tableNames)) {
-            routingEngine = new StandardRoutingEngine(shardingRule, tableNames.iterator().next(), shardingConditions);
-        } else {
-            // TODO config for cartesian set
-            routingEngine = new ComplexRoutingEngine(shardingRule, tableNames, shardingConditions);
-        }
-        return routingEngine.route();
+            return createRoutePlan(sqlStatement, RoutingEngineType.IGNORE, false);
+        }
+        if (sqlStatement instanceof DDLStatement || (sqlStatement instanceof DCLStatement && ((DCLStatement) sqlStatement).isGrantForSingleTable())) {
+            return createRoutePlan(sqlStatement, RoutingEngineType.TABLE_BROADCAST, false);
+        }
+        if (sqlStatement instanceof ShowDatabasesStatement || sqlStatement instanceof ShowTablesStatement) {
+            return createRoutePlan(sqlStatement, RoutingEngineType.DATABASE_BROADCAST, false);
+        }
+        if (sqlStatement instanceof DCLStatement) {
+            return createRoutePlan(sqlStatement, RoutingEngineType.INSTANCE_BROADCAST, false);
+        }
+        return createRoutePlan(sqlStatement, getRoutingEngineTypeByTables(sqlStatement), true);
+    }
+    
+    private RoutePlan createRoutePlan(final SQLStatement sqlStatement, final RoutingEngineType routingEngineType, final boolean isDependOnShardingConditions) {
+        return new RoutePlan(sqlStatement, routingEngineType, isDependOnShardingConditions, isSupportSQLTemplate(sqlStatement), getShardingParameterIndexes(sqlStatement));
+    }
+    
+    private Collection<Integer> getShardingParameterIndexes(final SQLStatement sqlStatement) {
+        Collection<Integer> result = new TreeSet<>();
+        for (AndCondition eachAndCondition : sqlStatement.getConditions().getOrCondition().getAndConditions()) {
+            for (List<Condition> eachConditions : eachAndCondition.getConditionsMap().values()) {
+                for (Condition each : eachConditions) {
+                    result.addAll(each.getPositionIndexMap().values());
+                }
+            }
+        }
+        return result;
+    }
+    
+    private RoutingEngineType getRoutingEngineTypeByTables(final SQLStatement sqlStatement) {
+        Collection<String> tableNames = sqlStatement.getTables().getTableNames();
+        if (sqlStatement instanceof DALStatement) {
+            return RoutingEngineType.UNICAST;
+        }
+        if (tableNames.isEmpty() && sqlStatement instanceof SelectStatement) {
+            return RoutingEngineType.UNICAST;
+        }
+        if (tableNames.isEmpty()) {
+            return RoutingEngineType.DATABASE_BROADCAST;
+        }
+        if (1 == tableNames.size() || shardingRule.isAllBindingTables(tableNames) || shardingRule.isAllInDefaultDataSource(tableNames)) {
+            return RoutingEngineType.STANDARD;
+        }
+        // TODO config for cartesian set
+        return RoutingEngineType.COMPLEX;
+    }
+    
+    private boolean isSupportSQLTemplate(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof InsertStatement) {
+            return false;
+        }
+        if (!(sqlStatement instanceof SelectStatement) || null == ((SelectStatement) sqlStatement).getLimit()) {
+            return true;
+        }
+        Limit limit = ((SelectStatement) sqlStatement).getLimit();
+        return null == limit.getOffset() || -1 == limit.getOffset().getIndex();
+    }
+    
+    private SQLStatement getSQLStatementForRouting(final SQLStatement parsedSQLStatement) {
+        if (parsedSQLStatement instanceof SelectStatement && null != ((SelectStatement) parsedSQLStatement).getLimit()) {
+            return ((SelectStatement) parsedSQLStatement).copyForRouting();
+        }
+        return parsedSQLStatement;
+    }
+    
+    private RoutingResult route(final RoutePlan routePlan, final ShardingConditions shardingConditions) {
+        Collection<String> tableNames = routePlan.getSqlStatement().getTables().getTableNames();
+        if (routePlan.isDependOnShardingConditions() && shardingConditions.isAlwaysFalse()) {
+            return new UnicastRoutingEngine(shardingRule, tableNames).route();
+        }
+        return createRoutingEngine(routePlan.getRoutingEngineType(), routePlan.getSqlStatement(), tableNames, shardingConditions).route();
+    }
+    
+    private RoutingEngine createRoutingEngine(final RoutingEngineType routingEngineType, final SQLStatement sqlStatement, final Collection<String> tableNames, final ShardingConditions conditions) {
+        switch (routingEngineType) {
+            case IGNORE:
+                return new IgnoreRoutingEngine();
+            case TABLE_BROADCAST:
+                return new TableBroadcastRoutingEngine(shardingRule, sqlStatement);
+            case DATABASE_BROADCAST:
+                return new DatabaseBroadcastRoutingEngine(shardingRule);
+            case INSTANCE_BROADCAST:
+                return new InstanceBroadcastRoutingEngine(shardingRule, shardingDataSourceMetaData);
+            case UNICAST:
+                return new UnicastRoutingEngine(shardingRule, tableNames);
+            case STANDARD:
+                return new StandardRoutingEngine(shardingRule, tableNames.iterator().next(), conditions);
+            default:
+                return new ComplexRoutingEngine(shardingRule, tableNames, conditions);
+        }
+    }
+    
+    private ShardingConditions getShardingConditions(final RoutePlan routePlan, final SQLStatement sqlStatement, final List<Object> parameters, final GeneratedKey generatedKey) {
+        Optional<ShardingConditions> cachedShardingConditions = routePlan.findShardingConditions();
+        if (cachedShardingConditions.isPresent()) {
+            return cachedShardingConditions.get();
+        }
+        ShardingConditions result = OptimizeEngineFactory.newInstance(shardingRule, sqlStatement, parameters, generatedKey).optimize();
+        routePlan.addShardingConditions(result);
+        return result;
+    }
+    
+    private SQLBuilder rewrite(final RoutePlan routePlan, final String logicSQL, final SQLStatement sqlStatement,
+                               final ShardingConditions shardingConditions, final boolean isRewriteLimit, final List<Object> parameters) {
+        Optional<SQLBuilder> sqlTemplate = routePlan.findSQLTemplate(isRewriteLimit);
+        if (sqlTemplate.isPresent()) {
+            return sqlTemplate.get().withParameters(parameters);
+        }
+        SQLBuilder result = new SQLRewriteEngine(shardingRule, logicSQL, databaseType, sqlStatement, shardingConditions, parameters).rewrite(isRewriteLimit);
+        routePlan.addSQLTemplate(isRewriteLimit, result);
+        return result;
     }
     
     private GeneratedKey getGenerateKey(final ShardingRule shardingRule, final InsertStatement insertStatement, final List<Object> parameters) {
@@ -163,9 +314,7 @@ public final class ParsingSQLRouter implements ShardingRouter {
         Optional<Column> generateKeyColumn = shardingRule.getGenerateKeyColumn(logicTableName);
         if (generateKeyColumn.isPresent()) {
             result = new GeneratedKey(generateKeyColumn.get());
-            for (int i = 0; i < insertStatement.getInsertValues().getInsertValues().size(); i++) {
-                result.getGeneratedKeys().add(shardingRule.generateKey(logicTableName));
-            }
+            result.getGeneratedKeys().addAll(shardingRule.generateKeys(logicTableName, insertStatement.getInsertValues().getInsertValues().size()));
         }
         return result;
     }
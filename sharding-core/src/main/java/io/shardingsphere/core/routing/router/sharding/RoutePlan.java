@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.sharding;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.rewrite.SQLBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Route plan.
+ * 
+ * <p>Route plan holds the parts of routing which only depend on SQL statement, they are reused when routing same SQL statement with other parameters.
+ * Route plan is shared by all statements of same logic SQL, so it is thread safe.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Getter
+public final class RoutePlan {
+    
+    private final SQLStatement sqlStatement;
+    
+    private final RoutingEngineType routingEngineType;
+    
+    private final boolean dependOnShardingConditions;
+    
+    private final boolean supportSQLTemplate;
+    
+    private final Collection<Integer> shardingParameterIndexes;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<Boolean, SQLBuilder> sqlTemplates = new ConcurrentHashMap<>(2, 1);
+    
+    @Getter(AccessLevel.NONE)
+    private volatile ShardingConditions shardingConditions;
+    
+    /**
+     * Judge sharding conditions depend on parameters or not.
+     * 
+     * @return sharding conditions depend on parameters or not
+     */
+    public boolean isShardingConditionsDependOnParameters() {
+        return sqlStatement instanceof InsertStatement || !shardingParameterIndexes.isEmpty();
+    }
+    
+    /**
+     * Find sharding conditions which do not depend on parameters.
+     * 
+     * @return sharding conditions
+     */
+    public Optional<ShardingConditions> findShardingConditions() {
+        return Optional.fromNullable(shardingConditions);
+    }
+    
+    /**
+     * Add sharding conditions, they are kept only if they do not depend on parameters.
+     * 
+     * @param shardingConditions sharding conditions
+     */
+    public void addShardingConditions(final ShardingConditions shardingConditions) {
+        if (!isShardingConditionsDependOnParameters()) {
+            this.shardingConditions = shardingConditions;
+        }
+    }
+    
+    /**
+     * Find rewritten SQL template.
+     * 
+     * @param isRewriteLimit is rewrite limit or not
+     * @return rewritten SQL template
+     */
+    public Optional<SQLBuilder> findSQLTemplate(final boolean isRewriteLimit) {
+        return Optional.fromNullable(sqlTemplates.get(isRewriteLimit));
+    }
+    
+    /**
+     * Add rewritten SQL template.
+     * 
+     * @param isRewriteLimit is rewrite limit or not
+     * @param sqlBuilder rewritten SQL builder
+     */
+    public void addSQLTemplate(final boolean isRewriteLimit, final SQLBuilder sqlBuilder) {
+        if (supportSQLTemplate) {
+            sqlTemplates.put(isRewriteLimit, sqlBuilder.withParameters(Collections.emptyList()));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.sharding;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+
+/**
+ * Route plan cache.
+ *
+ * <p>
+ * Cache is keyed by logic SQL and bounded like parsing result cache, evict the least recently used entries when exceed.
+ * Route plans depend on sharding rule, so one sharding data source should hold an independent instance.
+ * </p>
+ *
+ * @author agent
+ */
+public final class RoutePlanCache {
+    
+    private final Cache<String, RoutePlan> cache;
+    
+    /**
+     * Constructs route plan cache.
+     *
+     * @param maximumSize maximum entry count of cache
+     * @param maximumWeight maximum weight of cache, weight is the length of SQL, use {@code maximumSize} if not positive
+     */
+    public RoutePlanCache(final long maximumSize, final long maximumWeight) {
+        cache = maximumWeight > 0 ? createWeightedCache(maximumWeight) : CacheBuilder.newBuilder().maximumSize(maximumSize).<String, RoutePlan>build();
+    }
+    
+    private Cache<String, RoutePlan> createWeightedCache(final long maximumWeight) {
+        return CacheBuilder.newBuilder().maximumWeight(maximumWeight).weigher(new Weigher<String, RoutePlan>() {
+            
+            @Override
+            public int weigh(final String sql, final RoutePlan routePlan) {
+                return sql.length();
+            }
+        }).build();
+    }
+    
+    /**
+     * Put logic SQL and route plan into cache.
+     *
+     * @param sql logic SQL
+     * @param routePlan route plan
+     */
+    public void put(final String sql, final RoutePlan routePlan) {
+        cache.put(sql, routePlan);
+    }
+    
+    /**
+     * Get route plan.
+     *
+     * @param sql logic SQL
+     * @return route plan
+     */
+    public RoutePlan getRoutePlan(final String sql) {
+        return cache.getIfPresent(sql);
+    }
+    
+    /**
+     * Get cached entry count.
+     *
+     * @return cached entry count
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
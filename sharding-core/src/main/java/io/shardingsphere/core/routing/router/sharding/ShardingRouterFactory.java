@@ -21,6 +21,7 @@ import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -46,7 +47,23 @@ public final class ShardingRouterFactory {
      */
     public static ShardingRouter createSQLRouter(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, 
                                                  final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+        return createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, null);
+    }
+    
+    /**
+     * Create sharding router with parsing result cache.
+     * 
+     * @param shardingRule sharding rule
+     * @param shardingTableMetaData sharding table meta data
+     * @param databaseType database type
+     * @param showSQL show SQL or not
+     * @param shardingDataSourceMetaData sharding data source meta data
+     * @param parsingResultCache parsing result cache
+     * @return sharding router instance
+     */
+    public static ShardingRouter createSQLRouter(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, final DatabaseType databaseType, 
+                                                 final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData, final ParsingResultCache parsingResultCache) {
         return HintManagerHolder.isDatabaseShardingOnly() ? new DatabaseHintSQLRouter(shardingRule, showSQL)
-                : new ParsingSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData);
+                : new ParsingSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, parsingResultCache);
     }
 }
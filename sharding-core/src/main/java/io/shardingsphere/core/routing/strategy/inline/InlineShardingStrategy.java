@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.routing.strategy.inline;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import groovy.lang.Closure;
 import groovy.util.Expando;
@@ -25,6 +26,7 @@ import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
 import io.shardingsphere.core.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
 import io.shardingsphere.core.routing.strategy.ShardingStrategy;
+import io.shardingsphere.core.util.CompiledInlineExpression;
 import io.shardingsphere.core.util.InlineExpressionParser;
 
 import java.util.ArrayList;
@@ -44,12 +46,15 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     
     private final Closure<?> closure;
     
+    private final CompiledInlineExpression compiledExpression;
+    
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
         String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
         closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        compiledExpression = CompiledInlineExpression.compile(algorithmExpression).orNull();
     }
     
     @Override
@@ -80,6 +85,12 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     }
     
     private String execute(final PreciseShardingValue shardingValue) {
+        if (null != compiledExpression) {
+            Optional<String> compiledResult = compiledExpression.evaluate(shardingValue.getColumnName(), shardingValue.getValue());
+            if (compiledResult.isPresent()) {
+                return compiledResult.get();
+            }
+        }
         Closure<?> result = closure.rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
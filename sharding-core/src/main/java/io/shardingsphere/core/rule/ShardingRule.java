@@ -25,6 +25,7 @@ import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.api.config.TableRuleConfiguration;
 import io.shardingsphere.core.exception.ShardingConfigurationException;
 import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.keygen.BatchKeyGenerator;
 import io.shardingsphere.core.keygen.DefaultKeyGenerator;
 import io.shardingsphere.core.keygen.KeyGenerator;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
@@ -32,12 +33,17 @@ import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.routing.strategy.ShardingStrategyFactory;
 import io.shardingsphere.core.routing.strategy.none.NoneShardingStrategy;
 import io.shardingsphere.core.util.StringUtil;
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 /**
@@ -66,20 +72,35 @@ public final class ShardingRule {
     
     private final Collection<MasterSlaveRule> masterSlaveRules = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRules = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> logicTableShardingColumns = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> logicIndexLogicTables = new HashMap<>();
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkNotNull(dataSourceNames, "Data sources cannot be null.");
         Preconditions.checkArgument(!dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.shardingRuleConfig = shardingRuleConfig;
         shardingDataSourceNames = new ShardingDataSourceNames(shardingRuleConfig, dataSourceNames);
         for (TableRuleConfiguration each : shardingRuleConfig.getTableRuleConfigs()) {
-            tableRules.add(new TableRule(each, shardingDataSourceNames));
+            addTableRule(new TableRule(each, shardingDataSourceNames));
         }
         for (String group : shardingRuleConfig.getBindingTableGroups()) {
             List<TableRule> tableRulesForBinding = new LinkedList<>();
             for (String logicTableNameForBindingTable : StringUtil.splitWithComma(group)) {
                 tableRulesForBinding.add(getTableRuleByLogicTableName(logicTableNameForBindingTable));
             }
-            bindingTableRules.add(new BindingTableRule(tableRulesForBinding));
+            addBindingTableRule(new BindingTableRule(tableRulesForBinding));
         }
         defaultDatabaseShardingStrategy = null == shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig()
                 ? new NoneShardingStrategy() : ShardingStrategyFactory.newInstance(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
@@ -91,6 +112,39 @@ public final class ShardingRule {
         }
     }
     
+    private void addTableRule(final TableRule tableRule) {
+        tableRules.add(tableRule);
+        putIfAbsent(logicTableRules, tableRule.getLogicTable(), tableRule);
+        for (DataNode each : tableRule.getActualDataNodes()) {
+            putIfAbsent(actualTableRules, each.getTableName().toLowerCase(), tableRule);
+        }
+        if (!logicTableShardingColumns.containsKey(tableRule.getLogicTable())) {
+            logicTableShardingColumns.put(tableRule.getLogicTable(), new HashSet<String>());
+        }
+        if (null != tableRule.getDatabaseShardingStrategy()) {
+            logicTableShardingColumns.get(tableRule.getLogicTable()).addAll(tableRule.getDatabaseShardingStrategy().getShardingColumns());
+        }
+        if (null != tableRule.getTableShardingStrategy()) {
+            logicTableShardingColumns.get(tableRule.getLogicTable()).addAll(tableRule.getTableShardingStrategy().getShardingColumns());
+        }
+        if (null != tableRule.getLogicIndex()) {
+            putIfAbsent(logicIndexLogicTables, tableRule.getLogicIndex(), tableRule.getLogicTable());
+        }
+    }
+    
+    private void addBindingTableRule(final BindingTableRule bindingTableRule) {
+        bindingTableRules.add(bindingTableRule);
+        for (String each : bindingTableRule.getAllLogicTables()) {
+            putIfAbsent(logicTableBindingTableRules, each, bindingTableRule);
+        }
+    }
+    
+    private <T> void putIfAbsent(final Map<String, T> map, final String key, final T value) {
+        if (!map.containsKey(key)) {
+            map.put(key, value);
+        }
+    }
+    
     /**
      * Try to find table rule though logic table name.
      * 
@@ -98,12 +152,15 @@ public final class ShardingRule {
      * @return table rule
      */
     public Optional<TableRule> tryFindTableRuleByLogicTable(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equals(logicTableName.toLowerCase())) {
-                return Optional.of(each);
-            }
+        return Optional.fromNullable(getIgnoreCase(logicTableRules, logicTableName));
+    }
+    
+    private <T> T getIgnoreCase(final Map<String, T> map, final String key) {
+        if (null == key) {
+            return null;
         }
-        return Optional.absent();
+        T result = map.get(key);
+        return null == result ? map.get(key.toLowerCase()) : result;
     }
     
     /**
@@ -113,12 +170,7 @@ public final class ShardingRule {
      * @return table rule
      */
     public Optional<TableRule> tryFindTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(getIgnoreCase(actualTableRules, actualTableName));
     }
     
     /**
@@ -224,12 +276,7 @@ public final class ShardingRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTable) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTable)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable(getIgnoreCase(logicTableBindingTableRules, logicTable));
     }
     
     /**
@@ -242,18 +289,8 @@ public final class ShardingRule {
         if (defaultDatabaseShardingStrategy.getShardingColumns().contains(column.getName()) || defaultTableShardingStrategy.getShardingColumns().contains(column.getName())) {
             return true;
         }
-        for (TableRule each : tableRules) {
-            if (!each.getLogicTable().equalsIgnoreCase(column.getTableName())) {
-                continue;
-            }
-            if (null != each.getDatabaseShardingStrategy() && each.getDatabaseShardingStrategy().getShardingColumns().contains(column.getName())) {
-                return true;
-            }
-            if (null != each.getTableShardingStrategy() && each.getTableShardingStrategy().getShardingColumns().contains(column.getName())) {
-                return true;
-            }
-        }
-        return false;
+        Collection<String> shardingColumns = getIgnoreCase(logicTableShardingColumns, column.getTableName());
+        return null != shardingColumns && shardingColumns.contains(column.getName());
     }
     
     /**
@@ -263,12 +300,8 @@ public final class ShardingRule {
      * @return generated key's column
      */
     public Optional<Column> getGenerateKeyColumn(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName) && null != each.getGenerateKeyColumn()) {
-                return Optional.of(new Column(each.getGenerateKeyColumn(), logicTableName));
-            }
-        }
-        return Optional.absent();
+        TableRule tableRule = getIgnoreCase(logicTableRules, logicTableName);
+        return null == tableRule || null == tableRule.getGenerateKeyColumn() ? Optional.<Column>absent() : Optional.of(new Column(tableRule.getGenerateKeyColumn(), logicTableName));
     }
     
     /**
@@ -278,14 +311,39 @@ public final class ShardingRule {
      * @return generated key
      */
     public Number generateKey(final String logicTableName) {
+        return getKeyGenerator(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     * 
+     * <p>Generate keys in one call if key generator is batch key generator.</p>
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys to be generated
+     * @return generated keys
+     */
+    public List<Number> generateKeys(final String logicTableName, final int count) {
+        KeyGenerator keyGenerator = getKeyGenerator(logicTableName);
+        if (0 == count) {
+            return Collections.emptyList();
+        }
+        if (keyGenerator instanceof BatchKeyGenerator) {
+            return ((BatchKeyGenerator) keyGenerator).generateKeys(count);
+        }
+        List<Number> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(keyGenerator.generateKey());
+        }
+        return result;
+    }
+    
+    private KeyGenerator getKeyGenerator(final String logicTableName) {
         Optional<TableRule> tableRule = tryFindTableRuleByLogicTable(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingConfigurationException("Cannot find strategy for generate keys.");
         }
-        if (null != tableRule.get().getKeyGenerator()) {
-            return tableRule.get().getKeyGenerator().generateKey();
-        }
-        return defaultKeyGenerator.generateKey();
+        return null == tableRule.get().getKeyGenerator() ? defaultKeyGenerator : tableRule.get().getKeyGenerator();
     }
     
     /**
@@ -295,10 +353,9 @@ public final class ShardingRule {
      * @return logic table name
      */
     public String getLogicTableName(final String logicIndexName) {
-        for (TableRule each : tableRules) {
-            if (logicIndexName.equals(each.getLogicIndex())) {
-                return each.getLogicTable();
-            }
+        String result = logicIndexLogicTables.get(logicIndexName);
+        if (null != result) {
+            return result;
         }
         throw new ShardingConfigurationException("Cannot find logic table name with logic index name: '%s'", logicIndexName);
     }
@@ -24,15 +24,21 @@ import io.shardingsphere.core.keygen.KeyGenerator;
 import io.shardingsphere.core.routing.strategy.ShardingStrategy;
 import io.shardingsphere.core.routing.strategy.ShardingStrategyFactory;
 import io.shardingsphere.core.util.InlineExpressionParser;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Table rule configuration.
@@ -40,7 +46,7 @@ import java.util.Map;
  * @author zhangliang
  */
 @Getter
-@ToString
+@ToString(exclude = {"actualDatasourceNames", "actualTableNamesMap", "actualTableIndexMap", "lowerCaseActualTableNames"})
 public final class TableRule {
     
     private final String logicTable;
@@ -57,6 +63,18 @@ public final class TableRule {
     
     private final String logicIndex;
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> actualDatasourceNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Set<String>> actualTableNamesMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Integer> actualTableIndexMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Set<String> lowerCaseActualTableNames;
+    
     public TableRule(final TableRuleConfiguration tableRuleConfig, final ShardingDataSourceNames shardingDataSourceNames) {
         Preconditions.checkNotNull(tableRuleConfig.getLogicTable(), "Logic table cannot be null.");
         logicTable = tableRuleConfig.getLogicTable().toLowerCase();
@@ -68,6 +86,10 @@ public final class TableRule {
         generateKeyColumn = tableRuleConfig.getKeyGeneratorColumnName();
         keyGenerator = tableRuleConfig.getKeyGenerator();
         logicIndex = null == tableRuleConfig.getLogicIndex() ? null : tableRuleConfig.getLogicIndex().toLowerCase();
+        actualDatasourceNames = createActualDatasourceNames();
+        actualTableNamesMap = createActualTableNamesMap();
+        actualTableIndexMap = createActualTableIndexMap();
+        lowerCaseActualTableNames = createLowerCaseActualTableNames();
     }
     
     private boolean isEmptyDataNodes(final List<String> dataNodes) {
@@ -75,7 +97,7 @@ public final class TableRule {
     }
     
     private List<DataNode> generateDataNodes(final String logicTable, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
+        List<DataNode> result = new ArrayList<>(dataSourceNames.size());
         for (String each : dataSourceNames) {
             result.add(new DataNode(each, logicTable));
         }
@@ -83,7 +105,7 @@ public final class TableRule {
     }
     
     private List<DataNode> generateDataNodes(final List<String> actualDataNodes, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
+        List<DataNode> result = new ArrayList<>(actualDataNodes.size());
         for (String each : actualDataNodes) {
             DataNode dataNode = new DataNode(each);
             if (!dataSourceNames.contains(dataNode.getDataSourceName())) {
@@ -94,6 +116,53 @@ public final class TableRule {
         return result;
     }
     
+    private Collection<String> createActualDatasourceNames() {
+        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
+        for (DataNode each : actualDataNodes) {
+            result.add(each.getDataSourceName());
+        }
+        return Collections.unmodifiableCollection(result);
+    }
+    
+    private Map<String, Set<String>> createActualTableNamesMap() {
+        Map<String, Set<String>> result = new HashMap<>(actualDatasourceNames.size(), 1);
+        for (DataNode each : actualDataNodes) {
+            if (!result.containsKey(each.getDataSourceName())) {
+                result.put(each.getDataSourceName(), new LinkedHashSet<String>());
+            }
+            result.get(each.getDataSourceName()).add(each.getTableName());
+        }
+        for (Map.Entry<String, Set<String>> entry : result.entrySet()) {
+            entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+        }
+        return result;
+    }
+    
+    private Map<String, Integer> createActualTableIndexMap() {
+        Map<String, Integer> result = new HashMap<>(actualDataNodes.size(), 1);
+        int index = 0;
+        for (DataNode each : actualDataNodes) {
+            String key = getActualTableIndexKey(each.getDataSourceName(), each.getTableName());
+            if (!result.containsKey(key)) {
+                result.put(key, index);
+            }
+            index++;
+        }
+        return result;
+    }
+    
+    private String getActualTableIndexKey(final String dataSourceName, final String actualTableName) {
+        return (dataSourceName + "." + actualTableName).toLowerCase();
+    }
+    
+    private Set<String> createLowerCaseActualTableNames() {
+        Set<String> result = new HashSet<>(actualDataNodes.size(), 1);
+        for (DataNode each : actualDataNodes) {
+            result.add(each.getTableName().toLowerCase());
+        }
+        return result;
+    }
+    
     /**
      * Get data node groups.
      * 
@@ -117,11 +186,7 @@ public final class TableRule {
      * @return actual data source names
      */
     public Collection<String> getActualDatasourceNames() {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            result.add(each.getDataSourceName());
-        }
-        return result;
+        return actualDatasourceNames;
     }
     
     /**
@@ -131,32 +196,16 @@ public final class TableRule {
      * @return names of actual tables
      */
     public Collection<String> getActualTableNames(final String targetDataSource) {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            if (targetDataSource.equals(each.getDataSourceName())) {
-                result.add(each.getTableName());
-            }
-        }
-        return result;
+        Set<String> result = actualTableNamesMap.get(targetDataSource);
+        return null == result ? Collections.<String>emptySet() : result;
     }
     
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
-        int result = 0;
-        for (DataNode each : actualDataNodes) {
-            if (each.getDataSourceName().equalsIgnoreCase(dataSourceName) && each.getTableName().equalsIgnoreCase(actualTableName)) {
-                return result;
-            }
-            result++;
-        }
-        return -1;
+        Integer result = actualTableIndexMap.get(getActualTableIndexKey(dataSourceName, actualTableName));
+        return null == result ? -1 : result;
     }
     
     boolean isExisted(final String actualTableName) {
-        for (DataNode each : actualDataNodes) {
-            if (each.getTableName().equalsIgnoreCase(actualTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return null != actualTableName && lowerCaseActualTableNames.contains(actualTableName.toLowerCase());
     }
 }
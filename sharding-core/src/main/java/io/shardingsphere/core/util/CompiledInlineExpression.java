@@ -0,0 +1,150 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>
+ * Evaluate common inline sharding expressions without groovy runtime, 
+ * such as {@code t_order_${order_id % 16}}, {@code ds_${user_id.intdiv(4)}} and {@code ds_${user_id.hashCode() % 4}}.
+ * Result is same as evaluated by groovy closure, use groovy closure instead if expression cannot be compiled or value cannot be evaluated.
+ * </p>
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final Pattern TERM_PATTERN = Pattern.compile("([A-Za-z_][A-Za-z0-9_]*)(\\.hashCode\\(\\))?(?:\\s*%\\s*([1-9][0-9]{0,8})|\\.intdiv\\(\\s*([1-9][0-9]{0,8})\\s*\\))?");
+    
+    private final List<String> literals;
+    
+    private final List<Term> terms;
+    
+    /**
+     * Compile inline expression.
+     * 
+     * @param inlineExpression inline expression
+     * @return compiled inline expression, absent if inline expression cannot be compiled
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        Optional<InlineExpressionTemplate> template = InlineExpressionTemplate.parse(inlineExpression);
+        if (!template.isPresent()) {
+            return Optional.absent();
+        }
+        List<Term> terms = new ArrayList<>(template.get().getPlaceholders().size());
+        for (String each : template.get().getPlaceholders()) {
+            Matcher matcher = TERM_PATTERN.matcher(each);
+            if (!matcher.matches() || "it".equals(matcher.group(1))) {
+                return Optional.absent();
+            }
+            terms.add(createTerm(matcher));
+        }
+        return Optional.of(new CompiledInlineExpression(template.get().getLiterals(), terms));
+    }
+    
+    private static Term createTerm(final Matcher matcher) {
+        boolean isHashCode = null != matcher.group(2);
+        if (null != matcher.group(3)) {
+            return new Term(matcher.group(1), isHashCode, Operator.MODULO, Integer.parseInt(matcher.group(3)));
+        }
+        if (null != matcher.group(4)) {
+            return new Term(matcher.group(1), isHashCode, Operator.INTDIV, Integer.parseInt(matcher.group(4)));
+        }
+        return new Term(matcher.group(1), isHashCode, Operator.NONE, 0);
+    }
+    
+    /**
+     * Evaluate expression with sharding value.
+     * 
+     * @param columnName column name of sharding value
+     * @param value sharding value
+     * @return evaluated result, absent if value cannot be evaluated without groovy runtime
+     */
+    public Optional<String> evaluate(final String columnName, final Object value) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < terms.size(); i++) {
+            result.append(literals.get(i));
+            if (!terms.get(i).appendTo(result, columnName, value)) {
+                return Optional.absent();
+            }
+        }
+        return Optional.of(result.append(literals.get(terms.size())).toString());
+    }
+    
+    private enum Operator {
+        
+        NONE, MODULO, INTDIV
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Term {
+        
+        private final String columnName;
+        
+        private final boolean isHashCode;
+        
+        private final Operator operator;
+        
+        private final int operand;
+        
+        private boolean appendTo(final StringBuilder builder, final String columnName, final Object value) {
+            if (!this.columnName.equals(columnName) || null == value) {
+                return false;
+            }
+            if (isHashCode) {
+                builder.append(calculate(value.hashCode()));
+                return true;
+            }
+            if (Operator.NONE == operator && (value instanceof String || isIntegral(value))) {
+                builder.append(value);
+                return true;
+            }
+            if (Operator.NONE != operator && isIntegral(value)) {
+                builder.append(calculate(((Number) value).longValue()));
+                return true;
+            }
+            return false;
+        }
+        
+        private boolean isIntegral(final Object value) {
+            return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+        }
+        
+        private long calculate(final long value) {
+            switch (operator) {
+                case MODULO:
+                    return value % operand;
+                case INTDIV:
+                    return value / operand;
+                default:
+                    return value;
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package io.shardingsphere.core.util;
 
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
@@ -31,9 +32,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Inline expression parser.
@@ -50,6 +54,12 @@ public final class InlineExpressionParser {
     
     private static final GroovyShell SHELL = new GroovyShell();
     
+    private static final String INTEGER_REGEX = "0|[1-9][0-9]{0,17}";
+    
+    private static final Pattern RANGE_PATTERN = Pattern.compile(String.format("(%s)\\s*\\.\\.(<?)\\s*(%s)", INTEGER_REGEX, INTEGER_REGEX));
+    
+    private static final Pattern LITERAL_PATTERN = Pattern.compile(String.format("%s|'[^'\\\\]*'", INTEGER_REGEX));
+    
     private final String inlineExpression;
     
     /**
@@ -71,7 +81,12 @@ public final class InlineExpressionParser {
         if (null == inlineExpression) {
             return Collections.emptyList();
         }
-        return flatten(evaluate(split()));
+        List<String> result = new ArrayList<>();
+        for (String each : split()) {
+            Optional<List<String>> compiledResult = evaluateWithoutGroovy(handlePlaceHolder(each));
+            result.addAll(compiledResult.isPresent() ? compiledResult.get() : flatten(evaluate(Collections.singletonList(each))));
+        }
+        return result;
     }
     
     /**
@@ -83,6 +98,65 @@ public final class InlineExpressionParser {
         return (Closure) evaluate(Joiner.on("").join("{it -> \"", inlineExpression, "\"}"));
     }
     
+    private Optional<List<String>> evaluateWithoutGroovy(final String inlineExpression) {
+        Optional<InlineExpressionTemplate> template = InlineExpressionTemplate.parse(inlineExpression);
+        if (!template.isPresent()) {
+            return Optional.absent();
+        }
+        List<Set<String>> placeholderValues = new ArrayList<>(template.get().getPlaceholders().size());
+        for (String each : template.get().getPlaceholders()) {
+            Optional<Set<String>> values = evaluatePlaceholder(each);
+            if (!values.isPresent()) {
+                return Optional.absent();
+            }
+            placeholderValues.add(values.get());
+        }
+        Set<List<String>> cartesianValues = Sets.cartesianProduct(placeholderValues);
+        List<String> result = new ArrayList<>(cartesianValues.size());
+        for (List<String> each : cartesianValues) {
+            result.add(template.get().assemble(each));
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Set<String>> evaluatePlaceholder(final String placeholder) {
+        Matcher rangeMatcher = RANGE_PATTERN.matcher(placeholder);
+        if (rangeMatcher.matches()) {
+            return evaluateRange(Long.parseLong(rangeMatcher.group(1)), Long.parseLong(rangeMatcher.group(3)), rangeMatcher.group(2).isEmpty());
+        }
+        if (placeholder.startsWith("[") && placeholder.endsWith("]")) {
+            return evaluateList(placeholder.substring(1, placeholder.length() - 1).trim());
+        }
+        return evaluateList(placeholder);
+    }
+    
+    private Optional<Set<String>> evaluateRange(final long begin, final long end, final boolean isInclusive) {
+        if (begin > end) {
+            return Optional.absent();
+        }
+        long exclusiveEnd = isInclusive ? end + 1 : end;
+        Set<String> result = new LinkedHashSet<>();
+        for (long i = begin; i < exclusiveEnd; i++) {
+            result.add(String.valueOf(i));
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Set<String>> evaluateList(final String listItems) {
+        Set<String> result = new LinkedHashSet<>();
+        if (listItems.isEmpty()) {
+            return Optional.of(result);
+        }
+        for (String each : StringUtil.splitWithComma(listItems)) {
+            String literal = each.trim();
+            if (!LITERAL_PATTERN.matcher(literal).matches()) {
+                return Optional.absent();
+            }
+            result.add(literal.startsWith("'") ? literal.substring(1, literal.length() - 1) : literal);
+        }
+        return Optional.of(result);
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
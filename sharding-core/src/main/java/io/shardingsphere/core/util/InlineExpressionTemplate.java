@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inline expression template.
+ * 
+ * <p>
+ * Template is split to literals and placeholders, placeholder is the expression inside {@code ${}} or {@code $->{}}.
+ * Count of literals is always count of placeholders plus one.
+ * Only simple GString is supported, which has no quotes, escapes or nested placeholders.
+ * </p>
+ * 
+ * @author agent
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class InlineExpressionTemplate {
+    
+    private final List<String> literals;
+    
+    private final List<String> placeholders;
+    
+    /**
+     * Parse inline expression to template.
+     * 
+     * @param inlineExpression inline expression
+     * @return inline expression template, absent if inline expression is not simple GString
+     */
+    public static Optional<InlineExpressionTemplate> parse(final String inlineExpression) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < inlineExpression.length()) {
+            char each = inlineExpression.charAt(position);
+            if ('"' == each || '\\' == each) {
+                return Optional.absent();
+            }
+            if ('$' != each) {
+                literal.append(each);
+                position++;
+                continue;
+            }
+            int placeholderBeginPosition = getPlaceholderBeginPosition(inlineExpression, position);
+            int placeholderEndPosition = inlineExpression.indexOf('}', placeholderBeginPosition);
+            if (-1 == placeholderBeginPosition || -1 == placeholderEndPosition) {
+                return Optional.absent();
+            }
+            String placeholder = inlineExpression.substring(placeholderBeginPosition, placeholderEndPosition);
+            if (placeholder.contains("{") || placeholder.contains("\"") || placeholder.contains("$")) {
+                return Optional.absent();
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            placeholders.add(placeholder.trim());
+            position = placeholderEndPosition + 1;
+        }
+        literals.add(literal.toString());
+        return Optional.of(new InlineExpressionTemplate(literals, placeholders));
+    }
+    
+    private static int getPlaceholderBeginPosition(final String inlineExpression, final int dollarPosition) {
+        if (inlineExpression.startsWith("${", dollarPosition)) {
+            return dollarPosition + 2;
+        }
+        if (inlineExpression.startsWith("$->{", dollarPosition)) {
+            return dollarPosition + 4;
+        }
+        return -1;
+    }
+    
+    /**
+     * Assemble template with placeholder values.
+     * 
+     * @param placeholderValues values of placeholders, must be same order with placeholders
+     * @return assembled string
+     */
+    public String assemble(final List<String> placeholderValues) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < placeholders.size(); i++) {
+            result.append(literals.get(i)).append(placeholderValues.get(i));
+        }
+        return result.append(literals.get(placeholders.size())).toString();
+    }
+}
@@ -19,11 +19,19 @@ package io.shardingsphere.core.util;
 
 import com.google.common.base.CharMatcher;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.lexer.LexerEngine;
+import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
 import io.shardingsphere.core.parsing.lexer.dialect.mysql.MySQLKeyword;
 import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.lexer.token.Symbol;
+import io.shardingsphere.core.parsing.lexer.token.TokenType;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
 /**
  * SQL utility class.
  * 
@@ -71,4 +79,66 @@ public class SQLUtil {
             return value;
         }
     }
+    
+    /**
+     * Split SQL with multiple statements into single statements.
+     * 
+     * <p>Statements are split by semicolons out of literals, comments and compound statement bodies of CREATE statements, empty statements are ignored.</p>
+     *
+     * @param sql SQL which may contain multiple statements
+     * @param databaseType database type
+     * @return single statements
+     */
+    public static List<String> splitStatements(final String sql, final DatabaseType databaseType) {
+        if (-1 == sql.indexOf(';')) {
+            return Collections.singletonList(sql);
+        }
+        List<String> result = new LinkedList<>();
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
+        int beginPosition = 0;
+        TokenType previousTokenType = null;
+        boolean createStatement = false;
+        int blockDepth = 0;
+        lexerEngine.nextToken();
+        while (!lexerEngine.isEnd()) {
+            TokenType tokenType = lexerEngine.getCurrentToken().getType();
+            if (Symbol.SEMI == tokenType && blockDepth <= 0) {
+                addStatement(sql.substring(beginPosition, lexerEngine.getCurrentToken().getEndPosition() - 1), result);
+                beginPosition = lexerEngine.getCurrentToken().getEndPosition();
+                previousTokenType = null;
+                blockDepth = 0;
+            } else {
+                if (null == previousTokenType) {
+                    createStatement = DefaultKeyword.CREATE == tokenType;
+                } else if (createStatement) {
+                    blockDepth += getBlockDepthDelta(previousTokenType, tokenType);
+                }
+                previousTokenType = tokenType;
+            }
+            lexerEngine.nextToken();
+        }
+        addStatement(sql.substring(beginPosition), result);
+        return result;
+    }
+    
+    private static int getBlockDepthDelta(final TokenType previousTokenType, final TokenType tokenType) {
+        if (DefaultKeyword.BEGIN == tokenType) {
+            return 1;
+        }
+        if (DefaultKeyword.END == tokenType) {
+            return -1;
+        }
+        if (DefaultKeyword.CASE == tokenType) {
+            return DefaultKeyword.END == previousTokenType ? 0 : 1;
+        }
+        boolean flowControlKeyword = DefaultKeyword.IF == tokenType || DefaultKeyword.LOOP == tokenType || DefaultKeyword.WHILE == tokenType || DefaultKeyword.REPEAT == tokenType;
+        return DefaultKeyword.END == previousTokenType && flowControlKeyword ? 1 : 0;
+    }
+    
+    private static void addStatement(final String statement, final List<String> statements) {
+        String result = statement.trim();
+        if (!result.isEmpty()) {
+            statements.add(result);
+        }
+    }
 }
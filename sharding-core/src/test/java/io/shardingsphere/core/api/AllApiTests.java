@@ -21,6 +21,9 @@ import io.shardingsphere.core.api.algorithm.common.ShardingStrategyTest;
 import io.shardingsphere.core.api.algorithm.masterslave.RandomMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.core.api.algorithm.masterslave.RoundRobinMasterSlaveLoadBalanceAlgorithmTest;
 import io.shardingsphere.core.api.algorithm.sharding.DatabaseShardingStrategyTest;
+import io.shardingsphere.core.api.algorithm.sharding.standard.BoundaryRangeShardingAlgorithmTest;
+import io.shardingsphere.core.api.algorithm.sharding.standard.TimeIntervalShardingAlgorithmTest;
+import io.shardingsphere.core.api.algorithm.sharding.standard.VolumeRangeShardingAlgorithmTest;
 import io.shardingsphere.core.api.algorithm.table.TableShardingStrategyTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -30,6 +33,9 @@ import org.junit.runners.Suite;
         ShardingStrategyTest.class, 
         DatabaseShardingStrategyTest.class, 
         TableShardingStrategyTest.class, 
+        VolumeRangeShardingAlgorithmTest.class, 
+        BoundaryRangeShardingAlgorithmTest.class, 
+        TimeIntervalShardingAlgorithmTest.class, 
         RoundRobinMasterSlaveLoadBalanceAlgorithmTest.class, 
         RandomMasterSlaveLoadBalanceAlgorithmTest.class, 
         HintManagerTest.class
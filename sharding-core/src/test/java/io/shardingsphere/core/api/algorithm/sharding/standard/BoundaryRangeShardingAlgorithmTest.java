@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.sharding.standard;
+
+import com.google.common.collect.Range;
+import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BoundaryRangeShardingAlgorithmTest {
+    
+    private final BoundaryRangeShardingAlgorithm shardingAlgorithm = new BoundaryRangeShardingAlgorithm(100L, 1000L);
+    
+    private final Collection<String> availableTargetNames = Arrays.asList("ds_0", "ds_1", "ds_2");
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithoutAscendingBoundaries() {
+        new BoundaryRangeShardingAlgorithm(1000L, 100L);
+    }
+    
+    @Test
+    public void assertDoShardingWithPreciseValue() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "user_id", -5)), is("ds_0"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "user_id", 100)), is("ds_1"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "user_id", "5000")), is("ds_2"));
+    }
+    
+    @Test
+    public void assertDoShardingWithRange() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "user_id", Range.<Comparable<?>>closed(99L, 1000L)));
+        assertThat(actual.size(), is(3));
+        actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "user_id", Range.<Comparable<?>>closedOpen(100L, 1000L)));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.contains("ds_1"));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.sharding.standard;
+
+import com.google.common.collect.Range;
+import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
+import io.shardingsphere.core.exception.ShardingException;
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TimeIntervalShardingAlgorithmTest {
+    
+    private final TimeIntervalShardingAlgorithm shardingAlgorithm = new TimeIntervalShardingAlgorithm("yyyyMM");
+    
+    private final Collection<String> availableTargetNames = Arrays.asList("t_order_201801", "t_order_201802", "t_order_201803");
+    
+    @Test
+    public void assertDoShardingWithTextValue() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2018-02-15 10:00:00")), is("t_order_201802"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2018-03-01")), is("t_order_201803"));
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "2018-04-01")));
+    }
+    
+    @Test
+    public void assertDoShardingWithDateValue() throws ParseException {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<Comparable<?>>("t_order", "create_time", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse("2018-01-31 23:59:59"))), is("t_order_201801"));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertDoShardingWithInvalidValue() {
+        shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "create_time", "invalid"));
+    }
+    
+    @Test
+    public void assertDoShardingWithRange() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", Range.<Comparable<?>>closedOpen("2018-02-01 00:00:00", "2018-03-01 00:00:00")));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.contains("t_order_201802"));
+        actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "create_time", Range.<Comparable<?>>atMost("2018-02-01")));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("t_order_201801"));
+        assertTrue(actual.contains("t_order_201802"));
+    }
+    
+    @Test
+    public void assertDoShardingWithDailyInterval() {
+        TimeIntervalShardingAlgorithm dailyShardingAlgorithm = new TimeIntervalShardingAlgorithm("yyyyMMdd");
+        Collection<String> dailyTargetNames = Arrays.asList("t_log_20180131", "t_log_20180201", "t_log_20180202");
+        Collection<String> actual = dailyShardingAlgorithm.doSharding(dailyTargetNames,
+                new RangeShardingValue<>("t_log", "create_time", Range.<Comparable<?>>closed("2018-01-31 12:00:00", "2018-02-01 12:00:00")));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("t_log_20180131"));
+        assertTrue(actual.contains("t_log_20180201"));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithQuotedSuffixPattern() {
+        new TimeIntervalShardingAlgorithm("yyyy'Q'MM");
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithWeekSuffixPattern() {
+        new TimeIntervalShardingAlgorithm("yyyyww");
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithNonConsecutiveSuffixPattern() {
+        new TimeIntervalShardingAlgorithm("yyyyMMss");
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.api.algorithm.sharding.standard;
+
+import com.google.common.collect.Range;
+import io.shardingsphere.core.api.algorithm.sharding.PreciseShardingValue;
+import io.shardingsphere.core.api.algorithm.sharding.RangeShardingValue;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class VolumeRangeShardingAlgorithmTest {
+    
+    private final VolumeRangeShardingAlgorithm shardingAlgorithm = new VolumeRangeShardingAlgorithm(10000L);
+    
+    private final Collection<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2");
+    
+    @Test
+    public void assertDoShardingWithPreciseValue() {
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 15000L)), is("t_order_1"));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 20000)), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertDoShardingWithPreciseValueOutOfRange() {
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<Comparable<?>>("t_order", "order_id", 30000L)));
+    }
+    
+    @Test
+    public void assertDoShardingWithClosedRange() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.<Comparable<?>>closed(5000L, 15000L)));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.contains("t_order_0"));
+        assertTrue(actual.contains("t_order_1"));
+    }
+    
+    @Test
+    public void assertDoShardingWithOpenRange() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.<Comparable<?>>open(9999L, 20000L)));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.contains("t_order_1"));
+    }
+    
+    @Test
+    public void assertDoShardingWithUnboundedRange() {
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.<Comparable<?>>atLeast(25000L)));
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.contains("t_order_2"));
+    }
+    
+    @Test(expected = ArithmeticException.class)
+    public void assertGetIntervalWithOverflowSuffix() {
+        shardingAlgorithm.getInterval("t_order_1000000000000000");
+    }
+}
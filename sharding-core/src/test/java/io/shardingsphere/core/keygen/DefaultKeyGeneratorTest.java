@@ -17,16 +17,20 @@
 
 package io.shardingsphere.core.keygen;
 
+import io.shardingsphere.core.keygen.fixture.BackwardsTimeService;
 import io.shardingsphere.core.keygen.fixture.FixedTimeService;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -69,6 +73,73 @@ public final class DefaultKeyGeneratorTest {
         return result;
     }
     
+    @Test
+    public void assertGenerateKeys() {
+        DefaultKeyGenerator.setTimeService(new FixedTimeService(1 << 13));
+        List<Number> actual = new DefaultKeyGenerator().generateKeys(5000);
+        assertThat(actual.size(), is(5000));
+        assertThat(actual.get(0).longValue(), is(0L));
+        assertThat(actual.get(4095).longValue(), is((1L << 12L) - 1));
+        assertThat(actual.get(4096).longValue(), is(1L << 22));
+        assertThat(actual.get(4999).longValue(), is((1L << 22) + 903));
+        DefaultKeyGenerator.setTimeService(new TimeService());
+    }
+    
+    @Test
+    public void assertGenerateKeysConcurrently() throws ExecutionException, InterruptedException {
+        DefaultKeyGenerator.setTimeService(new TimeService());
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        final DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        List<Future<List<Number>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(new Callable<List<Number>>() {
+                
+                @Override
+                public List<Number> call() {
+                    List<Number> result = new ArrayList<>(1000 + 10);
+                    result.addAll(keyGenerator.generateKeys(1000));
+                    for (int j = 0; j < 10; j++) {
+                        result.add(keyGenerator.generateKey());
+                    }
+                    return result;
+                }
+            }));
+        }
+        Set<Number> generatedKeys = new HashSet<>();
+        for (Future<List<Number>> each : futures) {
+            generatedKeys.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(generatedKeys.size(), is(threadNumber * (1000 + 10)));
+    }
+    
+    @Test
+    public void assertGenerateKeyWhenClockMovingBackwardsTolerated() {
+        DefaultKeyGenerator.setTimeService(new BackwardsTimeService(10L, 5L));
+        DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        assertThat(keyGenerator.generateKey().longValue(), is(10L << 22));
+        assertThat(keyGenerator.generateKey().longValue(), is((10L << 22) + 1));
+        DefaultKeyGenerator.setTimeService(new TimeService());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyWhenClockMovingBackwardsTooMuch() {
+        DefaultKeyGenerator.setTimeService(new BackwardsTimeService(100L, 50L));
+        DefaultKeyGenerator keyGenerator = new DefaultKeyGenerator();
+        keyGenerator.generateKey();
+        try {
+            keyGenerator.generateKey();
+        } finally {
+            DefaultKeyGenerator.setTimeService(new TimeService());
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGenerateKeysFailureWhenCountIsNotPositive() {
+        new DefaultKeyGenerator().generateKeys(0);
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertSetWorkerIdFailureWhenNegative() {
         DefaultKeyGenerator.setWorkerId(-1L);
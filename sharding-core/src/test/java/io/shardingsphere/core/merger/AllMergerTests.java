@@ -26,6 +26,7 @@ import io.shardingsphere.core.merger.dql.DQLMergeEngineTest;
 import io.shardingsphere.core.merger.dql.common.DecoratorMergedResultTest;
 import io.shardingsphere.core.merger.dql.common.MemoryMergedResultTest;
 import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRowTest;
+import io.shardingsphere.core.merger.dql.common.MergedSortedRowsTest;
 import io.shardingsphere.core.merger.dql.common.StreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResultTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByRowComparatorTest;
@@ -35,6 +36,7 @@ import io.shardingsphere.core.merger.dql.groupby.aggregation.AllAggregationTests
 import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.orderby.CompareUtilTest;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResultTest;
+import io.shardingsphere.core.merger.dql.orderby.OrderByValueLoserTreeTest;
 import io.shardingsphere.core.merger.dql.orderby.OrderByValueTest;
 import io.shardingsphere.core.merger.dql.pagination.LimitDecoratorMergedResultTest;
 import io.shardingsphere.core.merger.dql.pagination.RowNumberDecoratorMergedResultTest;
@@ -49,8 +51,10 @@ import org.junit.runners.Suite;
         MemoryMergedResultTest.class, 
         DecoratorMergedResultTest.class, 
         MemoryQueryResultRowTest.class, 
+        MergedSortedRowsTest.class, 
         IteratorStreamMergedResultTest.class, 
         OrderByValueTest.class, 
+        OrderByValueLoserTreeTest.class, 
         OrderByStreamMergedResultTest.class, 
         CompareUtilTest.class, 
         GroupByValueTest.class, 
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import io.shardingsphere.core.merger.QueryResult;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MergedSortedRowsTest {
+    
+    private final Comparator<MemoryQueryResultRow> comparator = new Comparator<MemoryQueryResultRow>() {
+        
+        @Override
+        public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+            return ((Integer) o1.getCell(1)).compareTo((Integer) o2.getCell(1));
+        }
+    };
+    
+    @Test
+    public void assertNextForSpilledSortedRows() throws SQLException {
+        SortedRows actual = new SpilledSortedRows(createRows(1, 3, 5));
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getCurrentRow().getCell(1), is(1));
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getCurrentRow().getCell(1), is(3));
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getCurrentRow().getCell(1), is(5));
+        assertFalse(actual.next());
+        assertNull(actual.getCurrentRow());
+    }
+    
+    @Test
+    public void assertNextForMergedSortedRows() throws SQLException {
+        List<SortedRows> sortedRows = Arrays.asList(new SpilledSortedRows(createRows(1, 4, 7)), new MemorySortedRows(createRows(2, 5)),
+                new SpilledSortedRows(createRows()), new MemorySortedRows(createRows(0, 3, 6, 8)));
+        SortedRows actual = new MergedSortedRows(sortedRows, comparator);
+        List<Integer> actualValues = new ArrayList<>();
+        while (actual.next()) {
+            actualValues.add((Integer) actual.getCurrentRow().getCell(1));
+        }
+        assertThat(actualValues, is(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8)));
+        assertNull(actual.getCurrentRow());
+    }
+    
+    @Test
+    public void assertDeleteSpilledFileAfterLastRowRead() throws SQLException {
+        int originalSpilledFileCount = getSpilledFileCount();
+        SortedRows actual = new SpilledSortedRows(createRows(1, 3));
+        assertThat(getSpilledFileCount(), is(originalSpilledFileCount + 1));
+        assertTrue(actual.next());
+        assertThat(getSpilledFileCount(), is(originalSpilledFileCount + 1));
+        assertTrue(actual.next());
+        assertThat(getSpilledFileCount(), is(originalSpilledFileCount));
+        assertThat((Integer) actual.getCurrentRow().getCell(1), is(3));
+    }
+    
+    @Test
+    public void assertCloseMergedSortedRows() throws SQLException {
+        int originalSpilledFileCount = getSpilledFileCount();
+        List<SortedRows> sortedRows = Arrays.asList(new SpilledSortedRows(createRows(1, 4, 7)), new SpilledSortedRows(createRows(2, 5)), new MemorySortedRows(createRows(0, 3)));
+        SortedRows actual = new MergedSortedRows(sortedRows, comparator);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertThat(getSpilledFileCount(), is(originalSpilledFileCount + 2));
+        actual.close();
+        assertThat(getSpilledFileCount(), is(originalSpilledFileCount));
+        assertNull(actual.getCurrentRow());
+    }
+    
+    private int getSpilledFileCount() {
+        File[] result = new File(System.getProperty("java.io.tmpdir")).listFiles(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-sphere-merge-") && name.endsWith(".spill");
+            }
+        });
+        return null == result ? 0 : result.length;
+    }
+    
+    private List<MemoryQueryResultRow> createRows(final int... values) throws SQLException {
+        List<MemoryQueryResultRow> result = new ArrayList<>(values.length);
+        for (int each : values) {
+            QueryResult queryResult = mock(QueryResult.class);
+            when(queryResult.getColumnCount()).thenReturn(1);
+            when(queryResult.getValue(1, Object.class)).thenReturn(each);
+            result.add(new MemoryQueryResultRow(queryResult));
+        }
+        return result;
+    }
+}
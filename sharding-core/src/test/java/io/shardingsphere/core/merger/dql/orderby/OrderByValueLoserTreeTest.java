@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.orderby;
+
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.fixture.TestQueryResult;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertIsEmptyWithoutOrderByValues() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.<OrderByValue>emptyList());
+        assertTrue(actual.isEmpty());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForSingleOrderByValue() throws SQLException {
+        assertThat(merge(OrderDirection.ASC, new int[] {1, 2, 3}), is(Arrays.asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertNextForAsc() throws SQLException {
+        List<Integer> actual = merge(OrderDirection.ASC, new int[] {1, 4, 7}, new int[] {2, 2, 9}, new int[0], new int[] {0, 5}, new int[] {3, 6, 8, 10});
+        assertThat(actual, is(Arrays.asList(0, 1, 2, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+    }
+    
+    @Test
+    public void assertNextForDesc() throws SQLException {
+        List<Integer> actual = merge(OrderDirection.DESC, new int[] {7, 4, 1}, new int[] {9, 2}, new int[] {8, 6, 3});
+        assertThat(actual, is(Arrays.asList(9, 8, 7, 6, 4, 3, 2, 1)));
+    }
+    
+    private List<Integer> merge(final OrderDirection orderDirection, final int[]... values) throws SQLException {
+        List<OrderItem> orderItems = Collections.singletonList(new OrderItem(1, orderDirection, OrderDirection.ASC));
+        List<OrderByValue> orderByValues = new ArrayList<>(values.length);
+        for (int[] each : values) {
+            OrderByValue orderByValue = new OrderByValue(new TestQueryResult(mockResultSet(each)), orderItems);
+            if (orderByValue.next()) {
+                orderByValues.add(orderByValue);
+            }
+        }
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        List<Integer> result = new ArrayList<>();
+        if (loserTree.isEmpty()) {
+            return result;
+        }
+        do {
+            result.add((Integer) loserTree.getWinner().getQueryResult().getValue(1, Object.class));
+        } while (loserTree.next());
+        assertTrue(loserTree.isEmpty());
+        return result;
+    }
+    
+    private ResultSet mockResultSet(final int[] values) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        if (0 == values.length) {
+            when(result.next()).thenReturn(false);
+            return result;
+        }
+        Boolean[] nextResults = new Boolean[values.length];
+        Object[] restValues = new Object[values.length - 1];
+        for (int i = 0; i < values.length; i++) {
+            nextResults[i] = i < values.length - 1;
+            if (i > 0) {
+                restValues[i - 1] = values[i];
+            }
+        }
+        when(result.next()).thenReturn(true, nextResults);
+        when(result.getObject(1)).thenReturn(values[0], restValues);
+        return result;
+    }
+}
@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.parsing;
 
+import io.shardingsphere.core.parsing.cache.ParsingResultCacheTest;
 import io.shardingsphere.core.parsing.integrate.AllParsingIntegrateTests;
 import io.shardingsphere.core.parsing.lexer.AllLexerTests;
 import io.shardingsphere.core.parsing.parser.constant.DerivedColumnTest;
@@ -32,6 +33,9 @@ import org.junit.runners.Suite;
         AllStatementParserTests.class, 
         AllSQLTests.class, 
         SQLJudgeEngineTest.class, 
+        SQLTypeJudgeEngineTest.class, 
+        UnshardedSQLJudgeEngineTest.class, 
+        ParsingResultCacheTest.class, 
         OrderItemTest.class,
         DerivedColumnTest.class, 
         AllParsingIntegrateTests.class
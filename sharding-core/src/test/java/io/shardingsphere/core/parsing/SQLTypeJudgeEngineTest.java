@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing;
+
+import com.google.common.cache.Cache;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.parsing.parser.exception.SQLParsingException;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class SQLTypeJudgeEngineTest {
+    
+    @Test
+    public void assertJudgeForSelect() {
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, " /*COMMENT*/  \t \n  \r \fsElecT\t\n  * from table  ").judge(), is(SQLType.DQL));
+    }
+    
+    @Test
+    public void assertJudgeForSelectAfterSingleLineComments() {
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, "-- COMMENT\n# COMMENT\nselect * from table").judge(), is(SQLType.DQL));
+    }
+    
+    @Test
+    public void assertJudgeForInsert() {
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, " /*+ HINT SELECT * FROM TT*/ insert into table").judge(), is(SQLType.DML));
+    }
+    
+    @Test
+    public void assertJudgeForUpdate() {
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, "/*!HINT*/ uPdAte table set status = 1").judge(), is(SQLType.DML));
+    }
+    
+    @Test
+    public void assertJudgeForCommit() {
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, "commit").judge(), is(SQLType.TCL));
+    }
+    
+    @Test
+    public void assertJudgeForShow() {
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, "show tables").judge(), is(SQLType.DAL));
+    }
+    
+    @Test
+    public void assertJudgeForShowInPostgreSQL() {
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.PostgreSQL, "-- COMMENT\nshow search_path").judge(), is(SQLType.DAL));
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertJudgeForDescribeInOracle() {
+        new SQLTypeJudgeEngine(DatabaseType.Oracle, "describe t_order").judge();
+    }
+    
+    @Test
+    public void assertJudgeForCreateTable() {
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, "create table t_order (order_id int)").judge(), is(SQLType.DDL));
+    }
+    
+    @Test
+    public void assertJudgeForCreateUser() {
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, "CREATE /*COMMENT*/ USER user_dev").judge(), is(SQLType.DCL));
+    }
+    
+    @Test
+    public void assertJudgeForGrant() {
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, "grant select on t_order to user_dev").judge(), is(SQLType.DCL));
+    }
+    
+    @Test
+    public void assertJudgeForIdentifierWithKeywordPrefix() {
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, "selected select * from table").judge(), is(SQLType.DQL));
+    }
+    
+    @Test
+    public void assertJudgeWithoutLeadingKeyword() {
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, " - - COMMENT  \t \n  \r \finsert\t\n  into table  ").judge(), is(SQLType.DML));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertJudgeFromCache() throws NoSuchFieldException, IllegalAccessException {
+        String sql = "select * from t_order where order_id = 1";
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, sql).judge(), is(SQLType.DQL));
+        Field field = SQLTypeJudgeEngine.class.getDeclaredField("CACHES");
+        field.setAccessible(true);
+        Cache<String, SQLType> cache = ((Map<DatabaseType, Cache<String, SQLType>>) field.get(null)).get(DatabaseType.MySQL);
+        assertThat(cache.getIfPresent(sql), is(SQLType.DQL));
+        cache.put(sql, SQLType.DDL);
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.MySQL, sql).judge(), is(SQLType.DDL));
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.PostgreSQL, sql).judge(), is(SQLType.DQL));
+        cache.invalidate(sql);
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertJudgeWithLongSQLNotKeptInCache() throws NoSuchFieldException, IllegalAccessException {
+        StringBuilder sql = new StringBuilder("insert into t_order (order_id) values (1)");
+        for (int i = 0; i < 256 * 1024; i++) {
+            sql.append(", (1)");
+        }
+        assertThat(new SQLTypeJudgeEngine(DatabaseType.H2, sql.toString()).judge(), is(SQLType.DML));
+        Field field = SQLTypeJudgeEngine.class.getDeclaredField("CACHES");
+        field.setAccessible(true);
+        Cache<String, SQLType> cache = ((Map<DatabaseType, Cache<String, SQLType>>) field.get(null)).get(DatabaseType.H2);
+        assertNull(cache.getIfPresent(sql.toString()));
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertJudgeForInvalidSQL() {
+        new SQLTypeJudgeEngine(DatabaseType.MySQL, "int i = 0").judge();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class UnshardedSQLJudgeEngineTest {
+    
+    @Test
+    public void assertJudgeForUnshardedSelect() {
+        Optional<SQLStatement> actual = judge("SELECT * FROM t_user u JOIN t_address a ON u.address_id = a.address_id WHERE u.user_id = ?", "ds_0");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(SelectStatement.class));
+        assertThat(actual.get().getType(), is(SQLType.DQL));
+        assertThat(actual.get().getParametersIndex(), is(1));
+    }
+    
+    @Test
+    public void assertJudgeForUnshardedInsert() {
+        Optional<SQLStatement> actual = judge("INSERT INTO t_user (user_id, name) VALUES (?, ?)", "ds_0");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(InsertStatement.class));
+        assertThat(actual.get().getParametersIndex(), is(2));
+    }
+    
+    @Test
+    public void assertJudgeForUnshardedDeleteWithDialect() {
+        Optional<SQLStatement> actual = judge(DatabaseType.PostgreSQL, "DELETE FROM t_user WHERE user_id = ?", "ds_0");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(DMLStatement.class));
+        assertThat(actual.get().getType(), is(SQLType.DML));
+        assertThat(actual.get().getParametersIndex(), is(1));
+    }
+    
+    @Test
+    public void assertJudgeForLogicTable() {
+        assertFalse(judge("SELECT * FROM t_user u JOIN t_order o ON u.user_id = o.user_id", "ds_0").isPresent());
+    }
+    
+    @Test
+    public void assertJudgeForQuotedUpperCaseLogicTable() {
+        assertFalse(judge("SELECT * FROM `T_ORDER`", "ds_0").isPresent());
+    }
+    
+    @Test
+    public void assertJudgeForActualTable() {
+        assertFalse(judge("SELECT * FROM t_order_0", "ds_0").isPresent());
+    }
+    
+    @Test
+    public void assertJudgeForDDL() {
+        assertFalse(judge("CREATE TABLE t_user (user_id INT)", "ds_0").isPresent());
+    }
+    
+    @Test
+    public void assertJudgeForDAL() {
+        assertFalse(judge("SHOW COLUMNS FROM t_user", "ds_0").isPresent());
+    }
+    
+    @Test
+    public void assertJudgeWithoutIdentifier() {
+        assertFalse(judge("SELECT 1", "ds_0").isPresent());
+    }
+    
+    @Test
+    public void assertJudgeWithoutDefaultDataSource() {
+        assertFalse(judge("SELECT * FROM t_user", null).isPresent());
+    }
+    
+    private Optional<SQLStatement> judge(final String sql, final String defaultDataSourceName) {
+        return judge(DatabaseType.MySQL, sql, defaultDataSourceName);
+    }
+    
+    private Optional<SQLStatement> judge(final DatabaseType databaseType, final String sql, final String defaultDataSourceName) {
+        return new UnshardedSQLJudgeEngine(databaseType, sql, createShardingRule(defaultDataSourceName)).judge();
+    }
+    
+    private ShardingRule createShardingRule(final String defaultDataSourceName) {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_${0..1}.t_order_${0..1}");
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRuleConfig.setDefaultDataSourceName(defaultDataSourceName);
+        return new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
+}
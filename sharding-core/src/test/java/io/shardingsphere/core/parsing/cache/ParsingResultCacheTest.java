@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.router.sharding.RoutePlan;
+import io.shardingsphere.core.routing.router.sharding.RoutingEngineType;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class ParsingResultCacheTest {
+    
+    @Test
+    public void assertGetSQLStatement() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16, 0);
+        SQLStatement sqlStatement = new SelectStatement();
+        parsingResultCache.put("SELECT 1", sqlStatement);
+        assertThat(parsingResultCache.getSQLStatement("SELECT 1"), is(sqlStatement));
+        assertNull(parsingResultCache.getSQLStatement("SELECT 2"));
+        assertThat(parsingResultCache.getStats().hitCount(), is(1L));
+        assertThat(parsingResultCache.getStats().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvictWhenExceedMaximumSize() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(1, 0);
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.put("SELECT 2", new SelectStatement());
+        assertThat(parsingResultCache.size(), is(1L));
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+        assertThat(parsingResultCache.getStats().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvictWhenExceedMaximumWeight() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16, "SELECT 1".length());
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.put("SELECT 2", new SelectStatement());
+        assertThat(parsingResultCache.size(), is(1L));
+        assertThat(parsingResultCache.getStats().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetUnshardedSQLStatement() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16, 0);
+        SQLStatement sqlStatement = new SelectStatement();
+        parsingResultCache.putUnsharded("SELECT * FROM t_user", sqlStatement);
+        assertThat(parsingResultCache.getUnshardedSQLStatement("SELECT * FROM t_user"), is(sqlStatement));
+        assertNull(parsingResultCache.getSQLStatement("SELECT * FROM t_user"));
+        assertThat(parsingResultCache.size(), is(0L));
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16, 0);
+        parsingResultCache.put("SELECT 1", new SelectStatement());
+        parsingResultCache.putUnsharded("SELECT * FROM t_user", new SelectStatement());
+        parsingResultCache.getRoutePlanCache().put("SELECT 1", new RoutePlan(new SelectStatement(), RoutingEngineType.UNICAST, true, true, Collections.<Integer>emptyList()));
+        parsingResultCache.clear();
+        assertNull(parsingResultCache.getSQLStatement("SELECT 1"));
+        assertNull(parsingResultCache.getUnshardedSQLStatement("SELECT * FROM t_user"));
+        assertNull(parsingResultCache.getRoutePlanCache().getRoutePlan("SELECT 1"));
+    }
+}
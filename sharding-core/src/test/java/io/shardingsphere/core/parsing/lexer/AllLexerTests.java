@@ -18,6 +18,7 @@
 package io.shardingsphere.core.parsing.lexer;
 
 import io.shardingsphere.core.parsing.lexer.analyzer.CharTypeTest;
+import io.shardingsphere.core.parsing.lexer.analyzer.DictionaryTest;
 import io.shardingsphere.core.parsing.lexer.analyzer.TokenizerTest;
 import io.shardingsphere.core.parsing.lexer.dialect.mysql.MySQLLexerTest;
 import io.shardingsphere.core.parsing.lexer.dialect.oracle.OracleLexerTest;
@@ -29,6 +30,7 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         CharTypeTest.class,
+        DictionaryTest.class,
         TokenizerTest.class,
         LexerTest.class,
         MySQLLexerTest.class,
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.lexer.analyzer;
+
+import io.shardingsphere.core.parsing.lexer.dialect.mysql.MySQLKeyword;
+import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.lexer.token.Literals;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class DictionaryTest {
+    
+    private final Dictionary dictionary = new Dictionary(MySQLKeyword.values());
+    
+    @Test
+    public void assertFindDefaultKeywordIgnoreCase() {
+        assertThat(dictionary.findTokenType("SELECT", 0, 6, Literals.IDENTIFIER), is((Object) DefaultKeyword.SELECT));
+        assertThat(dictionary.findTokenType("select", 0, 6, Literals.IDENTIFIER), is((Object) DefaultKeyword.SELECT));
+        assertThat(dictionary.findTokenType("SeLeCt", 0, 6, Literals.IDENTIFIER), is((Object) DefaultKeyword.SELECT));
+    }
+    
+    @Test
+    public void assertFindDialectKeyword() {
+        assertThat(dictionary.findTokenType("show", 0, 4, Literals.IDENTIFIER), is((Object) MySQLKeyword.SHOW));
+    }
+    
+    @Test
+    public void assertFindKeywordFromSlice() {
+        String sql = "SELECT * FROM t_order";
+        assertThat(dictionary.findTokenType(sql, sql.indexOf("FROM"), 4, Literals.IDENTIFIER), is((Object) DefaultKeyword.FROM));
+    }
+    
+    @Test
+    public void assertFindNotKeyword() {
+        assertThat(dictionary.findTokenType("t_order", 0, 7, Literals.IDENTIFIER), is((Object) Literals.IDENTIFIER));
+        assertThat(dictionary.findTokenType("SELECTED", 0, 8, Literals.IDENTIFIER), is((Object) Literals.IDENTIFIER));
+        assertThat(dictionary.findTokenType("SELEC", 0, 5, Literals.IDENTIFIER), is((Object) Literals.IDENTIFIER));
+    }
+}
@@ -18,12 +18,19 @@
 package io.shardingsphere.core.parsing.parser.sql;
 
 import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.OrderDirection;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import io.shardingsphere.core.parsing.parser.context.limit.Limit;
+import io.shardingsphere.core.parsing.parser.context.limit.LimitValue;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public final class SelectStatementTest {
@@ -48,4 +55,21 @@ public final class SelectStatementTest {
         actual.getGroupByItems().add(new OrderItem("group_col", OrderDirection.ASC, OrderDirection.ASC, Optional.<String>absent()));
         assertFalse(actual.isSameGroupByAndOrderByItems());
     }
+    
+    @Test
+    public void assertCopyForRouting() {
+        SelectStatement original = new SelectStatement();
+        original.getOrderByItems().add(new OrderItem("col", OrderDirection.ASC, OrderDirection.ASC, Optional.<String>absent()));
+        original.setLimit(new Limit(DatabaseType.MySQL));
+        original.getLimit().setRowCount(new LimitValue(-1, 0, true));
+        original.setParametersIndex(1);
+        SelectStatement actual = original.copyForRouting();
+        assertThat(actual.getOrderByItems(), is(original.getOrderByItems()));
+        assertThat(actual.getParametersIndex(), is(1));
+        assertThat(actual.getLimit(), not(original.getLimit()));
+        actual.getLimit().getRowCount().setValue(10);
+        actual.setLimit(null);
+        assertNull(actual.getLimit());
+        assertThat(original.getLimit().getRowCountValue(), is(-1));
+    }
 }
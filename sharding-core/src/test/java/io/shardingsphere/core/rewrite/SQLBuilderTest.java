@@ -25,6 +25,7 @@ import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.rewrite.placeholder.IndexPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.SchemaPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.TablePlaceholder;
+import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.rule.ShardingRule;
 import org.junit.Before;
 import org.junit.Test;
@@ -197,6 +198,19 @@ public final class SQLBuilderTest {
         assertThat(sqlBuilder.toSQL(null, tableTokens, createShardingRule(), shardingDataSourceMetaData).getSql(), is("SHOW CREATE TABLE `table_1` ON actual_db"));
     }
     
+    @Test
+    public void assertWithParameters() {
+        SQLBuilder sqlBuilder = new SQLBuilder(Collections.<Object>singletonList(1));
+        sqlBuilder.appendLiterals("SELECT id FROM ");
+        sqlBuilder.appendPlaceholder(new TablePlaceholder("table_x", "table_x"));
+        sqlBuilder.appendLiterals(" WHERE id = ?");
+        Map<String, String> tableTokens = new HashMap<>(1, 1);
+        tableTokens.put("table_x", "table_x_1");
+        SQLUnit actual = sqlBuilder.withParameters(Collections.<Object>singletonList(2)).toSQL(null, tableTokens, null, null);
+        assertThat(actual.getSql(), is("SELECT id FROM table_x_1 WHERE id = ?"));
+        assertThat(actual.getParameterSets().get(0), is(Collections.<Object>singletonList(2)));
+    }
+    
     @Test
     public void assertAppendTableWithoutTableTokenWithDoubleQuotes() {
         SQLBuilder sqlBuilder = new SQLBuilder();
@@ -26,13 +26,19 @@ import io.shardingsphere.core.optimizer.condition.ShardingCondition;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
 import io.shardingsphere.core.optimizer.insert.InsertShardingCondition;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import io.shardingsphere.core.parsing.parser.context.condition.Column;
+import io.shardingsphere.core.parsing.parser.context.condition.Condition;
 import io.shardingsphere.core.parsing.parser.context.limit.Limit;
 import io.shardingsphere.core.parsing.parser.context.limit.LimitValue;
 import io.shardingsphere.core.parsing.parser.context.table.Table;
+import io.shardingsphere.core.parsing.parser.expression.SQLExpression;
+import io.shardingsphere.core.parsing.parser.expression.SQLNumberExpression;
+import io.shardingsphere.core.parsing.parser.expression.SQLPlaceholderExpression;
 import io.shardingsphere.core.parsing.parser.sql.dal.DALStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.parsing.parser.token.InValuesToken;
 import io.shardingsphere.core.parsing.parser.token.IndexToken;
 import io.shardingsphere.core.parsing.parser.token.InsertColumnToken;
 import io.shardingsphere.core.parsing.parser.token.InsertValuesToken;
@@ -42,6 +48,7 @@ import io.shardingsphere.core.parsing.parser.token.OrderByToken;
 import io.shardingsphere.core.parsing.parser.token.RowCountToken;
 import io.shardingsphere.core.parsing.parser.token.SchemaToken;
 import io.shardingsphere.core.parsing.parser.token.TableToken;
+import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.routing.type.RoutingTable;
 import io.shardingsphere.core.routing.type.TableUnit;
 import io.shardingsphere.core.rule.DataNode;
@@ -412,6 +419,44 @@ public final class SQLRewriteEngineTest {
                 "SELECT x.id, x.name FROM table_1 x GROUP BY x.id, x.name DESC ORDER BY id ASC,name DESC "));
     }
     
+    @Test
+    public void assertRewriteForInValuesWithParameters() {
+        List<Object> parameters = Arrays.<Object>asList(1, 2, 3, 4);
+        selectStatement.getSqlTokens().add(new TableToken(15, 0, "table_z"));
+        List<SQLExpression> sqlExpressions = Arrays.<SQLExpression>asList(
+                new SQLPlaceholderExpression(0), new SQLPlaceholderExpression(1), new SQLPlaceholderExpression(2), new SQLPlaceholderExpression(3));
+        selectStatement.getSqlTokens().add(new InValuesToken(36, 10, Arrays.asList("?", "?", "?", "?"), new Condition(new Column("id", "table_z"), sqlExpressions)));
+        TableUnit tableUnit = new TableUnit("db1");
+        tableUnit.getRoutingTables().add(new RoutingTable("table_z", "table_z"));
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "SELECT id FROM table_z WHERE id IN (?, ?, ?, ?) ORDER BY id", DatabaseType.MySQL, selectStatement, null, parameters);
+        SQLUnit actual = rewriteEngine.rewrite(true).toSQL(tableUnit, Collections.singletonMap("table_z", "table_z"), shardingRule, shardingDataSourceMetaData);
+        assertThat(actual.getSql(), is("SELECT id FROM table_z WHERE id IN (?, ?) ORDER BY id"));
+        assertThat(actual.getParameterSets().get(0), is(Arrays.<Object>asList(1, 3)));
+    }
+    
+    @Test
+    public void assertRewriteForInValuesWithoutMatchedValue() {
+        selectStatement.getSqlTokens().add(new TableToken(15, 0, "table_z"));
+        List<SQLExpression> sqlExpressions = Arrays.<SQLExpression>asList(new SQLNumberExpression(2), new SQLNumberExpression(4));
+        selectStatement.getSqlTokens().add(new InValuesToken(36, 3, Arrays.asList("2", "4"), new Condition(new Column("id", "table_z"), sqlExpressions)));
+        TableUnit tableUnit = new TableUnit("db1");
+        tableUnit.getRoutingTables().add(new RoutingTable("table_z", "table_z"));
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "SELECT id FROM table_z WHERE id IN (2,4)", DatabaseType.MySQL, selectStatement, null, Collections.emptyList());
+        assertThat(rewriteEngine.rewrite(true).toSQL(tableUnit, Collections.singletonMap("table_z", "table_z"), shardingRule, shardingDataSourceMetaData).getSql(),
+                is("SELECT id FROM table_z WHERE id IN (2)"));
+    }
+    
+    @Test
+    public void assertRewriteForInValuesWithoutShardingStrategy() {
+        selectStatement.getSqlTokens().add(new TableToken(15, 0, "table_x"));
+        List<SQLExpression> sqlExpressions = Arrays.<SQLExpression>asList(new SQLNumberExpression(1), new SQLNumberExpression(2));
+        selectStatement.getSqlTokens().add(new InValuesToken(36, 4, Arrays.asList("1", "2"), new Condition(new Column("id", "table_x"), sqlExpressions)));
+        TableUnit tableUnit = new TableUnit("db1");
+        tableUnit.getRoutingTables().add(new RoutingTable("table_x", "table_1"));
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, "SELECT id FROM table_x WHERE id IN (1, 2)", DatabaseType.MySQL, selectStatement, null, Collections.emptyList());
+        assertThat(rewriteEngine.rewrite(true).toSQL(tableUnit, tableTokens, shardingRule, shardingDataSourceMetaData).getSql(), is("SELECT id FROM table_1 WHERE id IN (1, 2)"));
+    }
+    
     @Test
     public void assertGenerateSQL() {
         List<Object> parameters = new ArrayList<>(2);
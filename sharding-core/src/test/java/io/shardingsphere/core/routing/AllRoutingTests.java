@@ -18,13 +18,19 @@
 package io.shardingsphere.core.routing;
 
 import io.shardingsphere.core.routing.router.DatabaseHintSQLRouterTest;
+import io.shardingsphere.core.routing.router.sharding.ParsingSQLRouterTest;
+import io.shardingsphere.core.routing.router.sharding.RoutePlanCacheTest;
+import io.shardingsphere.core.routing.router.sharding.RoutePlanTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
         DatabaseTest.class,
-        DatabaseHintSQLRouterTest.class
+        DatabaseHintSQLRouterTest.class,
+        ParsingSQLRouterTest.class,
+        RoutePlanTest.class,
+        RoutePlanCacheTest.class
 })
 public class AllRoutingTests {
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.sharding;
+
+import io.shardingsphere.core.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.api.config.strategy.InlineShardingStrategyConfiguration;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.SQLExecutionUnit;
+import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ParsingSQLRouterTest {
+    
+    private ShardingRule shardingRule;
+    
+    private ParsingSQLRouter parsingSQLRouter;
+    
+    @Before
+    public void setUp() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRuleConfig.setDefaultDataSourceName("ds_0");
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        parsingSQLRouter = new ParsingSQLRouter(shardingRule, null, DatabaseType.MySQL, false, null, null);
+    }
+    
+    @Test
+    public void assertRouteUnshardedDQL() {
+        String sql = "SELECT * FROM t_user WHERE user_id = ?";
+        SQLStatement sqlStatement = parsingSQLRouter.parse(sql, false);
+        assertThat(sqlStatement, instanceOf(SelectStatement.class));
+        assertRouteToDefaultDataSource(parsingSQLRouter.route(sql, Collections.<Object>singletonList(1), sqlStatement), sql, Collections.<Object>singletonList(1));
+    }
+    
+    @Test
+    public void assertRouteUnshardedDML() {
+        String sql = "UPDATE t_user SET name = ? WHERE user_id = ?";
+        SQLStatement sqlStatement = parsingSQLRouter.parse(sql, false);
+        assertThat(sqlStatement, instanceOf(DMLStatement.class));
+        assertRouteToDefaultDataSource(parsingSQLRouter.route(sql, Arrays.<Object>asList("name", 1), sqlStatement), sql, Arrays.<Object>asList("name", 1));
+    }
+    
+    @Test
+    public void assertRouteUnshardedDQLWithCache() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16, 0);
+        String sql = "SELECT * FROM t_user WHERE user_id = ?";
+        ParsingSQLRouter firstRouter = new ParsingSQLRouter(shardingRule, null, DatabaseType.MySQL, false, null, parsingResultCache);
+        SQLStatement sqlStatement = firstRouter.parse(sql, true);
+        assertThat(parsingResultCache.getUnshardedSQLStatement(sql), is(sqlStatement));
+        assertThat(parsingResultCache.size(), is(0L));
+        ParsingSQLRouter secondRouter = new ParsingSQLRouter(shardingRule, null, DatabaseType.MySQL, false, null, parsingResultCache);
+        assertThat(secondRouter.parse(sql, true), is(sqlStatement));
+        assertRouteToDefaultDataSource(secondRouter.route(sql, Collections.<Object>singletonList(1), sqlStatement), sql, Collections.<Object>singletonList(1));
+    }
+    
+    @Test
+    public void assertRouteShardedDQLAfterUnshardedDQL() {
+        String unshardedSQL = "SELECT * FROM t_user WHERE user_id = ?";
+        parsingSQLRouter.route(unshardedSQL, Collections.<Object>singletonList(1), parsingSQLRouter.parse(unshardedSQL, false));
+        String shardedSQL = "SELECT * FROM t_order WHERE user_id = ? AND order_id = ?";
+        SQLRouteResult actual = parsingSQLRouter.route(shardedSQL, Arrays.<Object>asList(1, 1), parsingSQLRouter.parse(shardedSQL, false));
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        SQLExecutionUnit actualUnit = actual.getExecutionUnits().iterator().next();
+        assertThat(actualUnit.getDataSource(), is("ds_1"));
+        assertThat(actualUnit.getSqlUnit().getSql(), is("SELECT * FROM t_order_1 WHERE user_id = ? AND order_id = ?"));
+    }
+    
+    @Test
+    public void assertRouteWithCachedRoutePlan() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16, 0);
+        String sql = "SELECT * FROM t_order WHERE user_id = ? AND order_id = ?";
+        ParsingSQLRouter firstRouter = new ParsingSQLRouter(shardingRule, null, DatabaseType.MySQL, false, null, parsingResultCache);
+        SQLRouteResult actualFirst = firstRouter.route(sql, Arrays.<Object>asList(1, 1), firstRouter.parse(sql, true));
+        assertThat(parsingResultCache.getRoutePlanCache().size(), is(1L));
+        RoutePlan routePlan = parsingResultCache.getRoutePlanCache().getRoutePlan(sql);
+        assertThat(routePlan.getShardingParameterIndexes(), is((Collection<Integer>) new TreeSet<>(Arrays.asList(0, 1))));
+        ParsingSQLRouter secondRouter = new ParsingSQLRouter(shardingRule, null, DatabaseType.MySQL, false, null, parsingResultCache);
+        SQLRouteResult actualSecond = secondRouter.route(sql, Arrays.<Object>asList(2, 2), secondRouter.parse(sql, true));
+        assertThat(parsingResultCache.getRoutePlanCache().getRoutePlan(sql), is(routePlan));
+        assertThat(actualFirst.getExecutionUnits().iterator().next().getDataSource(), is("ds_1"));
+        assertThat(actualFirst.getExecutionUnits().iterator().next().getSqlUnit().getSql(), is("SELECT * FROM t_order_1 WHERE user_id = ? AND order_id = ?"));
+        assertThat(actualSecond.getExecutionUnits().iterator().next().getDataSource(), is("ds_0"));
+        assertThat(actualSecond.getExecutionUnits().iterator().next().getSqlUnit().getSql(), is("SELECT * FROM t_order_0 WHERE user_id = ? AND order_id = ?"));
+        assertThat(actualSecond.getExecutionUnits().iterator().next().getSqlUnit().getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(2, 2))));
+    }
+    
+    @Test
+    public void assertRouteWithCachedShardingConditions() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16, 0);
+        String sql = "SELECT * FROM t_order WHERE user_id = 1 AND order_id = 2";
+        ParsingSQLRouter router = new ParsingSQLRouter(shardingRule, null, DatabaseType.MySQL, false, null, parsingResultCache);
+        router.route(sql, Collections.emptyList(), router.parse(sql, true));
+        RoutePlan routePlan = parsingResultCache.getRoutePlanCache().getRoutePlan(sql);
+        assertTrue(routePlan.findShardingConditions().isPresent());
+        SQLRouteResult actual = router.route(sql, Collections.emptyList(), router.parse(sql, true));
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        assertThat(actual.getExecutionUnits().iterator().next().getDataSource(), is("ds_1"));
+        assertThat(actual.getExecutionUnits().iterator().next().getSqlUnit().getSql(), is("SELECT * FROM t_order_0 WHERE user_id = 1 AND order_id = 2"));
+    }
+    
+    private void assertRouteToDefaultDataSource(final SQLRouteResult actual, final String sql, final List<Object> parameters) {
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        SQLExecutionUnit actualUnit = actual.getExecutionUnits().iterator().next();
+        assertThat(actualUnit.getDataSource(), is("ds_0"));
+        assertThat(actualUnit.getSqlUnit().getSql(), is(sql));
+        assertThat(actualUnit.getSqlUnit().getParameterSets(), is(Collections.singletonList(parameters)));
+    }
+}
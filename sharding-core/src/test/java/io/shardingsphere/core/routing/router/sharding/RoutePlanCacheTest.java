@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.sharding;
+
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class RoutePlanCacheTest {
+    
+    @Test
+    public void assertGetRoutePlan() {
+        RoutePlanCache routePlanCache = new RoutePlanCache(16, 0);
+        RoutePlan routePlan = createRoutePlan();
+        routePlanCache.put("SELECT 1", routePlan);
+        assertThat(routePlanCache.getRoutePlan("SELECT 1"), is(routePlan));
+        assertNull(routePlanCache.getRoutePlan("SELECT 2"));
+    }
+    
+    @Test
+    public void assertEvictWhenExceedMaximumSize() {
+        RoutePlanCache routePlanCache = new RoutePlanCache(1, 0);
+        routePlanCache.put("SELECT 1", createRoutePlan());
+        routePlanCache.put("SELECT 2", createRoutePlan());
+        assertThat(routePlanCache.size(), is(1L));
+        assertNull(routePlanCache.getRoutePlan("SELECT 1"));
+    }
+    
+    @Test
+    public void assertEvictWhenExceedMaximumWeight() {
+        RoutePlanCache routePlanCache = new RoutePlanCache(16, "SELECT 1".length());
+        routePlanCache.put("SELECT 1", createRoutePlan());
+        routePlanCache.put("SELECT 2", createRoutePlan());
+        assertThat(routePlanCache.size(), is(1L));
+    }
+    
+    @Test
+    public void assertClear() {
+        RoutePlanCache routePlanCache = new RoutePlanCache(16, 0);
+        routePlanCache.put("SELECT 1", createRoutePlan());
+        routePlanCache.clear();
+        assertNull(routePlanCache.getRoutePlan("SELECT 1"));
+    }
+    
+    private RoutePlan createRoutePlan() {
+        return new RoutePlan(new SelectStatement(), RoutingEngineType.UNICAST, true, true, Collections.<Integer>emptyList());
+    }
+}
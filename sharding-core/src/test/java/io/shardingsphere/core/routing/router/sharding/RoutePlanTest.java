@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.router.sharding;
+
+import io.shardingsphere.core.optimizer.condition.ShardingCondition;
+import io.shardingsphere.core.optimizer.condition.ShardingConditions;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.rewrite.SQLBuilder;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RoutePlanTest {
+    
+    @Test
+    public void assertFindSQLTemplateWhenSupportSQLTemplate() {
+        RoutePlan routePlan = new RoutePlan(new SelectStatement(), RoutingEngineType.STANDARD, true, true, Collections.<Integer>emptyList());
+        assertFalse(routePlan.findSQLTemplate(true).isPresent());
+        routePlan.addSQLTemplate(true, createSQLBuilder());
+        assertTrue(routePlan.findSQLTemplate(true).isPresent());
+        assertFalse(routePlan.findSQLTemplate(false).isPresent());
+        assertThat(routePlan.findSQLTemplate(true).get().withParameters(Collections.<Object>singletonList(1)).toSQL(null, Collections.<String, String>emptyMap(), null, null).getSql(),
+                is("SELECT * FROM t_order WHERE order_id = ?"));
+    }
+    
+    @Test
+    public void assertFindSQLTemplateWhenNotSupportSQLTemplate() {
+        RoutePlan routePlan = new RoutePlan(new SelectStatement(), RoutingEngineType.STANDARD, true, false, Collections.<Integer>emptyList());
+        routePlan.addSQLTemplate(true, createSQLBuilder());
+        assertFalse(routePlan.findSQLTemplate(true).isPresent());
+    }
+    
+    @Test
+    public void assertFindShardingConditionsWhenNotDependOnParameters() {
+        RoutePlan routePlan = new RoutePlan(new SelectStatement(), RoutingEngineType.STANDARD, true, true, Collections.<Integer>emptyList());
+        assertFalse(routePlan.isShardingConditionsDependOnParameters());
+        assertFalse(routePlan.findShardingConditions().isPresent());
+        ShardingConditions shardingConditions = new ShardingConditions(Collections.<ShardingCondition>emptyList());
+        routePlan.addShardingConditions(shardingConditions);
+        assertThat(routePlan.findShardingConditions().get(), is(shardingConditions));
+    }
+    
+    @Test
+    public void assertFindShardingConditionsWhenDependOnParameters() {
+        RoutePlan routePlan = new RoutePlan(new SelectStatement(), RoutingEngineType.STANDARD, true, true, Collections.singletonList(0));
+        assertTrue(routePlan.isShardingConditionsDependOnParameters());
+        routePlan.addShardingConditions(new ShardingConditions(Collections.<ShardingCondition>emptyList()));
+        assertFalse(routePlan.findShardingConditions().isPresent());
+    }
+    
+    @Test
+    public void assertFindShardingConditionsForInsert() {
+        RoutePlan routePlan = new RoutePlan(new InsertStatement(), RoutingEngineType.STANDARD, true, false, Collections.<Integer>emptyList());
+        assertTrue(routePlan.isShardingConditionsDependOnParameters());
+        routePlan.addShardingConditions(new ShardingConditions(Collections.<ShardingCondition>emptyList()));
+        assertFalse(routePlan.findShardingConditions().isPresent());
+    }
+    
+    private SQLBuilder createSQLBuilder() {
+        SQLBuilder result = new SQLBuilder(Collections.<Object>singletonList(10));
+        result.appendLiterals("SELECT * FROM t_order WHERE order_id = ?");
+        return result;
+    }
+}
@@ -292,6 +292,7 @@ public final class ShardingRuleTest {
         shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
         ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
         assertTrue(actual.tryFindTableRuleByActualTable("table_0").isPresent());
+        assertTrue(actual.tryFindTableRuleByActualTable("TABLE_0").isPresent());
         assertFalse(actual.tryFindTableRuleByActualTable("table_3").isPresent());
     }
     
@@ -341,6 +342,25 @@ public final class ShardingRuleTest {
     
     }
     
+    @Test
+    public void assertGenerateKeysWithKeyGenerator() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = createTableRuleConfig();
+        tableRuleConfig.setKeyGenerator(new IncrementKeyGenerator());
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        assertThat(new ShardingRule(shardingRuleConfig, createDataSourceNames()).generateKeys("logic_table", 3), is(Arrays.<Number>asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithDefaultKeyGenerator() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = createTableRuleConfig();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
+        assertThat(actual.generateKeys("logic_table", 3).size(), is(3));
+        assertTrue(actual.generateKeys("logic_table", 0).isEmpty());
+    }
+    
     @Test
     public void assertGetLogicTableNameSuccess() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -107,6 +107,15 @@ public final class TableRuleTest {
         assertThat(actual.findActualTableIndex("ds1", "table_1"), is(4));
     }
     
+    @Test
+    public void assertFindActualTableIndexIgnoreCase() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("LOGIC_TABLE");
+        tableRuleConfig.setActualDataNodes("ds${0..1}.table_${0..2}");
+        TableRule actual = new TableRule(tableRuleConfig, createShardingDataSourceNames());
+        assertThat(actual.findActualTableIndex("DS1", "TABLE_2"), is(5));
+    }
+    
     @Test
     public void assertNotFindActualTableIndex() {
         TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
@@ -120,6 +129,7 @@ public final class TableRuleTest {
     public void assertActualTableNameExisted() {
         TableRule actual = new TableRule(createTableRuleConfig(), createShardingDataSourceNames());
         assertTrue(actual.isExisted("table_2"));
+        assertTrue(actual.isExisted("TABLE_2"));
     }
     
     @Test
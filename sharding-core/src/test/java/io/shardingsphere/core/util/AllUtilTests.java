@@ -25,6 +25,8 @@ import org.junit.runners.Suite;
         NumberUtilTest.class,
         StringUtilTest.class,
         InlineExpressionParserTest.class,
+        InlineExpressionTemplateTest.class,
+        CompiledInlineExpressionTest.class,
         SQLUtilTest.class
     })
 public class AllUtilTests {
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.util;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertCompileFailure() {
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id / 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 2 + 1}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${it % 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${[\"a${order_id}\"]}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_$order_id").isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateWithModulo() {
+        assertEvaluate("t_order_${order_id % 16}", 10);
+        assertEvaluate("t_order_${order_id % 16}", -10L);
+        assertEvaluate("t_order_$->{order_id%16}", Long.MAX_VALUE);
+    }
+    
+    @Test
+    public void assertEvaluateWithIntDiv() {
+        assertEvaluate("ds_${user_id.intdiv(4)}_suffix", 23);
+        assertEvaluate("ds_${user_id.intdiv(4)}_suffix", -23L);
+    }
+    
+    @Test
+    public void assertEvaluateWithHashCode() {
+        assertEvaluate("ds_${user_id.hashCode() % 4}", "user_1");
+        assertEvaluate("ds_${user_id.hashCode() % 4}", 123456789012L);
+        assertEvaluate("ds_${user_id.hashCode()}", "user_1");
+    }
+    
+    @Test
+    public void assertEvaluateWithPlainValue() {
+        assertEvaluate("t_order_${order_id}", 1);
+        assertEvaluate("t_order_${order_id}", "abc");
+    }
+    
+    @Test
+    public void assertEvaluateWithMultiplePlaceholders() {
+        assertEvaluate("ds_${user_id % 2}.t_order_${user_id % 4}", 7);
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 16}").get().evaluate("order_id", 1.5D).isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 16}").get().evaluate("order_id", null).isPresent());
+    }
+    
+    @Test
+    public void assertEvaluateWithOtherColumn() {
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 16}").get().evaluate("ORDER_ID", 1).isPresent());
+    }
+    
+    private void assertEvaluate(final String expression, final Object value) {
+        String algorithmExpression = InlineExpressionParser.handlePlaceHolder(expression);
+        assertTrue(CompiledInlineExpression.compile(algorithmExpression).isPresent());
+        String columnName = algorithmExpression.contains("order_id") ? "order_id" : "user_id";
+        assertThat(CompiledInlineExpression.compile(algorithmExpression).get().evaluate(columnName, value).get(), is(evaluateWithGroovy(algorithmExpression, columnName, value)));
+    }
+    
+    private String evaluateWithGroovy(final String algorithmExpression, final String columnName, final Object value) {
+        Closure<?> closure = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty(columnName, value);
+        return closure.call().toString();
+    }
+}
@@ -19,6 +19,7 @@ package io.shardingsphere.core.util;
 
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -69,6 +70,18 @@ public final class InlineExpressionParserTest {
         assertThat(expected, hasItems("t_order_0", "t_order_1", "t_order_2", "t_order_item_0", "t_order_item_1"));
     }
     
+    @Test
+    public void assertEvaluateForExclusiveRange() {
+        List<String> expected = new InlineExpressionParser("ds${0..1}.t_order_${0..<2}").splitAndEvaluate();
+        assertThat(expected, is(Arrays.asList("ds0.t_order_0", "ds0.t_order_1", "ds1.t_order_0", "ds1.t_order_1")));
+    }
+    
+    @Test
+    public void assertEvaluateForDescendingRange() {
+        List<String> expected = new InlineExpressionParser("t_order_${2..0}").splitAndEvaluate();
+        assertThat(expected, is(Arrays.asList("t_order_2", "t_order_1", "t_order_0")));
+    }
+    
     @Test
     public void assertEvaluateForComplex() {
         List<String> expected = new InlineExpressionParser("t_${['new','old']}_order_${1..2}, t_config").splitAndEvaluate();
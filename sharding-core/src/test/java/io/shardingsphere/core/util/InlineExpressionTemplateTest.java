@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class InlineExpressionTemplateTest {
+    
+    @Test
+    public void assertParseWithoutPlaceholder() {
+        InlineExpressionTemplate actual = InlineExpressionTemplate.parse("t_order").get();
+        assertThat(actual.getLiterals(), is(Collections.singletonList("t_order")));
+        assertThat(actual.getPlaceholders(), is(Collections.<String>emptyList()));
+    }
+    
+    @Test
+    public void assertParseWithPlaceholders() {
+        InlineExpressionTemplate actual = InlineExpressionTemplate.parse("ds${0..1}.t_order_$->{ order_id % 2 }").get();
+        assertThat(actual.getLiterals(), is(Arrays.asList("ds", ".t_order_", "")));
+        assertThat(actual.getPlaceholders(), is(Arrays.asList("0..1", "order_id % 2")));
+    }
+    
+    @Test
+    public void assertParseFailure() {
+        assertFalse(InlineExpressionTemplate.parse("t_${[\"new${1+2}\",'old']}").isPresent());
+        assertFalse(InlineExpressionTemplate.parse("t_order_\\${0..1}").isPresent());
+        assertFalse(InlineExpressionTemplate.parse("t_order_$order_id").isPresent());
+        assertFalse(InlineExpressionTemplate.parse("t_order_${0..1").isPresent());
+    }
+    
+    @Test
+    public void assertAssemble() {
+        assertThat(InlineExpressionTemplate.parse("ds${0..1}.t_order_${0..1}").get().assemble(Arrays.asList("1", "0")), is("ds1.t_order_0"));
+    }
+}
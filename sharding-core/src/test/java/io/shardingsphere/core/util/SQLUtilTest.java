@@ -20,6 +20,9 @@ package io.shardingsphere.core.util;
 import io.shardingsphere.core.constant.DatabaseType;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -55,4 +58,33 @@ public class SQLUtilTest {
     public void assertGetOriginalValueForMySQLWithMySQLKeyword() {
         assertThat(SQLUtil.getOriginalValue("show", DatabaseType.MySQL), is("`show`"));
     }
+    
+    @Test
+    public void assertSplitStatementsWithoutSemicolon() {
+        assertThat(SQLUtil.splitStatements("SELECT * FROM t_order", DatabaseType.MySQL), is(Collections.singletonList("SELECT * FROM t_order")));
+    }
+    
+    @Test
+    public void assertSplitStatementsWithTrailingSemicolon() {
+        assertThat(SQLUtil.splitStatements("SELECT * FROM t_order; ", DatabaseType.MySQL), is(Collections.singletonList("SELECT * FROM t_order")));
+    }
+    
+    @Test
+    public void assertSplitStatementsWithMultipleStatements() {
+        assertThat(SQLUtil.splitStatements("INSERT INTO t_order VALUES (1, 'a;b'); /* c;d */ UPDATE t_order SET status = 'e' WHERE order_id = 1;;DELETE FROM t_order", DatabaseType.MySQL),
+                is(Arrays.asList("INSERT INTO t_order VALUES (1, 'a;b')", "/* c;d */ UPDATE t_order SET status = 'e' WHERE order_id = 1", "DELETE FROM t_order")));
+    }
+    
+    @Test
+    public void assertSplitStatementsWithCompoundStatement() {
+        String createProcedure = "CREATE PROCEDURE p_order(IN id INT) BEGIN IF id > 0 THEN DELETE FROM t_order WHERE order_id = id; END IF; "
+                + "CASE id WHEN 0 THEN SELECT 0; ELSE SELECT id; END CASE; END";
+        assertThat(SQLUtil.splitStatements("DROP PROCEDURE IF EXISTS p_order; " + createProcedure + "; CALL p_order(1)", DatabaseType.MySQL),
+                is(Arrays.asList("DROP PROCEDURE IF EXISTS p_order", createProcedure, "CALL p_order(1)")));
+    }
+    
+    @Test
+    public void assertSplitStatementsWithBeginTransaction() {
+        assertThat(SQLUtil.splitStatements("BEGIN; UPDATE t_order SET status = 'a'; COMMIT", DatabaseType.MySQL), is(Arrays.asList("BEGIN", "UPDATE t_order SET status = 'a'", "COMMIT")));
+    }
 }
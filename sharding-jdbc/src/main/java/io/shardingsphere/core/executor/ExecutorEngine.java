@@ -17,6 +17,9 @@
 
 package io.shardingsphere.core.executor;
 
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -30,6 +33,7 @@ import io.shardingsphere.core.executor.threadlocal.ExecutorDataMap;
 import io.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandler;
 import io.shardingsphere.core.util.EventBusInstance;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.sql.SQLException;
@@ -37,9 +41,21 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Deque;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -60,15 +76,51 @@ public abstract class ExecutorEngine implements AutoCloseable {
     @Getter
     private final ListeningExecutorService executorService;
     
+    private final TimedThreadPoolExecutor threadPoolExecutor;
+    
+    private final int maxConcurrencyPerDataSource;
+    
+    private final ConcurrentMap<String, DataSourceBulkhead> dataSourceBulkheads = new ConcurrentHashMap<>();
+    
+    private final Queue<DataSourceBulkhead> stalledBulkheads = new ConcurrentLinkedQueue<>();
+    
+    @Getter
+    private final ExecutorMetrics metrics = new ExecutorMetrics();
+    
     public ExecutorEngine(final int executorSize) {
+        this(executorSize, 0, 0);
+    }
+    
+    public ExecutorEngine(final int executorSize, final int executorQueueSize, final int maxConcurrencyPerDataSource) {
+        threadPoolExecutor = createThreadPoolExecutor(executorSize, executorQueueSize);
+        executorService = MoreExecutors.listeningDecorator(threadPoolExecutor);
+        this.maxConcurrencyPerDataSource = maxConcurrencyPerDataSource;
+        MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
+    }
+    
+    private TimedThreadPoolExecutor createThreadPoolExecutor(final int executorSize, final int executorQueueSize) {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sharding-JDBC-%d").build();
+        Runnable afterExecuteListener = new Runnable() {
+            
+            @Override
+            public void run() {
+                drainStalledBulkheads();
+            }
+        };
         if (0 == executorSize) {
-            executorService = MoreExecutors.listeningDecorator(new ThreadPoolExecutor(
-                0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sharding-JDBC-%d").build()));
-        } else {
-            executorService = MoreExecutors.listeningDecorator(new ThreadPoolExecutor(
-                executorSize, executorSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sharding-JDBC-%d").build()));
+            return new TimedThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), threadFactory, metrics, afterExecuteListener);
         }
-        MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
+        BlockingQueue<Runnable> workQueue = executorQueueSize > 0 ? new ArrayBlockingQueue<Runnable>(executorQueueSize) : new LinkedBlockingQueue<Runnable>();
+        return new TimedThreadPoolExecutor(executorSize, executorSize, 0L, TimeUnit.MILLISECONDS, workQueue, threadFactory, metrics, afterExecuteListener);
+    }
+    
+    /**
+     * Get count of execution units waiting in the queue of thread pool.
+     *
+     * @return count of execution units waiting in the queue of thread pool
+     */
+    public int getQueueDepth() {
+        return threadPoolExecutor.getQueue().size();
     }
     
     /**
@@ -89,7 +141,8 @@ public abstract class ExecutorEngine implements AutoCloseable {
         OverallExecutionEvent event = new OverallExecutionEvent(sqlType, baseStatementUnits.size());
         EventBusInstance.getInstance().post(event);
         try {
-            List<T> result = getExecuteResults(sqlType, baseStatementUnits, executeCallback);
+            List<T> result = 1 == baseStatementUnits.size() ? executeInline(sqlType, baseStatementUnits.iterator().next(), executeCallback)
+                    : getExecuteResults(sqlType, baseStatementUnits, executeCallback);
             event.setEventExecutionType(EventExecutionType.EXECUTE_SUCCESS);
             EventBusInstance.getInstance().post(event);
             return result;
@@ -104,6 +157,63 @@ public abstract class ExecutorEngine implements AutoCloseable {
         }
     }
     
+    private <T> List<T> executeInline(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final ExecuteCallback<T> executeCallback) throws Exception {
+        final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
+        List<T> result = new LinkedList<>();
+        result.add(executeInCallingThread(baseStatementUnit.getSqlExecutionUnit().getDataSource(), new Callable<T>() {
+            
+            @Override
+            public T call() throws Exception {
+                return executeInternal(sqlType, baseStatementUnit, executeCallback, isExceptionThrown, dataMap);
+            }
+        }));
+        return result;
+    }
+    
+    /**
+     * Execute task in calling thread.
+     * 
+     * <p>Calling thread waits for concurrency permit of data source, it is not a thread of shared thread pool.</p>
+     *
+     * @param dataSourceName data source name
+     * @param task task to be executed
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws Exception any exception thrown by task
+     */
+    protected final <T> T executeInCallingThread(final String dataSourceName, final Callable<T> task) throws Exception {
+        Optional<DataSourceBulkhead> bulkhead = acquirePermit(dataSourceName);
+        try {
+            return task.call();
+        } finally {
+            if (bulkhead.isPresent()) {
+                bulkhead.get().release();
+            }
+        }
+    }
+    
+    /**
+     * Submit task to thread pool.
+     * 
+     * <p>Task is queued in bulkhead of data source if concurrency permits of data source are exhausted,
+     * and is submitted to thread pool when permit is released, so threads of pool never block waiting for permits.
+     * Calling thread runs the task if queue of thread pool is full, this is the only place which applies back pressure.</p>
+     *
+     * @param dataSourceName data source name
+     * @param task task to be executed
+     * @param <T> class type of return value
+     * @return future of task
+     */
+    protected final <T> ListenableFuture<T> submit(final String dataSourceName, final Callable<T> task) {
+        if (maxConcurrencyPerDataSource <= 0) {
+            return executorService.submit(task);
+        }
+        ListenableFutureTask<T> result = ListenableFutureTask.create(task);
+        getBulkhead(dataSourceName).submit(result);
+        return result;
+    }
+    
     protected abstract <T> List<T> getExecuteResults(SQLType sqlType, Collection<? extends BaseStatementUnit> baseStatementUnits, ExecuteCallback<T> executeCallback) throws Exception;
     
     protected <T> T executeInternal(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final ExecuteCallback<T> executeCallback,
@@ -136,6 +246,37 @@ public abstract class ExecutorEngine implements AutoCloseable {
         return result;
     }
     
+    private Optional<DataSourceBulkhead> acquirePermit(final String dataSourceName) throws InterruptedException {
+        if (maxConcurrencyPerDataSource <= 0) {
+            return Optional.absent();
+        }
+        DataSourceBulkhead result = getBulkhead(dataSourceName);
+        if (!result.permits.tryAcquire()) {
+            long startTime = System.nanoTime();
+            result.permits.acquire();
+            metrics.recordDataSourceWaitTime(dataSourceName, System.nanoTime() - startTime);
+        } else {
+            metrics.recordDataSourceWaitTime(dataSourceName, 0L);
+        }
+        return Optional.of(result);
+    }
+    
+    private void drainStalledBulkheads() {
+        DataSourceBulkhead each = stalledBulkheads.poll();
+        while (null != each && each.drain(false)) {
+            each = stalledBulkheads.poll();
+        }
+    }
+    
+    private DataSourceBulkhead getBulkhead(final String dataSourceName) {
+        DataSourceBulkhead result = dataSourceBulkheads.get(dataSourceName);
+        if (null == result) {
+            dataSourceBulkheads.putIfAbsent(dataSourceName, new DataSourceBulkhead(dataSourceName));
+            result = dataSourceBulkheads.get(dataSourceName);
+        }
+        return result;
+    }
+    
     private AbstractExecutionEvent getExecutionEvent(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final List<Object> parameters) {
         AbstractExecutionEvent result;
         if (SQLType.DQL == sqlType) {
@@ -163,4 +304,145 @@ public abstract class ExecutorEngine implements AutoCloseable {
             }
         });
     }
+    
+    /**
+     * Bulkhead which limits concurrency of data source.
+     * 
+     * <p>Tasks which can not get permit are queued and submitted by the task which releases permit.
+     * If queue of thread pool is full when permit is released, task is put back and bulkhead is stalled
+     * until a task of thread pool finishes, so releasing thread never runs the next task inline.</p>
+     */
+    private final class DataSourceBulkhead {
+        
+        private final String dataSourceName;
+        
+        private final Semaphore permits;
+        
+        private final Deque<PendingTask> pendingTasks = new ConcurrentLinkedDeque<>();
+        
+        DataSourceBulkhead(final String dataSourceName) {
+            this.dataSourceName = dataSourceName;
+            permits = new Semaphore(maxConcurrencyPerDataSource);
+        }
+        
+        void submit(final Runnable task) {
+            pendingTasks.offer(new PendingTask(task, System.nanoTime()));
+            drain(true);
+        }
+        
+        void release() {
+            permits.release();
+            if (!drain(false) && threadPoolExecutor.getQueue().remainingCapacity() > 0) {
+                drainStalledBulkheads();
+            }
+        }
+        
+        private boolean drain(final boolean callerRunsIfRejected) {
+            while (!pendingTasks.isEmpty() && permits.tryAcquire()) {
+                final PendingTask pendingTask = pendingTasks.poll();
+                if (null == pendingTask) {
+                    permits.release();
+                    continue;
+                }
+                Runnable runnable = new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        try {
+                            pendingTask.task.run();
+                        } finally {
+                            release();
+                        }
+                    }
+                };
+                boolean executed;
+                try {
+                    executed = threadPoolExecutor.tryExecute(runnable);
+                } catch (final RejectedExecutionException ex) {
+                    permits.release();
+                    throw ex;
+                }
+                if (executed) {
+                    metrics.recordDataSourceWaitTime(dataSourceName, System.nanoTime() - pendingTask.submitTime);
+                } else if (callerRunsIfRejected) {
+                    metrics.recordDataSourceWaitTime(dataSourceName, System.nanoTime() - pendingTask.submitTime);
+                    runnable.run();
+                } else {
+                    pendingTasks.offerFirst(pendingTask);
+                    permits.release();
+                    stalledBulkheads.offer(this);
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PendingTask {
+        
+        private final Runnable task;
+        
+        private final long submitTime;
+    }
+    
+    /**
+     * Thread pool executor which records queue wait time of tasks.
+     * 
+     * <p>Tasks are run by the submitting thread when bounded queue is full, this throttles callers instead of discarding tasks.
+     * Bulkheads use {@code tryExecute} instead, because they submit tasks from threads of pool.</p>
+     */
+    private static final class TimedThreadPoolExecutor extends ThreadPoolExecutor {
+        
+        private final ExecutorMetrics metrics;
+        
+        private final Runnable afterExecuteListener;
+        
+        TimedThreadPoolExecutor(final int corePoolSize, final int maximumPoolSize, final long keepAliveTime, final TimeUnit unit,
+                                final BlockingQueue<Runnable> workQueue, final ThreadFactory threadFactory, final ExecutorMetrics metrics, final Runnable afterExecuteListener) {
+            super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory);
+            this.metrics = metrics;
+            this.afterExecuteListener = afterExecuteListener;
+        }
+        
+        @Override
+        public void execute(final Runnable command) {
+            if (!tryExecute(command)) {
+                command.run();
+            }
+        }
+        
+        /**
+         * Execute task if queue of thread pool is not full.
+         * 
+         * @param command task to be executed
+         * @return task is accepted or not
+         * @throws RejectedExecutionException thread pool has been closed
+         */
+        boolean tryExecute(final Runnable command) {
+            final long submitTime = System.nanoTime();
+            try {
+                super.execute(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        metrics.recordQueueWaitTime(System.nanoTime() - submitTime);
+                        command.run();
+                    }
+                });
+                return true;
+            } catch (final RejectedExecutionException ex) {
+                if (isShutdown()) {
+                    throw new RejectedExecutionException("ExecutorEngine has been closed.", ex);
+                }
+                return false;
+            }
+        }
+        
+        @Override
+        protected void afterExecute(final Runnable runnable, final Throwable throwable) {
+            super.afterExecute(runnable, throwable);
+            afterExecuteListener.run();
+        }
+    }
 }
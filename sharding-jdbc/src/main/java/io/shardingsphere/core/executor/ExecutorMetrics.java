@@ -0,0 +1,150 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of executor engine.
+ * 
+ * <p>Record how long execution units waited in the queue of thread pool and for the concurrency permits of data sources.</p>
+ *
+ * @author agent
+ */
+public final class ExecutorMetrics {
+    
+    private final WaitTime queueWaitTime = new WaitTime();
+    
+    private final ConcurrentMap<String, WaitTime> dataSourceWaitTimes = new ConcurrentHashMap<>();
+    
+    /**
+     * Record wait time in the queue of thread pool.
+     *
+     * @param waitNanos wait time in nanoseconds
+     */
+    public void recordQueueWaitTime(final long waitNanos) {
+        queueWaitTime.record(waitNanos);
+    }
+    
+    /**
+     * Record wait time for concurrency permit of data source.
+     *
+     * @param dataSourceName data source name
+     * @param waitNanos wait time in nanoseconds
+     */
+    public void recordDataSourceWaitTime(final String dataSourceName, final long waitNanos) {
+        WaitTime waitTime = dataSourceWaitTimes.get(dataSourceName);
+        if (null == waitTime) {
+            dataSourceWaitTimes.putIfAbsent(dataSourceName, new WaitTime());
+            waitTime = dataSourceWaitTimes.get(dataSourceName);
+        }
+        waitTime.record(waitNanos);
+    }
+    
+    /**
+     * Get wait time in the queue of thread pool.
+     *
+     * @return wait time in the queue of thread pool
+     */
+    public WaitTime getQueueWaitTime() {
+        return queueWaitTime;
+    }
+    
+    /**
+     * Get wait time for concurrency permit of data source.
+     *
+     * @param dataSourceName data source name
+     * @return wait time for concurrency permit of data source
+     */
+    public WaitTime getDataSourceWaitTime(final String dataSourceName) {
+        WaitTime result = dataSourceWaitTimes.get(dataSourceName);
+        return null == result ? new WaitTime() : result;
+    }
+    
+    /**
+     * Get wait times for concurrency permit of all data sources.
+     *
+     * @return wait times map, key is data source name
+     */
+    public Map<String, WaitTime> getDataSourceWaitTimes() {
+        return Collections.<String, WaitTime>unmodifiableMap(dataSourceWaitTimes);
+    }
+    
+    /**
+     * Accumulated wait time.
+     */
+    public static final class WaitTime {
+        
+        private final AtomicLong count = new AtomicLong();
+        
+        private final AtomicLong totalNanos = new AtomicLong();
+        
+        private final AtomicLong maxNanos = new AtomicLong();
+        
+        private void record(final long waitNanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(waitNanos);
+            long currentMax = maxNanos.get();
+            while (waitNanos > currentMax && !maxNanos.compareAndSet(currentMax, waitNanos)) {
+                currentMax = maxNanos.get();
+            }
+        }
+        
+        /**
+         * Get recorded count.
+         *
+         * @return recorded count
+         */
+        public long getCount() {
+            return count.get();
+        }
+        
+        /**
+         * Get total wait time in milliseconds.
+         *
+         * @return total wait time in milliseconds
+         */
+        public long getTotalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalNanos.get());
+        }
+        
+        /**
+         * Get max wait time in milliseconds.
+         *
+         * @return max wait time in milliseconds
+         */
+        public long getMaxMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+        
+        /**
+         * Get average wait time in milliseconds.
+         *
+         * @return average wait time in milliseconds
+         */
+        public double getAverageMillis() {
+            long currentCount = count.get();
+            return 0 == currentCount ? 0D : (double) TimeUnit.NANOSECONDS.toMicros(totalNanos.get()) / 1000 / currentCount;
+        }
+    }
+}
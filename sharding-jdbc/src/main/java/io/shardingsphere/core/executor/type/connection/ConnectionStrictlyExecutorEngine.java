@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.executor.type.connection;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.BaseStatementUnit;
@@ -45,12 +46,24 @@ public final class ConnectionStrictlyExecutorEngine extends ExecutorEngine {
         super(executorSize);
     }
     
+    public ConnectionStrictlyExecutorEngine(final int executorSize, final int executorQueueSize, final int maxConcurrencyPerDataSource) {
+        super(executorSize, executorQueueSize, maxConcurrencyPerDataSource);
+    }
+    
     @Override
     protected <T> List<T> getExecuteResults(final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) throws Exception {
         Map<String, Collection<BaseStatementUnit>> baseStatementUnitGroups = getBaseStatementUnitGroups(baseStatementUnits);
-        Collection<T> firstOutputs = syncExecute(sqlType, baseStatementUnitGroups.remove(baseStatementUnitGroups.keySet().iterator().next()), executeCallback);
+        Collection<BaseStatementUnit> firstBaseStatementUnits = baseStatementUnitGroups.remove(baseStatementUnitGroups.keySet().iterator().next());
         Collection<ListenableFuture<Collection<T>>> restResultFutures = asyncExecute(sqlType, baseStatementUnitGroups, executeCallback);
-        return getResultList(firstOutputs, restResultFutures);
+        try {
+            Collection<T> firstOutputs = syncExecute(sqlType, firstBaseStatementUnits, executeCallback);
+            return getResultList(firstOutputs, restResultFutures);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            cancel(restResultFutures);
+            throw ex;
+        }
     }
     
     private Map<String, Collection<BaseStatementUnit>> getBaseStatementUnitGroups(final Collection<? extends BaseStatementUnit> baseStatementUnits) {
@@ -72,7 +85,7 @@ public final class ConnectionStrictlyExecutorEngine extends ExecutorEngine {
         final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
         for (Map.Entry<String, Collection<BaseStatementUnit>> entry : baseStatementUnitGroups.entrySet()) {
             final Collection<BaseStatementUnit> baseStatementUnits = entry.getValue();
-            result.add(getExecutorService().submit(new Callable<Collection<T>>() {
+            result.add(submit(entry.getKey(), new Callable<Collection<T>>() {
                 @Override
                 public Collection<T> call() throws Exception {
                     Collection<T> result = new LinkedList<>();
@@ -87,19 +100,34 @@ public final class ConnectionStrictlyExecutorEngine extends ExecutorEngine {
     }
     
     private <T> Collection<T> syncExecute(final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) throws Exception {
-        Collection<T> result = new LinkedList<>();
-        for (BaseStatementUnit each : baseStatementUnits) {
-            result.add(executeInternal(sqlType, each, executeCallback, ExecutorExceptionHandler.isExceptionThrown(), ExecutorDataMap.getDataMap()));
-        }
-        return result;
+        final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
+        return executeInCallingThread(baseStatementUnits.iterator().next().getSqlExecutionUnit().getDataSource(), new Callable<Collection<T>>() {
+            
+            @Override
+            public Collection<T> call() throws Exception {
+                Collection<T> result = new LinkedList<>();
+                for (BaseStatementUnit each : baseStatementUnits) {
+                    result.add(executeInternal(sqlType, each, executeCallback, isExceptionThrown, dataMap));
+                }
+                return result;
+            }
+        });
     }
     
     private <T> List<T> getResultList(final Collection<T> firstOutputs, final Collection<ListenableFuture<Collection<T>>> restResultFutures) throws ExecutionException, InterruptedException {
         List<T> result = new LinkedList<>();
         result.addAll(firstOutputs);
-        for (ListenableFuture<Collection<T>> each : restResultFutures) {
-            result.addAll(each.get());
+        // TODO merging waits for all results, hand each result to iterator merger once its future completes
+        for (Collection<T> each : Futures.allAsList(restResultFutures).get()) {
+            result.addAll(each);
         }
         return result;
     }
+    
+    private <T> void cancel(final Collection<ListenableFuture<Collection<T>>> futures) {
+        for (ListenableFuture<Collection<T>> each : futures) {
+            each.cancel(false);
+        }
+    }
 }
@@ -18,6 +18,7 @@
 package io.shardingsphere.core.executor.type.memory;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.BaseStatementUnit;
@@ -26,8 +27,12 @@ import io.shardingsphere.core.executor.ExecutorEngine;
 import io.shardingsphere.core.executor.threadlocal.ExecutorDataMap;
 import io.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandler;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -37,6 +42,8 @@ import java.util.concurrent.ExecutionException;
 
 /**
  * Memory strictly execute engine.
+ * 
+ * <p>Statement units which share the same connection are executed serially, others are executed in parallel.</p>
  *
  * @author panjuan
  */
@@ -46,42 +53,115 @@ public final class MemoryStrictlyExecutorEngine extends ExecutorEngine {
         super(executorSize);
     }
     
+    public MemoryStrictlyExecutorEngine(final int executorSize, final int executorQueueSize, final int maxConcurrencyPerDataSource) {
+        super(executorSize, executorQueueSize, maxConcurrencyPerDataSource);
+    }
+    
     @Override
     protected <T> List<T> getExecuteResults(final SQLType sqlType, final Collection<? extends BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) throws Exception {
-        Iterator<? extends BaseStatementUnit> iterator = baseStatementUnits.iterator();
-        T firstOutput = syncExecute(sqlType, iterator.next(), executeCallback);
-        Collection<ListenableFuture<T>> restFutures = asyncExecute(sqlType, Lists.newArrayList(iterator), executeCallback);
-        return getResultList(firstOutput, restFutures);
+        List<BaseStatementUnit> orderedBaseStatementUnits = new ArrayList<>(baseStatementUnits);
+        Iterator<List<Integer>> groupIterator = getBaseStatementUnitGroups(orderedBaseStatementUnits).iterator();
+        List<Integer> firstGroup = groupIterator.next();
+        List<List<Integer>> restGroups = Lists.newArrayList(groupIterator);
+        Collection<ListenableFuture<List<T>>> restFutures = asyncExecute(sqlType, orderedBaseStatementUnits, restGroups, executeCallback);
+        try {
+            List<T> firstOutputs = syncExecute(sqlType, getBaseStatementUnits(orderedBaseStatementUnits, firstGroup), executeCallback);
+            return getResultList(orderedBaseStatementUnits.size(), firstGroup, firstOutputs, restGroups, restFutures);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            cancel(restFutures);
+            throw ex;
+        }
+    }
+    
+    private Collection<List<Integer>> getBaseStatementUnitGroups(final List<BaseStatementUnit> baseStatementUnits) throws SQLException {
+        Collection<List<Integer>> result = new LinkedList<>();
+        Map<Connection, List<Integer>> connectionGroups = new IdentityHashMap<>(baseStatementUnits.size());
+        int count = 0;
+        for (BaseStatementUnit each : baseStatementUnits) {
+            Connection connection = each.getStatement().getConnection();
+            List<Integer> group = null == connection ? null : connectionGroups.get(connection);
+            if (null == group) {
+                group = new LinkedList<>();
+                result.add(group);
+                if (null != connection) {
+                    connectionGroups.put(connection, group);
+                }
+            }
+            group.add(count++);
+        }
+        return result;
+    }
+    
+    private Collection<BaseStatementUnit> getBaseStatementUnits(final List<BaseStatementUnit> baseStatementUnits, final List<Integer> group) {
+        Collection<BaseStatementUnit> result = new LinkedList<>();
+        for (int each : group) {
+            result.add(baseStatementUnits.get(each));
+        }
+        return result;
     }
     
-    private <T> Collection<ListenableFuture<T>> asyncExecute(
-            final SQLType sqlType, final Collection<BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) {
-        List<ListenableFuture<T>> result = new ArrayList<>(baseStatementUnits.size());
+    private <T> Collection<ListenableFuture<List<T>>> asyncExecute(
+            final SQLType sqlType, final List<BaseStatementUnit> baseStatementUnits, final List<List<Integer>> groups, final ExecuteCallback<T> executeCallback) {
+        List<ListenableFuture<List<T>>> result = new ArrayList<>(groups.size());
         final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
-        for (final BaseStatementUnit each : baseStatementUnits) {
-            result.add(getExecutorService().submit(new Callable<T>() {
+        for (List<Integer> each : groups) {
+            final Collection<BaseStatementUnit> groupedBaseStatementUnits = getBaseStatementUnits(baseStatementUnits, each);
+            result.add(submit(groupedBaseStatementUnits.iterator().next().getSqlExecutionUnit().getDataSource(), new Callable<List<T>>() {
                 
                 @Override
-                public T call() throws Exception {
-                    return executeInternal(sqlType, each, executeCallback, isExceptionThrown, dataMap);
+                public List<T> call() throws Exception {
+                    List<T> result = new LinkedList<>();
+                    for (BaseStatementUnit each : groupedBaseStatementUnits) {
+                        result.add(executeInternal(sqlType, each, executeCallback, isExceptionThrown, dataMap));
+                    }
+                    return result;
                 }
             }));
         }
         return result;
     }
     
-    private <T> T syncExecute(final SQLType sqlType, final BaseStatementUnit baseStatementUnit, final ExecuteCallback<T> executeCallback) throws Exception {
-        return executeInternal(sqlType, baseStatementUnit, executeCallback, ExecutorExceptionHandler.isExceptionThrown(), ExecutorDataMap.getDataMap());
+    private <T> List<T> syncExecute(final SQLType sqlType, final Collection<BaseStatementUnit> baseStatementUnits, final ExecuteCallback<T> executeCallback) throws Exception {
+        final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        final Map<String, Object> dataMap = ExecutorDataMap.getDataMap();
+        return executeInCallingThread(baseStatementUnits.iterator().next().getSqlExecutionUnit().getDataSource(), new Callable<List<T>>() {
+            
+            @Override
+            public List<T> call() throws Exception {
+                List<T> result = new LinkedList<>();
+                for (BaseStatementUnit each : baseStatementUnits) {
+                    result.add(executeInternal(sqlType, each, executeCallback, isExceptionThrown, dataMap));
+                }
+                return result;
+            }
+        });
     }
     
-    private <T> List<T> getResultList(final T firstOutput, final Collection<ListenableFuture<T>> restResultFutures) throws ExecutionException, InterruptedException {
-        List<T> result = new LinkedList<>();
-        result.add(firstOutput);
-        for (ListenableFuture<T> each : restResultFutures) {
-            result.add(each.get());
+    private <T> List<T> getResultList(final int size, final List<Integer> firstGroup, final List<T> firstOutputs,
+                                      final List<List<Integer>> restGroups, final Collection<ListenableFuture<List<T>>> restResultFutures) throws ExecutionException, InterruptedException {
+        List<T> result = new ArrayList<>(Collections.<T>nCopies(size, null));
+        fillResultList(result, firstGroup, firstOutputs);
+        Iterator<List<Integer>> groupIterator = restGroups.iterator();
+        // TODO merging waits for all results, hand each result to iterator merger once its future completes
+        for (List<T> each : Futures.allAsList(restResultFutures).get()) {
+            fillResultList(result, groupIterator.next(), each);
         }
         return result;
     }
+    
+    private <T> void cancel(final Collection<ListenableFuture<List<T>>> futures) {
+        for (ListenableFuture<List<T>> each : futures) {
+            each.cancel(false);
+        }
+    }
+    
+    private <T> void fillResultList(final List<T> resultList, final List<Integer> group, final List<T> outputs) {
+        Iterator<T> outputIterator = outputs.iterator();
+        for (int each : group) {
+            resultList.set(each, outputIterator.next());
+        }
+    }
 }
-
@@ -21,6 +21,9 @@ import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.BaseStatementUnit;
 import io.shardingsphere.core.executor.ExecuteCallback;
 import io.shardingsphere.core.executor.ExecutorEngine;
+import io.shardingsphere.core.executor.type.connection.MemoryQueryResult;
+import io.shardingsphere.core.executor.type.memory.StreamQueryResult;
+import io.shardingsphere.core.merger.QueryResult;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.PreparedStatement;
@@ -61,6 +64,26 @@ public final class PreparedStatementExecutor {
         });
     }
     
+    /**
+     * Execute query and load result of data source which shares connection into memory just after its statement executed.
+     * 
+     * <p>Result must be loaded before next statement executes on the same connection, otherwise the streaming result set will be closed or blocked by it.</p>
+     * 
+     * @param memoryLoadingDataSourceNames names of data sources which result should be loaded into memory
+     * @return query results
+     * @throws SQLException SQL exception
+     */
+    public List<QueryResult> executeQuery(final Collection<String> memoryLoadingDataSourceNames) throws SQLException {
+        return executorEngine.execute(sqlType, preparedStatementUnits, new ExecuteCallback<QueryResult>() {
+            
+            @Override
+            public QueryResult execute(final BaseStatementUnit baseStatementUnit) throws Exception {
+                ResultSet resultSet = ((PreparedStatement) baseStatementUnit.getStatement()).executeQuery();
+                return memoryLoadingDataSourceNames.contains(baseStatementUnit.getSqlExecutionUnit().getDataSource()) ? new MemoryQueryResult(resultSet) : new StreamQueryResult(resultSet);
+            }
+        });
+    }
+    
     /**
      * Execute update.
      * 
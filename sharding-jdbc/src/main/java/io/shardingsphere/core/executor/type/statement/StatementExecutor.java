@@ -21,6 +21,10 @@ import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.BaseStatementUnit;
 import io.shardingsphere.core.executor.ExecuteCallback;
 import io.shardingsphere.core.executor.ExecutorEngine;
+import io.shardingsphere.core.executor.type.connection.MemoryQueryResult;
+import io.shardingsphere.core.executor.type.memory.StreamQueryResult;
+import io.shardingsphere.core.merger.QueryResult;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.ResultSet;
@@ -44,6 +48,7 @@ public final class StatementExecutor {
     
     private final SQLType sqlType;
     
+    @Getter
     private final Collection<StatementUnit> statementUnits;
     
     /**
@@ -62,6 +67,26 @@ public final class StatementExecutor {
         });
     }
     
+    /**
+     * Execute query and load result of data source which shares connection into memory just after its statement executed.
+     * 
+     * <p>Result must be loaded before next statement executes on the same connection, otherwise the streaming result set will be closed or blocked by it.</p>
+     * 
+     * @param memoryLoadingDataSourceNames names of data sources which result should be loaded into memory
+     * @return query results
+     * @throws SQLException SQL exception
+     */
+    public List<QueryResult> executeQuery(final Collection<String> memoryLoadingDataSourceNames) throws SQLException {
+        return executorEngine.execute(sqlType, statementUnits, new ExecuteCallback<QueryResult>() {
+            
+            @Override
+            public QueryResult execute(final BaseStatementUnit baseStatementUnit) throws Exception {
+                ResultSet resultSet = baseStatementUnit.getStatement().executeQuery(baseStatementUnit.getSqlExecutionUnit().getSqlUnit().getSql());
+                return memoryLoadingDataSourceNames.contains(baseStatementUnit.getSqlExecutionUnit().getDataSource()) ? new MemoryQueryResult(resultSet) : new StreamQueryResult(resultSet);
+            }
+        });
+    }
+    
     /**
      * Execute update.
      * 
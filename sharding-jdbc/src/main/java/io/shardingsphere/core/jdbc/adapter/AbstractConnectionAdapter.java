@@ -36,8 +36,10 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -66,12 +68,28 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
      * @throws SQLException SQL exception
      */
     public final Connection getConnection(final String dataSourceName) throws SQLException {
+        return getConnections(dataSourceName, 1).get(0);
+    }
+    
+    /**
+     * Get database connections.
+     *
+     * @param dataSourceName data source name
+     * @param connectionSize size of connections to be got
+     * @return database connections
+     * @throws SQLException SQL exception
+     */
+    public final List<Connection> getConnections(final String dataSourceName, final int connectionSize) throws SQLException {
         TransactionContextHolder.set(new TransactionContext(new WeakXaTransactionManager(), TransactionType.XA, WeakXaTransactionEvent.class));
         DataSource dataSource = getDataSourceMap().get(dataSourceName);
         Preconditions.checkState(null != dataSource, "Missing the data source name: '%s'", dataSourceName);
-        Connection result = dataSource.getConnection();
-        cachedConnections.add(result);
-        replayMethodsInvocation(result);
+        List<Connection> result = new ArrayList<>(connectionSize);
+        for (int i = 0; i < connectionSize; i++) {
+            Connection connection = dataSource.getConnection();
+            cachedConnections.add(connection);
+            replayMethodsInvocation(connection);
+            result.add(connection);
+        }
         return result;
     }
     
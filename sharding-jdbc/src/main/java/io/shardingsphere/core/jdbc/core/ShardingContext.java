@@ -24,6 +24,7 @@ import io.shardingsphere.core.executor.ExecutorEngine;
 import io.shardingsphere.core.metadata.ShardingMetaData;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -57,16 +58,26 @@ public final class ShardingContext {
     
     private final ConnectionMode connectionMode;
     
+    private final int maxConnectionsSizePerQuery;
+    
+    private final int maxGroupsSizeInMemory;
+    
     private final ShardingMetaData metaData;
     
-    public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule,
-                           final DatabaseType databaseType, final ExecutorEngine executorEngine, final ShardingTableMetaData shardingTableMetaData, final boolean showSQL, final ConnectionMode connectionMode) {
+    private final ParsingResultCache parsingResultCache;
+    
+    public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final ExecutorEngine executorEngine, 
+                           final ShardingTableMetaData shardingTableMetaData, final boolean showSQL, final ConnectionMode connectionMode, final int maxConnectionsSizePerQuery,
+                           final int maxGroupsSizeInMemory, final ParsingResultCache parsingResultCache) {
         this.dataSourceMap = dataSourceMap;
         this.shardingRule = shardingRule;
         this.databaseType = databaseType;
         this.executorEngine = executorEngine;
         this.showSQL = showSQL;
         this.connectionMode = connectionMode;
+        this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
+        this.maxGroupsSizeInMemory = maxGroupsSizeInMemory;
+        this.parsingResultCache = parsingResultCache;
         metaData = new ShardingMetaData(new ShardingDataSourceMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType), shardingTableMetaData);
     }
     
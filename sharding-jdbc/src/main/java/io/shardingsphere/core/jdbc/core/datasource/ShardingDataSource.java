@@ -32,6 +32,7 @@ import io.shardingsphere.core.jdbc.core.connection.ShardingConnection;
 import io.shardingsphere.core.jdbc.metadata.JDBCTableMetaDataConnectionManager;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataInitializer;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.Getter;
@@ -71,13 +72,40 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
             ConfigMapContext.getInstance().getShardingConfig().putAll(configMap);
         }
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
-        int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
         ConnectionMode connectionMode = ConnectionMode.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
-        executorEngine = ConnectionMode.MEMORY_STRICTLY == connectionMode ? new MemoryStrictlyExecutorEngine(executorSize) : new ConnectionStrictlyExecutorEngine(executorSize);
+        executorEngine = createExecutorEngine(shardingProperties);
         ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(
                 new TableMetaDataInitializer(executorEngine.getExecutorService(), new JDBCTableMetaDataConnectionManager(dataSourceMap)).load(shardingRule));
         boolean showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
-        shardingContext = new ShardingContext(dataSourceMap, shardingRule, getDatabaseType(), executorEngine, shardingTableMetaData, showSQL, connectionMode);
+        int maxConnectionsSizePerQuery = shardingProperties.getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        int maxGroupsSizeInMemory = shardingProperties.getValue(ShardingPropertiesConstant.MAX_GROUPS_SIZE_IN_MEMORY);
+        shardingContext = new ShardingContext(dataSourceMap, shardingRule, getDatabaseType(), executorEngine, shardingTableMetaData,
+                showSQL, connectionMode, maxConnectionsSizePerQuery, maxGroupsSizeInMemory, createParsingResultCache(shardingProperties));
+    }
+    
+    private static ExecutorEngine createExecutorEngine(final ShardingProperties shardingProperties) {
+        int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
+        int executorQueueSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_QUEUE_SIZE);
+        int maxConcurrencyPerDataSource = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATASOURCE);
+        ConnectionMode connectionMode = ConnectionMode.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
+        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new MemoryStrictlyExecutorEngine(executorSize, executorQueueSize, maxConcurrencyPerDataSource)
+                : new ConnectionStrictlyExecutorEngine(executorSize, executorQueueSize, maxConcurrencyPerDataSource);
+    }
+    
+    private static boolean isExecutorEngineChanged(final ShardingProperties originalShardingProperties, final ShardingProperties newShardingProperties) {
+        for (ShardingPropertiesConstant each : new ShardingPropertiesConstant[] {ShardingPropertiesConstant.EXECUTOR_SIZE, ShardingPropertiesConstant.EXECUTOR_QUEUE_SIZE,
+            ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_PER_DATASOURCE, ShardingPropertiesConstant.CONNECTION_MODE}) {
+            if (!originalShardingProperties.getValue(each).equals(newShardingProperties.getValue(each))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static ParsingResultCache createParsingResultCache(final ShardingProperties shardingProperties) {
+        long maximumSize = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_SIZE);
+        long maximumWeight = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_WEIGHT);
+        return new ParsingResultCache(maximumSize, maximumWeight);
     }
     
     /**
@@ -89,20 +117,20 @@ public class ShardingDataSource extends AbstractDataSourceAdapter implements Aut
      */
     public void renew(final Map<String, DataSource> newDataSourceMap, final ShardingRule newShardingRule, final Properties newProps) {
         ShardingProperties newShardingProperties = new ShardingProperties(null == newProps ? new Properties() : newProps);
-        int originalExecutorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        int newExecutorSize = newShardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        ConnectionMode originalConnectionMode = ConnectionMode.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
         ConnectionMode newConnectionMode = ConnectionMode.valueOf(newShardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
-        if (originalExecutorSize != newExecutorSize || originalConnectionMode != newConnectionMode) {
+        if (isExecutorEngineChanged(shardingProperties, newShardingProperties)) {
             ExecutorEngine originalExecutorEngine = executorEngine;
-            executorEngine = ConnectionMode.MEMORY_STRICTLY == newConnectionMode ? new MemoryStrictlyExecutorEngine(newExecutorSize) : new ConnectionStrictlyExecutorEngine(newExecutorSize);
+            executorEngine = createExecutorEngine(newShardingProperties);
             originalExecutorEngine.close();
         }
         boolean newShowSQL = newShardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
         ShardingTableMetaData shardingMetaData = new ShardingTableMetaData(
                 new TableMetaDataInitializer(executorEngine.getExecutorService(), new JDBCTableMetaDataConnectionManager(newDataSourceMap)).load(newShardingRule));
         shardingProperties = newShardingProperties;
-        shardingContext = new ShardingContext(newDataSourceMap, newShardingRule, getDatabaseType(), executorEngine, shardingMetaData, newShowSQL, newConnectionMode);
+        int newMaxConnectionsSizePerQuery = newShardingProperties.getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        int newMaxGroupsSizeInMemory = newShardingProperties.getValue(ShardingPropertiesConstant.MAX_GROUPS_SIZE_IN_MEMORY);
+        shardingContext = new ShardingContext(newDataSourceMap, newShardingRule, getDatabaseType(), executorEngine, shardingMetaData,
+                newShowSQL, newConnectionMode, newMaxConnectionsSizePerQuery, newMaxGroupsSizeInMemory, createParsingResultCache(newShardingProperties));
     }
     
     @Override
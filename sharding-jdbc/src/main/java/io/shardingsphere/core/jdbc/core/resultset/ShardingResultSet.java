@@ -60,6 +60,12 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
         return mergeResultSet.wasNull();
     }
     
+    @Override
+    public void close() throws SQLException {
+        mergeResultSet.close();
+        super.close();
+    }
+    
     @Override
     public boolean getBoolean(final int columnIndex) throws SQLException {
         return (boolean) ResultSetUtil.convertValue(mergeResultSet.getValue(columnIndex, boolean.class), boolean.class);
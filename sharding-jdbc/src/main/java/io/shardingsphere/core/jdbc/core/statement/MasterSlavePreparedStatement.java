@@ -55,7 +55,8 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     public MasterSlavePreparedStatement(
             final MasterSlaveConnection connection, final String sql, final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
         this.connection = connection;
-        masterSlaveRouter = new MasterSlaveRouter(connection.getMasterSlaveDataSource().getMasterSlaveRule(), connection.getMasterSlaveDataSource().showSQL());
+        masterSlaveRouter = new MasterSlaveRouter(
+                connection.getMasterSlaveDataSource().getMasterSlaveRule(), connection.getMasterSlaveDataSource().getDatabaseType(), connection.getMasterSlaveDataSource().showSQL());
         for (String each : masterSlaveRouter.route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(preparedStatement);
@@ -64,7 +65,8 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql, final int autoGeneratedKeys) throws SQLException {
         this.connection = connection;
-        masterSlaveRouter = new MasterSlaveRouter(connection.getMasterSlaveDataSource().getMasterSlaveRule(), connection.getMasterSlaveDataSource().showSQL());
+        masterSlaveRouter = new MasterSlaveRouter(
+                connection.getMasterSlaveDataSource().getMasterSlaveRule(), connection.getMasterSlaveDataSource().getDatabaseType(), connection.getMasterSlaveDataSource().showSQL());
         for (String each : masterSlaveRouter.route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, autoGeneratedKeys);
             routedStatements.add(preparedStatement);
@@ -73,7 +75,8 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql, final int[] columnIndexes) throws SQLException {
         this.connection = connection;
-        masterSlaveRouter = new MasterSlaveRouter(connection.getMasterSlaveDataSource().getMasterSlaveRule(), connection.getMasterSlaveDataSource().showSQL());
+        masterSlaveRouter = new MasterSlaveRouter(
+                connection.getMasterSlaveDataSource().getMasterSlaveRule(), connection.getMasterSlaveDataSource().getDatabaseType(), connection.getMasterSlaveDataSource().showSQL());
         for (String each : masterSlaveRouter.route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, columnIndexes);
             routedStatements.add(preparedStatement);
@@ -82,7 +85,8 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql, final String[] columnNames) throws SQLException {
         this.connection = connection;
-        masterSlaveRouter = new MasterSlaveRouter(connection.getMasterSlaveDataSource().getMasterSlaveRule(), connection.getMasterSlaveDataSource().showSQL());
+        masterSlaveRouter = new MasterSlaveRouter(
+                connection.getMasterSlaveDataSource().getMasterSlaveRule(), connection.getMasterSlaveDataSource().getDatabaseType(), connection.getMasterSlaveDataSource().showSQL());
         for (String each : masterSlaveRouter.route(sql)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, columnNames);
             routedStatements.add(preparedStatement);
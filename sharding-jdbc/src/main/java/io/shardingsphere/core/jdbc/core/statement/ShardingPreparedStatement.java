@@ -24,8 +24,6 @@ import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.type.batch.BatchPreparedStatementExecutor;
 import io.shardingsphere.core.executor.type.batch.BatchPreparedStatementUnit;
-import io.shardingsphere.core.executor.type.connection.MemoryQueryResult;
-import io.shardingsphere.core.executor.type.memory.StreamQueryResult;
 import io.shardingsphere.core.executor.type.prepared.PreparedStatementExecutor;
 import io.shardingsphere.core.executor.type.prepared.PreparedStatementUnit;
 import io.shardingsphere.core.jdbc.adapter.AbstractShardingPreparedStatementAdapter;
@@ -48,6 +46,7 @@ import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
 import io.shardingsphere.core.routing.SQLExecutionUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.routing.event.EventRoutingType;
 import io.shardingsphere.core.routing.event.SqlRoutingEvent;
 import io.shardingsphere.core.routing.router.sharding.GeneratedKey;
@@ -62,10 +61,12 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 
 /**
@@ -92,9 +93,9 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     private final List<BatchPreparedStatementUnit> batchStatementUnits = new LinkedList<>();
     
     private final Collection<PreparedStatement> routedStatements = new LinkedList<>();
-
+    
     private final String sql;
-
+    
     private int batchCount;
     
     @Getter(AccessLevel.NONE)
@@ -128,8 +129,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.resultSetHoldability = resultSetHoldability;
         this.sql = sql;
         ShardingContext shardingContext = connection.getShardingContext();
-        routingEngine = new PreparedStatementRoutingEngine(sql, shardingContext.getShardingRule(), 
-                shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource());
+        routingEngine = new PreparedStatementRoutingEngine(sql, shardingContext.getShardingRule(), shardingContext.getMetaData().getTable(), 
+                shardingContext.getDatabaseType(), shardingContext.isShowSQL(), shardingContext.getMetaData().getDataSource(), shardingContext.getParsingResultCache());
     }
     
     @Override
@@ -138,11 +139,11 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         ResultSet result;
         try {
             Collection<PreparedStatementUnit> preparedStatementUnits = route();
-            List<ResultSet> resultSets = new PreparedStatementExecutor(
-                    connection.getShardingContext().getExecutorEngine(), routeResult.getSqlStatement().getType(), preparedStatementUnits).executeQuery();
-            MergeEngine mergeEngine = MergeEngineFactory.newInstance(
-                    connection.getShardingContext().getShardingRule(), getQueryResults(resultSets), routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
-            result = new ShardingResultSet(resultSets, merge(mergeEngine), this);
+            List<QueryResult> queryResults = new PreparedStatementExecutor(
+                    connection.getShardingContext().getExecutorEngine(), routeResult.getSqlStatement().getType(), preparedStatementUnits).executeQuery(getMemoryLoadingDataSourceNames());
+            MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getShardingRule(),
+                    queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(), connection.getShardingContext().getMaxGroupsSizeInMemory());
+            result = new ShardingResultSet(getResultSets(preparedStatementUnits), merge(mergeEngine), this);
         } finally {
             clearBatch();
         }
@@ -150,18 +151,28 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return result;
     }
     
-    private List<QueryResult> getQueryResults(final List<ResultSet> resultSets) throws SQLException {
-        List<QueryResult> result = new ArrayList<>(resultSets.size());
-        for (ResultSet each : resultSets) {
-            if (ConnectionMode.MEMORY_STRICTLY == connection.getShardingContext().getConnectionMode()) {
-                result.add(new StreamQueryResult(each));
-            } else {
-                result.add(new MemoryQueryResult(each));
+    private Collection<String> getMemoryLoadingDataSourceNames() {
+        Collection<String> result = new HashSet<>();
+        for (Entry<String, Collection<SQLUnit>> entry : routeResult.getSQLUnitGroups().entrySet()) {
+            if (ConnectionMode.MEMORY_STRICTLY != connection.getShardingContext().getConnectionMode() || isConnectionShared(entry.getValue().size())) {
+                result.add(entry.getKey());
             }
         }
         return result;
     }
     
+    private List<ResultSet> getResultSets(final Collection<PreparedStatementUnit> preparedStatementUnits) throws SQLException {
+        List<ResultSet> result = new ArrayList<>(preparedStatementUnits.size());
+        for (PreparedStatementUnit each : preparedStatementUnits) {
+            result.add(each.getStatement().getResultSet());
+        }
+        return result;
+    }
+    
+    private boolean isConnectionShared(final int sqlUnitSize) {
+        return getConnectionSize(sqlUnitSize) < sqlUnitSize;
+    }
+    
     @Override
     public int executeUpdate() throws SQLException {
         routedStatements.clear();
@@ -214,15 +225,24 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private Collection<PreparedStatementUnit> getPreparedStatementUnitsForMemoryStrictly() throws SQLException {
         Collection<PreparedStatementUnit> result = new LinkedList<>();
-        for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
-            PreparedStatement preparedStatement = generatePreparedStatement(connection.getConnection(each.getDataSource()), each.getSqlUnit().getSql());
-            routedStatements.add(preparedStatement);
-            replaySetParameter(preparedStatement, each.getSqlUnit().getParameterSets().get(0));
-            result.add(new PreparedStatementUnit(each, preparedStatement));
+        for (Entry<String, Collection<SQLUnit>> entry : routeResult.getSQLUnitGroups().entrySet()) {
+            List<Connection> connections = connection.getConnections(entry.getKey(), getConnectionSize(entry.getValue().size()));
+            int count = 0;
+            for (SQLUnit each : entry.getValue()) {
+                PreparedStatement preparedStatement = generatePreparedStatement(connections.get(count++ % connections.size()), each.getSql());
+                routedStatements.add(preparedStatement);
+                replaySetParameter(preparedStatement, each.getParameterSets().get(0));
+                result.add(new PreparedStatementUnit(new SQLExecutionUnit(entry.getKey(), each), preparedStatement));
+            }
         }
         return result;
     }
     
+    private int getConnectionSize(final int sqlUnitSize) {
+        int maxConnectionsSizePerQuery = connection.getShardingContext().getMaxConnectionsSizePerQuery();
+        return maxConnectionsSizePerQuery > 0 ? Math.min(maxConnectionsSizePerQuery, sqlUnitSize) : sqlUnitSize;
+    }
+    
     private PreparedStatement generatePreparedStatement(final Connection connection, final String sql) throws SQLException {
         return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
                 : connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
@@ -352,8 +372,8 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
             queryResults.add(new StreamQueryResult(resultSet));
         }
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
-            MergeEngine mergeEngine = MergeEngineFactory.newInstance(
-                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
+            MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getShardingRule(),
+                    queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(), connection.getShardingContext().getMaxGroupsSizeInMemory());
             currentResultSet = new ShardingResultSet(resultSets, merge(mergeEngine), this);
         }
         return currentResultSet;
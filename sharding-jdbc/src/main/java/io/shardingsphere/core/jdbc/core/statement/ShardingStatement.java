@@ -20,8 +20,6 @@ package io.shardingsphere.core.jdbc.core.statement;
 import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.SQLType;
-import io.shardingsphere.core.executor.type.connection.MemoryQueryResult;
-import io.shardingsphere.core.executor.type.memory.StreamQueryResult;
 import io.shardingsphere.core.executor.type.statement.StatementExecutor;
 import io.shardingsphere.core.executor.type.statement.StatementUnit;
 import io.shardingsphere.core.jdbc.adapter.AbstractStatementAdapter;
@@ -43,6 +41,7 @@ import io.shardingsphere.core.parsing.parser.sql.dql.DQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.routing.SQLExecutionUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
+import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.routing.StatementRoutingEngine;
 import io.shardingsphere.core.routing.event.EventRoutingType;
 import io.shardingsphere.core.routing.event.SqlRoutingEvent;
@@ -57,10 +56,12 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Statement that support sharding.
@@ -113,10 +114,11 @@ public class ShardingStatement extends AbstractStatementAdapter {
     public ResultSet executeQuery(final String sql) throws SQLException {
         ResultSet result;
         try {
-            List<ResultSet> resultSets = generateExecutor(sql).executeQuery();
-            MergeEngine mergeEngine = MergeEngineFactory.newInstance(
-                    connection.getShardingContext().getShardingRule(), getQueryResults(resultSets), routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
-            result = new ShardingResultSet(resultSets, merge(mergeEngine), this);
+            StatementExecutor statementExecutor = generateExecutor(sql);
+            List<QueryResult> queryResults = statementExecutor.executeQuery(getMemoryLoadingDataSourceNames());
+            MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getShardingRule(),
+                    queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(), connection.getShardingContext().getMaxGroupsSizeInMemory());
+            result = new ShardingResultSet(getResultSets(statementExecutor.getStatementUnits()), merge(mergeEngine), this);
         } finally {
             currentResultSet = null;
         }
@@ -124,18 +126,28 @@ public class ShardingStatement extends AbstractStatementAdapter {
         return result;
     }
     
-    private List<QueryResult> getQueryResults(final List<ResultSet> resultSets) throws SQLException {
-        List<QueryResult> result = new ArrayList<>(resultSets.size());
-        for (ResultSet each : resultSets) {
-            if (ConnectionMode.MEMORY_STRICTLY == connection.getShardingContext().getConnectionMode()) {
-                result.add(new StreamQueryResult(each));
-            } else {
-                result.add(new MemoryQueryResult(each));
+    private Collection<String> getMemoryLoadingDataSourceNames() {
+        Collection<String> result = new HashSet<>();
+        for (Entry<String, Collection<SQLUnit>> entry : routeResult.getSQLUnitGroups().entrySet()) {
+            if (ConnectionMode.MEMORY_STRICTLY != connection.getShardingContext().getConnectionMode() || isConnectionShared(entry.getValue().size())) {
+                result.add(entry.getKey());
             }
         }
         return result;
     }
     
+    private List<ResultSet> getResultSets(final Collection<StatementUnit> statementUnits) throws SQLException {
+        List<ResultSet> result = new ArrayList<>(statementUnits.size());
+        for (StatementUnit each : statementUnits) {
+            result.add(each.getStatement().getResultSet());
+        }
+        return result;
+    }
+    
+    private boolean isConnectionShared(final int sqlUnitSize) {
+        return getConnectionSize(sqlUnitSize) < sqlUnitSize;
+    }
+    
     @Override
     public int executeUpdate(final String sql) throws SQLException {
         try {
@@ -145,7 +157,7 @@ public class ShardingStatement extends AbstractStatementAdapter {
             currentResultSet = null;
         }
     }
-
+    
     @Override
     public int executeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
         if (RETURN_GENERATED_KEYS == autoGeneratedKeys) {
@@ -247,16 +259,24 @@ public class ShardingStatement extends AbstractStatementAdapter {
     
     private Collection<StatementUnit> getStatementUnitsForMemoryStrictly() throws SQLException {
         Collection<StatementUnit> result = new LinkedList<>();
-        for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
-            String dataSourceName = each.getDataSource();
-            Statement statement = connection.getConnection(dataSourceName).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
-            replayMethodsInvocation(statement);
-            result.add(new StatementUnit(each, statement));
-            routedStatements.add(statement);
+        for (Entry<String, Collection<SQLUnit>> entry : routeResult.getSQLUnitGroups().entrySet()) {
+            List<Connection> connections = connection.getConnections(entry.getKey(), getConnectionSize(entry.getValue().size()));
+            int count = 0;
+            for (SQLUnit each : entry.getValue()) {
+                Statement statement = connections.get(count++ % connections.size()).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+                replayMethodsInvocation(statement);
+                result.add(new StatementUnit(new SQLExecutionUnit(entry.getKey(), each), statement));
+                routedStatements.add(statement);
+            }
         }
         return result;
     }
     
+    private int getConnectionSize(final int sqlUnitSize) {
+        int maxConnectionsSizePerQuery = connection.getShardingContext().getMaxConnectionsSizePerQuery();
+        return maxConnectionsSizePerQuery > 0 ? Math.min(maxConnectionsSizePerQuery, sqlUnitSize) : sqlUnitSize;
+    }
+    
     private void clearPrevious() throws SQLException {
         for (Statement each : routedStatements) {
             each.close();
@@ -329,8 +349,8 @@ public class ShardingStatement extends AbstractStatementAdapter {
             queryResults.add(new StreamQueryResult(resultSet));
         }
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
-            MergeEngine mergeEngine = MergeEngineFactory.newInstance(
-                    connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
+            MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getShardingRule(),
+                    queryResults, routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(), connection.getShardingContext().getMaxGroupsSizeInMemory());
             currentResultSet = new ShardingResultSet(resultSets, merge(mergeEngine), this);
         }
         return currentResultSet;
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor;
+
+import io.shardingsphere.core.constant.SQLType;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.executor.type.connection.ConnectionStrictlyExecutorEngine;
+import io.shardingsphere.core.executor.type.memory.MemoryStrictlyExecutorEngine;
+import io.shardingsphere.core.executor.type.statement.StatementUnit;
+import io.shardingsphere.core.routing.SQLExecutionUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ExecutorEngineTest {
+    
+    private ExecutorEngine executorEngine;
+    
+    @After
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    @Test
+    public void assertExecuteSingleUnitInCallingThread() throws SQLException {
+        executorEngine = new MemoryStrictlyExecutorEngine(1);
+        List<Thread> actual = executorEngine.execute(SQLType.DQL, createStatementUnits("ds_0"), new ExecuteCallback<Thread>() {
+            
+            @Override
+            public Thread execute(final BaseStatementUnit baseStatementUnit) {
+                return Thread.currentThread();
+            }
+        });
+        assertThat(actual, is(Collections.singletonList(Thread.currentThread())));
+    }
+    
+    @Test
+    public void assertExecuteWithMaxConcurrencyPerDataSource() throws SQLException {
+        executorEngine = new MemoryStrictlyExecutorEngine(4, 0, 1);
+        final AtomicInteger concurrency = new AtomicInteger();
+        final AtomicInteger maxConcurrency = new AtomicInteger();
+        List<String> actual = executorEngine.execute(SQLType.DQL, createStatementUnits("ds_0", "ds_0", "ds_0"), new ExecuteCallback<String>() {
+            
+            @Override
+            public String execute(final BaseStatementUnit baseStatementUnit) throws InterruptedException {
+                int current = concurrency.incrementAndGet();
+                if (current > maxConcurrency.get()) {
+                    maxConcurrency.set(current);
+                }
+                Thread.sleep(20L);
+                concurrency.decrementAndGet();
+                return baseStatementUnit.getSqlExecutionUnit().getSqlUnit().getSql();
+            }
+        });
+        assertThat(actual, is(Arrays.asList("SELECT 0", "SELECT 1", "SELECT 2")));
+        assertThat(maxConcurrency.get(), is(1));
+        assertThat(executorEngine.getMetrics().getDataSourceWaitTime("ds_0").getCount(), is(3L));
+    }
+    
+    @Test
+    public void assertExecuteOtherDataSourceWhenPermitsOfDataSourceExhausted() throws SQLException {
+        executorEngine = new MemoryStrictlyExecutorEngine(1, 0, 1);
+        final List<String> executedSQLs = new CopyOnWriteArrayList<>();
+        List<String> actual = executorEngine.execute(SQLType.DQL, createStatementUnits("ds_0", "ds_0", "ds_0", "ds_1"), new ExecuteCallback<String>() {
+            
+            @Override
+            public String execute(final BaseStatementUnit baseStatementUnit) throws InterruptedException {
+                if ("ds_0".equals(baseStatementUnit.getSqlExecutionUnit().getDataSource())) {
+                    Thread.sleep(20L);
+                }
+                executedSQLs.add(baseStatementUnit.getSqlExecutionUnit().getSqlUnit().getSql());
+                return baseStatementUnit.getSqlExecutionUnit().getSqlUnit().getSql();
+            }
+        });
+        assertThat(actual, is(Arrays.asList("SELECT 0", "SELECT 1", "SELECT 2", "SELECT 3")));
+        assertTrue(executedSQLs.indexOf("SELECT 3") < executedSQLs.indexOf("SELECT 2"));
+        assertThat(executorEngine.getMetrics().getDataSourceWaitTime("ds_0").getCount(), is(3L));
+        assertThat(executorEngine.getMetrics().getDataSourceWaitTime("ds_1").getCount(), is(1L));
+    }
+    
+    @Test
+    public void assertExecuteWithBoundedQueue() throws SQLException {
+        executorEngine = new MemoryStrictlyExecutorEngine(1, 1, 0);
+        List<String> actual = executorEngine.execute(SQLType.DQL, createStatementUnits("ds_0", "ds_1", "ds_2", "ds_3"), new ExecuteCallback<String>() {
+            
+            @Override
+            public String execute(final BaseStatementUnit baseStatementUnit) throws InterruptedException {
+                Thread.sleep(20L);
+                return baseStatementUnit.getSqlExecutionUnit().getDataSource();
+            }
+        });
+        assertThat(actual, is(Arrays.asList("ds_0", "ds_1", "ds_2", "ds_3")));
+        assertThat(executorEngine.getMetrics().getQueueWaitTime().getCount(), is(3L));
+        assertThat(executorEngine.getQueueDepth(), is(0));
+        assertThat(executorEngine.getMetrics().getDataSourceWaitTimes().isEmpty(), is(true));
+    }
+    
+    @Test
+    public void assertExecuteWithMaxConcurrencyPerDataSourceAndBoundedQueue() throws SQLException {
+        executorEngine = new MemoryStrictlyExecutorEngine(1, 1, 2);
+        final ThreadLocal<Boolean> running = new ThreadLocal<>();
+        final AtomicInteger nestedCount = new AtomicInteger();
+        List<String> actual = executorEngine.execute(SQLType.DQL, createStatementUnits("ds_0", "ds_1", "ds_1", "ds_1", "ds_1", "ds_1"), new ExecuteCallback<String>() {
+            
+            @Override
+            public String execute(final BaseStatementUnit baseStatementUnit) throws InterruptedException {
+                if (Boolean.TRUE.equals(running.get())) {
+                    nestedCount.incrementAndGet();
+                }
+                running.set(true);
+                try {
+                    Thread.sleep(10L);
+                    return baseStatementUnit.getSqlExecutionUnit().getSqlUnit().getSql();
+                } finally {
+                    running.set(false);
+                }
+            }
+        });
+        assertThat(actual, is(Arrays.asList("SELECT 0", "SELECT 1", "SELECT 2", "SELECT 3", "SELECT 4", "SELECT 5")));
+        assertThat(nestedCount.get(), is(0));
+        assertThat(executorEngine.getMetrics().getDataSourceWaitTime("ds_1").getCount(), is(5L));
+    }
+    
+    @Test
+    public void assertExecuteRestUnitsConcurrentlyWithFirstUnitForMemoryStrictly() throws SQLException {
+        executorEngine = new MemoryStrictlyExecutorEngine(1);
+        assertThat(executorEngine.execute(SQLType.DQL, createStatementUnits("ds_0", "ds_1"), new AwaitRestUnitsExecuteCallback()), is(Arrays.asList(true, true)));
+    }
+    
+    @Test
+    public void assertExecuteRestUnitsConcurrentlyWithFirstUnitForConnectionStrictly() throws SQLException {
+        executorEngine = new ConnectionStrictlyExecutorEngine(1);
+        assertThat(executorEngine.execute(SQLType.DQL, createStatementUnits("ds_0", "ds_1"), new AwaitRestUnitsExecuteCallback()), is(Arrays.asList(true, true)));
+    }
+    
+    @Test
+    public void assertCancelRestUnitsWhenFirstUnitFailedForMemoryStrictly() throws SQLException, InterruptedException, ExecutionException {
+        executorEngine = new MemoryStrictlyExecutorEngine(1);
+        assertCancelRestUnitsWhenFirstUnitFailed();
+    }
+    
+    @Test
+    public void assertCancelRestUnitsWhenFirstUnitFailedForConnectionStrictly() throws SQLException, InterruptedException, ExecutionException {
+        executorEngine = new ConnectionStrictlyExecutorEngine(1);
+        assertCancelRestUnitsWhenFirstUnitFailed();
+    }
+    
+    private void assertCancelRestUnitsWhenFirstUnitFailed() throws SQLException, InterruptedException, ExecutionException {
+        FailFirstUnitExecuteCallback executeCallback = new FailFirstUnitExecuteCallback();
+        try {
+            executorEngine.execute(SQLType.DQL, createStatementUnits("ds_0", "ds_1", "ds_2"), executeCallback);
+            fail("Expected ShardingException.");
+        } catch (final ShardingException ignored) {
+        }
+        executeCallback.runningUnitLatch.countDown();
+        executorEngine.getExecutorService().submit(new Runnable() {
+            
+            @Override
+            public void run() {
+            }
+        }).get();
+        assertThat(executeCallback.executedDataSourceNames, is(Collections.singletonList("ds_1")));
+    }
+    
+    private Collection<StatementUnit> createStatementUnits(final String... dataSourceNames) throws SQLException {
+        Collection<StatementUnit> result = new LinkedList<>();
+        int count = 0;
+        for (String each : dataSourceNames) {
+            Statement statement = mock(Statement.class);
+            when(statement.getConnection()).thenReturn(mock(Connection.class));
+            result.add(new StatementUnit(new SQLExecutionUnit(each, new SQLUnit("SELECT " + count++, new ArrayList<List<Object>>(Collections.singleton(Collections.<Object>emptyList())))), statement));
+        }
+        return result;
+    }
+    
+    private static final class AwaitRestUnitsExecuteCallback implements ExecuteCallback<Boolean> {
+        
+        private final CountDownLatch restUnitsLatch = new CountDownLatch(1);
+        
+        @Override
+        public Boolean execute(final BaseStatementUnit baseStatementUnit) throws InterruptedException {
+            if ("ds_0".equals(baseStatementUnit.getSqlExecutionUnit().getDataSource())) {
+                return restUnitsLatch.await(5L, TimeUnit.SECONDS);
+            }
+            restUnitsLatch.countDown();
+            return true;
+        }
+    }
+    
+    private static final class FailFirstUnitExecuteCallback implements ExecuteCallback<Boolean> {
+        
+        private final CountDownLatch startedUnitLatch = new CountDownLatch(1);
+        
+        private final CountDownLatch runningUnitLatch = new CountDownLatch(1);
+        
+        private final List<String> executedDataSourceNames = new CopyOnWriteArrayList<>();
+        
+        @Override
+        public Boolean execute(final BaseStatementUnit baseStatementUnit) throws InterruptedException {
+            if ("ds_0".equals(baseStatementUnit.getSqlExecutionUnit().getDataSource())) {
+                startedUnitLatch.await(5L, TimeUnit.SECONDS);
+                throw new IllegalStateException("First unit failed.");
+            }
+            startedUnitLatch.countDown();
+            runningUnitLatch.await(5L, TimeUnit.SECONDS);
+            executedDataSourceNames.add(baseStatementUnit.getSqlExecutionUnit().getDataSource());
+            return true;
+        }
+    }
+}
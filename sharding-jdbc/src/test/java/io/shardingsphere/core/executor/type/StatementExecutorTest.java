@@ -20,14 +20,19 @@ package io.shardingsphere.core.executor.type;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.executor.event.EventExecutionType;
 import io.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandler;
+import io.shardingsphere.core.executor.type.connection.MemoryQueryResult;
+import io.shardingsphere.core.executor.type.memory.StreamQueryResult;
 import io.shardingsphere.core.executor.type.statement.StatementExecutor;
 import io.shardingsphere.core.executor.type.statement.StatementUnit;
+import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.rewrite.SQLBuilder;
 import io.shardingsphere.core.routing.SQLExecutionUnit;
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
@@ -37,10 +42,12 @@ import java.util.LinkedList;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -146,6 +153,41 @@ public final class StatementExecutorTest extends AbstractBaseExecutorTest {
         verify(getEventCaller(), times(2)).verifyException(exp);
     }
     
+    @Test
+    public void assertExecuteQueryWithSharedConnectionLoadedIntoMemory() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        ResultSet resultSet1 = mockResultSet();
+        ResultSet resultSet2 = mockResultSet();
+        when(statement1.executeQuery(DQL_SQL)).thenReturn(resultSet1);
+        when(statement1.getConnection()).thenReturn(connection);
+        when(statement2.executeQuery(DQL_SQL)).thenReturn(resultSet2);
+        when(statement2.getConnection()).thenReturn(connection);
+        StatementExecutor actual = new StatementExecutor(getExecutorEngine(), SQLType.DQL, createStatementUnits(DQL_SQL, statement1, "ds_0", statement2, "ds_0"));
+        List<QueryResult> actualQueryResults = actual.executeQuery(Collections.singleton("ds_0"));
+        assertThat(actualQueryResults.size(), is(2));
+        assertThat(actualQueryResults.get(0), instanceOf(MemoryQueryResult.class));
+        assertThat(actualQueryResults.get(1), instanceOf(MemoryQueryResult.class));
+        InOrder inOrder = inOrder(statement1, resultSet1, statement2);
+        inOrder.verify(statement1).executeQuery(DQL_SQL);
+        inOrder.verify(resultSet1).next();
+        inOrder.verify(statement2).executeQuery(DQL_SQL);
+    }
+    
+    @Test
+    public void assertExecuteQueryWithoutMemoryLoading() throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mockResultSet();
+        when(statement.executeQuery(DQL_SQL)).thenReturn(resultSet);
+        when(statement.getConnection()).thenReturn(mock(Connection.class));
+        StatementExecutor actual = new StatementExecutor(getExecutorEngine(), SQLType.DQL, createStatementUnits(DQL_SQL, statement, "ds_0"));
+        List<QueryResult> actualQueryResults = actual.executeQuery(Collections.<String>emptySet());
+        assertThat(actualQueryResults.size(), is(1));
+        assertThat(actualQueryResults.get(0), instanceOf(StreamQueryResult.class));
+        verify(resultSet, times(0)).next();
+    }
+    
     @Test
     public void assertExecuteUpdateForSingleStatementSuccess() throws SQLException {
         Statement statement = mock(Statement.class);
@@ -464,6 +506,12 @@ public final class StatementExecutorTest extends AbstractBaseExecutorTest {
         verify(getEventCaller()).verifyEventExecutionType(EventExecutionType.EXECUTE_FAILURE);
     }
     
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.getMetaData()).thenReturn(mock(ResultSetMetaData.class));
+        return result;
+    }
+    
     private Collection<StatementUnit> createStatementUnits(final String sql, final Statement statement, final String dataSource) {
         Collection<StatementUnit> result = new LinkedList<>();
         SQLBuilder sqlBuilder = new SQLBuilder();
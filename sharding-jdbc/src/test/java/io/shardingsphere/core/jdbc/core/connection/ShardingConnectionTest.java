@@ -27,6 +27,7 @@ import io.shardingsphere.core.jdbc.core.ShardingContext;
 import io.shardingsphere.core.jdbc.core.datasource.MasterSlaveDataSource;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
 import org.junit.After;
 import org.junit.Before;
@@ -38,10 +39,13 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThat;
 
 public final class ShardingConnectionTest {
     
@@ -72,7 +76,8 @@ public final class ShardingConnectionTest {
         Map<String, DataSource> dataSourceMap = new HashMap<>(1, 1);
         dataSourceMap.put(DS_NAME, masterSlaveDataSource);
         ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, dataSourceMap.keySet());
-        ShardingContext shardingContext = new ShardingContext(dataSourceMap, shardingRule, DatabaseType.H2, null, new ShardingTableMetaData(Collections.<String, TableMetaData>emptyMap()), false, ConnectionMode.MEMORY_STRICTLY);
+        ShardingContext shardingContext = new ShardingContext(dataSourceMap, shardingRule, DatabaseType.H2, null, 
+                new ShardingTableMetaData(Collections.<String, TableMetaData>emptyMap()), false, ConnectionMode.MEMORY_STRICTLY, 0, 0, new ParsingResultCache(1024, 0));
         connection = new ShardingConnection(shardingContext);
     }
     
@@ -89,6 +94,13 @@ public final class ShardingConnectionTest {
         assertNotSame(connection.getConnection(DS_NAME), connection.getConnection(DS_NAME));
     }
     
+    @Test
+    public void assertGetConnections() throws SQLException {
+        List<Connection> actual = connection.getConnections(DS_NAME, 2);
+        assertThat(actual.size(), is(2));
+        assertNotSame(actual.get(0), actual.get(1));
+    }
+    
     @Test(expected = IllegalStateException.class)
     public void assertGetConnectionFailure() throws SQLException {
         connection.getConnection("not_exist");
@@ -34,6 +34,7 @@ import io.shardingsphere.core.jdbc.core.statement.ShardingPreparedStatement;
 import io.shardingsphere.core.jdbc.core.statement.ShardingStatement;
 import io.shardingsphere.core.merger.MergeEngine;
 import io.shardingsphere.core.merger.dal.DALMergeEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowColumnsStatement;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowDatabasesStatement;
 import io.shardingsphere.core.rule.ShardingRule;
@@ -88,7 +89,7 @@ public final class MergeEventListenerTest {
         dataSourceMap.put("ds_0", mockDataSource());
         dataSourceMap.put("ds_1", mockDataSource());
         ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, dataSourceMap.keySet());
-        shardingContext = new ShardingContext(dataSourceMap, shardingRule, DatabaseType.MySQL, null, null, true, ConnectionMode.MEMORY_STRICTLY);
+        shardingContext = new ShardingContext(dataSourceMap, shardingRule, DatabaseType.MySQL, null, null, true, ConnectionMode.MEMORY_STRICTLY, 0, 0, new ParsingResultCache(1024, 0));
         mergeEngine = new DALMergeEngine(null, null, new ShowDatabasesStatement(), null);
     }
     
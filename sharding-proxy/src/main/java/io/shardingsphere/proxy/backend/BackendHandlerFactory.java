@@ -18,6 +18,7 @@
 package io.shardingsphere.proxy.backend;
 
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.backend.jdbc.JDBCBackendHandler;
 import io.shardingsphere.proxy.backend.jdbc.execute.JDBCExecuteEngineFactory;
@@ -50,8 +51,8 @@ public final class BackendHandlerFactory {
      */
     public static BackendHandler newTextProtocolInstance(
             final int connectionId, final int sequenceId, final String sql, final BackendConnection backendConnection, final DatabaseType databaseType) {
-        return RULE_REGISTRY.getBackendNIOConfig().isUseNIO()
-                ? new NettyBackendHandler(connectionId, sequenceId, sql, databaseType) : new JDBCBackendHandler(sql, JDBCExecuteEngineFactory.createTextProtocolInstance(backendConnection));
+        return RULE_REGISTRY.getBackendNIOConfig().isUseNIO() ? new NettyBackendHandler(connectionId, sequenceId, sql, backendConnection, databaseType)
+                : new JDBCBackendHandler(sql, JDBCExecuteEngineFactory.createTextProtocolInstance(backendConnection));
     }
     
     /**
@@ -60,14 +61,16 @@ public final class BackendHandlerFactory {
      * @param connectionId connection ID of database connected
      * @param sequenceId sequence ID of SQL packet
      * @param sql SQL to be executed
+     * @param routingEngine routing engine of prepared statement, null for master-slave only rule
      * @param parameters SQL parameters
      * @param backendConnection backend connection
      * @param databaseType database type
      * @return instance of text protocol backend handler
      */
     public static BackendHandler newBinaryProtocolInstance(
-            final int connectionId, final int sequenceId, final String sql, final List<Object> parameters, final BackendConnection backendConnection, final DatabaseType databaseType) {
-        return RULE_REGISTRY.getBackendNIOConfig().isUseNIO() ? new NettyBackendHandler(connectionId, sequenceId, sql, databaseType)
-                : new JDBCBackendHandler(sql, JDBCExecuteEngineFactory.createBinaryProtocolInstance(parameters, backendConnection));
+            final int connectionId, final int sequenceId, final String sql, final PreparedStatementRoutingEngine routingEngine,
+            final List<Object> parameters, final BackendConnection backendConnection, final DatabaseType databaseType) {
+        return RULE_REGISTRY.getBackendNIOConfig().isUseNIO() ? new NettyBackendHandler(connectionId, sequenceId, sql, backendConnection, databaseType)
+                : new JDBCBackendHandler(sql, JDBCExecuteEngineFactory.createBinaryProtocolInstance(routingEngine, parameters, backendConnection));
     }
 }
@@ -22,10 +22,13 @@ import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.constant.TransactionType;
 import io.shardingsphere.core.merger.MergeEngineFactory;
 import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResult;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoader;
 import io.shardingsphere.core.parsing.parser.constant.DerivedColumn;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.proxy.backend.AbstractBackendHandler;
 import io.shardingsphere.proxy.backend.BackendExecutorContext;
@@ -34,6 +37,7 @@ import io.shardingsphere.proxy.backend.jdbc.execute.JDBCExecuteEngine;
 import io.shardingsphere.proxy.backend.jdbc.execute.response.ExecuteQueryResponse;
 import io.shardingsphere.proxy.backend.jdbc.execute.response.ExecuteResponse;
 import io.shardingsphere.proxy.backend.jdbc.execute.response.ExecuteUpdateResponse;
+import io.shardingsphere.proxy.backend.jdbc.wrapper.StatementExecutorWrapper;
 import io.shardingsphere.proxy.config.ProxyTableMetaDataConnectionManager;
 import io.shardingsphere.proxy.config.RuleRegistry;
 import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
@@ -71,8 +75,12 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
     
     private MergedResult mergedResult;
     
+    private boolean passthrough;
+    
     private int currentSequenceId;
     
+    private int columnCount;
+    
     @Override
     protected CommandResponsePackets execute0() throws SQLException {
         return execute(executeEngine.getJdbcExecutorWrapper().route(sql, DatabaseType.MySQL));
@@ -88,6 +96,7 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
             return new CommandResponsePackets(new ErrPacket(1, 
                     ServerErrorCode.ER_ERROR_ON_MODIFYING_GTID_EXECUTED_TABLE, sqlStatement.getTables().isSingleTable() ? sqlStatement.getTables().getSingleTableName() : "unknown_table"));
         }
+        passthrough = isPassthrough(routeResult);
         executeResponse = executeEngine.execute(routeResult, isReturnGeneratedKeys);
         if (!RULE_REGISTRY.isMasterSlaveOnly() && SQLType.DDL == sqlStatement.getType() && !sqlStatement.getTables().isEmpty()) {
             String logicTableName = sqlStatement.getTables().getSingleTableName();
@@ -103,14 +112,22 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
         return TransactionType.XA == RULE_REGISTRY.getTransactionType() && SQLType.DDL == sqlType && Status.STATUS_NO_TRANSACTION != RULE_REGISTRY.getTransactionManager().getStatus();
     }
     
+    private boolean isPassthrough(final SQLRouteResult routeResult) {
+        return 1 == routeResult.getExecutionUnits().size() && routeResult.getSqlStatement() instanceof SelectStatement
+                && executeEngine.getJdbcExecutorWrapper() instanceof StatementExecutorWrapper;
+    }
+    
     private CommandResponsePackets merge(final SQLStatement sqlStatement) throws SQLException {
         if (executeResponse instanceof ExecuteUpdateResponse) {
             return ((ExecuteUpdateResponse) executeResponse).merge();
         }
-        mergedResult = MergeEngineFactory.newInstance(
-                RULE_REGISTRY.getShardingRule(), ((ExecuteQueryResponse) executeResponse).getQueryResults(), sqlStatement, RULE_REGISTRY.getMetaData().getTable()).merge();
+        List<QueryResult> queryResults = ((ExecuteQueryResponse) executeResponse).getQueryResults();
+        mergedResult = passthrough ? new IteratorStreamMergedResult(queryResults)
+                : MergeEngineFactory.newInstance(RULE_REGISTRY.getShardingRule(), queryResults, sqlStatement, RULE_REGISTRY.getMetaData().getTable(), RULE_REGISTRY.getMaxGroupsSizeInMemory()).merge();
+        executeEngine.getBackendConnection().add(mergedResult);
         QueryResponsePackets result = getQueryResponsePacketsWithoutDerivedColumns(((ExecuteQueryResponse) executeResponse).getQueryResponsePackets());
         currentSequenceId = result.getPackets().size();
+        columnCount = result.getColumnCount();
         return result;
     }
     
@@ -135,10 +152,10 @@ public final class JDBCBackendHandler extends AbstractBackendHandler {
     @Override
     public ResultPacket getResultValue() throws SQLException {
         QueryResponsePackets queryResponsePackets = ((ExecuteQueryResponse) executeResponse).getQueryResponsePackets();
-        int columnCount = queryResponsePackets.getColumnCount();
+        Class<?> valueType = passthrough ? byte[].class : Object.class;
         List<Object> data = new ArrayList<>(columnCount);
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-            data.add(mergedResult.getValue(columnIndex, Object.class));
+            data.add(mergedResult.getValue(columnIndex, valueType));
         }
         return new ResultPacket(++currentSequenceId, data, columnCount, queryResponsePackets.getColumnTypes());
     }
@@ -17,19 +17,31 @@
 
 package io.shardingsphere.proxy.backend.jdbc.connection;
 
+import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
 import io.shardingsphere.proxy.config.RuleRegistry;
+import lombok.Getter;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Backend connection.
+ * 
+ * <p>
+ * Backend connection is held by one frontend session.
+ * Connections are released after every statement in auto commit mode, and held across statements in transaction.
+ * In manual commit mode, a new transaction is started by the first statement after commit or rollback, until auto commit mode is enabled again.
+ * </p>
  *
  * @author zhaojun
  * @author zhangliang
@@ -40,20 +52,42 @@ public final class BackendConnection implements AutoCloseable {
     
     private final Collection<Connection> cachedConnections = new CopyOnWriteArrayList<>();
     
+    private final Map<String, Connection> transactionConnections = new HashMap<>();
+    
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<MergedResult> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
+    @Getter
+    private volatile boolean autoCommit = true;
+    
+    @Getter
+    private volatile boolean inTransaction;
+    
     /**
      * Get connection of current thread datasource.
+     * 
+     * <p>In transaction, same connection will be returned for same data source until commit or rollback.</p>
      *
      * @param dataSourceName data source name
      * @return connection
      * @throws SQLException SQL exception
      */
-    public Connection getConnection(final String dataSourceName) throws SQLException {
-        Connection result = RULE_REGISTRY.getBackendDataSource().getConnection(dataSourceName);
-        cachedConnections.add(result);
+    public synchronized Connection getConnection(final String dataSourceName) throws SQLException {
+        if (!inTransaction) {
+            Connection result = RULE_REGISTRY.getBackendDataSource().getConnection(dataSourceName);
+            cachedConnections.add(result);
+            return result;
+        }
+        Connection result = transactionConnections.get(dataSourceName);
+        if (null == result) {
+            result = RULE_REGISTRY.getBackendDataSource().getConnection(dataSourceName);
+            cachedConnections.add(result);
+            result.setAutoCommit(false);
+            transactionConnections.put(dataSourceName, result);
+        }
         return result;
     }
     
@@ -75,9 +109,150 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add merged result.
+     * 
+     * <p>Merged result is closed with result sets, so temporary files of merging are deleted at the end of statement.</p>
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final MergedResult mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
+    /**
+     * Detach resources of current command.
+     * 
+     * <p>Detached resources are not closed by release, they should be closed by caller, for example when cursor is closed.
+     * Connections are not detached in transaction, because they are shared by the following commands of transaction.</p>
+     *
+     * @return detached resources
+     */
+    public synchronized BackendResources detach() {
+        BackendResources result = new BackendResources(new ArrayList<>(cachedMergedResults), new ArrayList<>(cachedResultSets),
+                new ArrayList<>(cachedStatements), inTransaction ? Collections.<Connection>emptyList() : new ArrayList<>(cachedConnections));
+        cachedMergedResults.clear();
+        cachedResultSets.clear();
+        cachedStatements.clear();
+        if (!inTransaction) {
+            cachedConnections.clear();
+        }
+        return result;
+    }
+    
+    /**
+     * Begin transaction.
+     * 
+     * <p>Connections got before are used by auto commit statements, they are not changed.</p>
+     */
+    public synchronized void begin() {
+        inTransaction = true;
+    }
+    
+    /**
+     * Set auto commit mode.
+     * 
+     * <p>Transaction in progress is committed if auto commit mode is changed from manual to auto, like MySQL does.</p>
+     *
+     * @param autoCommit auto commit mode or not
+     * @throws SQLException SQL exception
+     */
+    public synchronized void setAutoCommit(final boolean autoCommit) throws SQLException {
+        boolean manualCommit = !this.autoCommit;
+        this.autoCommit = autoCommit;
+        if (!autoCommit) {
+            inTransaction = true;
+        } else if (manualCommit && inTransaction) {
+            commit();
+        }
+    }
+    
+    /**
+     * Commit transaction.
+     *
+     * @throws SQLException SQL exception
+     */
+    public synchronized void commit() throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (Connection each : transactionConnections.values()) {
+            try {
+                each.commit();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        exceptions.addAll(finishTransaction());
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
+    /**
+     * Rollback transaction.
+     *
+     * @throws SQLException SQL exception
+     */
+    public synchronized void rollback() throws SQLException {
+        throwSQLExceptionIfNecessary(rollbackTransaction());
+    }
+    
+    private Collection<SQLException> rollbackTransaction() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (Connection each : transactionConnections.values()) {
+            try {
+                each.rollback();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        result.addAll(finishTransaction());
+        return result;
+    }
+    
+    private Collection<SQLException> finishTransaction() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (Connection each : transactionConnections.values()) {
+            try {
+                each.setAutoCommit(true);
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        transactionConnections.clear();
+        inTransaction = !autoCommit;
+        closeMergedResults();
+        result.addAll(closeResultSets());
+        result.addAll(closeStatements());
+        result.addAll(closeConnections());
+        return result;
+    }
+    
+    /**
+     * Release resources at the end of statement.
+     * 
+     * <p>Merged results, result sets and statements are closed, connections are closed (return to pool) if not in transaction.</p>
+     *
+     * @throws SQLException SQL exception
+     */
+    public synchronized void release() throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        closeMergedResults();
+        exceptions.addAll(closeResultSets());
+        exceptions.addAll(closeStatements());
+        if (!inTransaction) {
+            exceptions.addAll(closeConnections());
+        }
+        MasterVisitedManager.clear();
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
     @Override
-    public void close() throws SQLException {
+    public synchronized void close() throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
+        if (inTransaction) {
+            exceptions.addAll(rollbackTransaction());
+        }
+        autoCommit = true;
+        inTransaction = false;
+        closeMergedResults();
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
         exceptions.addAll(closeConnections());
@@ -85,6 +260,13 @@ public final class BackendConnection implements AutoCloseable {
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private void closeMergedResults() {
+        for (MergedResult each : cachedMergedResults) {
+            each.close();
+        }
+        cachedMergedResults.clear();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -94,6 +276,7 @@ public final class BackendConnection implements AutoCloseable {
                 result.add(ex);
             }
         }
+        cachedResultSets.clear();
         return result;
     }
     
@@ -106,6 +289,7 @@ public final class BackendConnection implements AutoCloseable {
                 result.add(ex);
             }
         }
+        cachedStatements.clear();
         return result;
     }
     
@@ -118,6 +302,7 @@ public final class BackendConnection implements AutoCloseable {
                 result.add(ex);
             }
         }
+        cachedConnections.clear();
         return result;
     }
     
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.connection;
+
+import io.shardingsphere.core.merger.MergedResult;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Backend resources.
+ * 
+ * <p>Resources detached from backend connection, they are kept open after the end of command until closed, such as resources of cursor.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class BackendResources implements AutoCloseable {
+    
+    private final Collection<MergedResult> mergedResults;
+    
+    private final Collection<ResultSet> resultSets;
+    
+    private final Collection<Statement> statements;
+    
+    private final Collection<Connection> connections;
+    
+    @Override
+    public void close() throws SQLException {
+        for (MergedResult each : mergedResults) {
+            each.close();
+        }
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (ResultSet each : resultSets) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        for (Statement each : statements) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        for (Connection each : connections) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
+    private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException();
+        for (SQLException each : exceptions) {
+            ex.setNextException(each);
+        }
+        throw ex;
+    }
+}
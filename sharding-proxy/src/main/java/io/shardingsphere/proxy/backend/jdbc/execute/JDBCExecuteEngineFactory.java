@@ -18,6 +18,7 @@
 package io.shardingsphere.proxy.backend.jdbc.execute;
 
 import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.backend.jdbc.execute.memory.ConnectionStrictlyExecuteEngine;
 import io.shardingsphere.proxy.backend.jdbc.execute.stream.MemoryStrictlyExecuteEngine;
@@ -48,20 +49,25 @@ public final class JDBCExecuteEngineFactory {
      */
     public static JDBCExecuteEngine createTextProtocolInstance(final BackendConnection backendConnection) {
         JDBCExecutorWrapper jdbcExecutorWrapper = new StatementExecutorWrapper();
-        return ConnectionMode.MEMORY_STRICTLY == RULE_REGISTRY.getConnectionMode()
-                ? new MemoryStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper) : new ConnectionStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper);
+        return createInstance(backendConnection, jdbcExecutorWrapper);
     }
     
     /**
      * Create instance for binary protocol.
      *
+     * @param routingEngine routing engine of prepared statement, null for master-slave only rule
      * @param parameters parameters of prepared statement
      * @param backendConnection backend connection
      * @return instance for binary protocol
      */
-    public static JDBCExecuteEngine createBinaryProtocolInstance(final List<Object> parameters, final BackendConnection backendConnection) {
-        JDBCExecutorWrapper jdbcExecutorWrapper = new PreparedStatementExecutorWrapper(parameters);
-        return ConnectionMode.MEMORY_STRICTLY == RULE_REGISTRY.getConnectionMode()
+    public static JDBCExecuteEngine createBinaryProtocolInstance(final PreparedStatementRoutingEngine routingEngine, final List<Object> parameters, final BackendConnection backendConnection) {
+        JDBCExecutorWrapper jdbcExecutorWrapper = new PreparedStatementExecutorWrapper(routingEngine, parameters);
+        return createInstance(backendConnection, jdbcExecutorWrapper);
+    }
+    
+    private static JDBCExecuteEngine createInstance(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
+        // one connection per data source is shared by statements in transaction, stream result set cannot be opened concurrently on it
+        return ConnectionMode.MEMORY_STRICTLY == RULE_REGISTRY.getConnectionMode() && !backendConnection.isInTransaction()
                 ? new MemoryStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper) : new ConnectionStrictlyExecuteEngine(backendConnection, jdbcExecutorWrapper);
     }
 }
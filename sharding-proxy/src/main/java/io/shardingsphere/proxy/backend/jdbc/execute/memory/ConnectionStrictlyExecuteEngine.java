@@ -90,7 +90,7 @@ public final class ConnectionStrictlyExecuteEngine extends JDBCExecuteEngine {
         Map<SQLUnit, Statement> result = new HashMap<>(sqlUnits.size(), 1);
         Connection connection = getBackendConnection().getConnection(dataSourceName);
         for (SQLUnit each : sqlUnits) {
-            result.put(each, getJdbcExecutorWrapper().createStatement(connection, each.getSql(), isReturnGeneratedKeys));
+            result.put(each, getJdbcExecutorWrapper().createStatement(connection, each, isReturnGeneratedKeys));
         }
         return result;
     }
@@ -101,7 +101,7 @@ public final class ConnectionStrictlyExecuteEngine extends JDBCExecuteEngine {
         Connection connection = getBackendConnection().getConnection(dataSourceName);
         for (SQLUnit each : sqlUnits) {
             String actualSQL = each.getSql();
-            Statement statement = getJdbcExecutorWrapper().createStatement(connection, actualSQL, isReturnGeneratedKeys);
+            Statement statement = getJdbcExecutorWrapper().createStatement(connection, each, isReturnGeneratedKeys);
             ExecuteResponseUnit response;
             if (hasMetaData) {
                 response = executeWithoutMetadata(statement, actualSQL, isReturnGeneratedKeys);
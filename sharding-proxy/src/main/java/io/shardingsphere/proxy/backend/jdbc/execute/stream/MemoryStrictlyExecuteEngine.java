@@ -71,7 +71,7 @@ public final class MemoryStrictlyExecuteEngine extends JDBCExecuteEngine {
         List<Future<ExecuteResponseUnit>> result = new LinkedList<>();
         for (SQLExecutionUnit each : sqlExecutionUnits) {
             final String actualSQL = each.getSqlUnit().getSql();
-            final Statement statement = getJdbcExecutorWrapper().createStatement(getBackendConnection().getConnection(each.getDataSource()), actualSQL, isReturnGeneratedKeys);
+            final Statement statement = getJdbcExecutorWrapper().createStatement(getBackendConnection().getConnection(each.getDataSource()), each.getSqlUnit(), isReturnGeneratedKeys);
             result.add(getExecutorService().submit(new Callable<ExecuteResponseUnit>() {
                 
                 @Override
@@ -85,7 +85,7 @@ public final class MemoryStrictlyExecuteEngine extends JDBCExecuteEngine {
     
     private ExecuteResponseUnit syncExecute(final boolean isReturnGeneratedKeys, final SQLExecutionUnit sqlExecutionUnit) throws SQLException {
         Statement statement = getJdbcExecutorWrapper().createStatement(
-                getBackendConnection().getConnection(sqlExecutionUnit.getDataSource()), sqlExecutionUnit.getSqlUnit().getSql(), isReturnGeneratedKeys);
+                getBackendConnection().getConnection(sqlExecutionUnit.getDataSource()), sqlExecutionUnit.getSqlUnit(), isReturnGeneratedKeys);
         return executeWithMetadata(statement, sqlExecutionUnit.getSqlUnit().getSql(), isReturnGeneratedKeys);
     }
     
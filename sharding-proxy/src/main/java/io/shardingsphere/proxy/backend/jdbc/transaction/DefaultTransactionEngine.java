@@ -17,19 +17,55 @@
 
 package io.shardingsphere.proxy.backend.jdbc.transaction;
 
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.TCLType;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
+
+import java.sql.SQLException;
+
 /**
  * Default transaction engine.
+ * 
+ * <p>Local transaction is held by backend connection of frontend session.</p>
  *
  * @author zhaojun
  */
 public class DefaultTransactionEngine extends TransactionEngine {
     
-    public DefaultTransactionEngine(final String sql) {
+    private final BackendConnection backendConnection;
+    
+    public DefaultTransactionEngine(final String sql, final BackendConnection backendConnection) {
         super(sql);
+        this.backendConnection = backendConnection;
     }
     
     @Override
-    public boolean execute() {
-        return parseSQL().isPresent();
+    public boolean execute() throws SQLException {
+        Optional<Boolean> autoCommit = parseAutoCommit();
+        if (autoCommit.isPresent()) {
+            backendConnection.setAutoCommit(autoCommit.get());
+            return true;
+        }
+        Optional<TCLType> tclType = parseSQL();
+        if (!tclType.isPresent()) {
+            return false;
+        }
+        switch (tclType.get()) {
+            case BEGIN:
+                if (backendConnection.isInTransaction()) {
+                    backendConnection.commit();
+                }
+                backendConnection.begin();
+                break;
+            case COMMIT:
+                backendConnection.commit();
+                break;
+            case ROLLBACK:
+                backendConnection.rollback();
+                break;
+            default:
+                break;
+        }
+        return true;
     }
 }
@@ -17,6 +17,7 @@
 
 package io.shardingsphere.proxy.backend.jdbc.transaction;
 
+import com.google.common.base.CharMatcher;
 import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.TCLType;
 import lombok.Getter;
@@ -45,6 +46,7 @@ public abstract class TransactionEngine {
             case "SET AUTOCOMMIT=0":
                 return Optional.of(TCLType.BEGIN);
             case "COMMIT":
+            case "SET AUTOCOMMIT=1":
                 return Optional.of(TCLType.COMMIT);
             case "ROLLBACK":
                 return Optional.of(TCLType.ROLLBACK);
@@ -53,6 +55,17 @@ public abstract class TransactionEngine {
         }
     }
     
+    protected Optional<Boolean> parseAutoCommit() {
+        switch (CharMatcher.WHITESPACE.removeFrom(sql).toUpperCase()) {
+            case "SETAUTOCOMMIT=0":
+                return Optional.of(false);
+            case "SETAUTOCOMMIT=1":
+                return Optional.of(true);
+            default:
+                return Optional.absent();
+        }
+    }
+    
     /**
      * Execute transaction with binding transaction manager.
      *
@@ -17,6 +17,7 @@
 
 package io.shardingsphere.proxy.backend.jdbc.transaction;
 
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.config.RuleRegistry;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -35,14 +36,15 @@ public final class TransactionEngineFactory {
      * Create transaction engine from SQL.
      * 
      * @param sql SQL
+     * @param backendConnection backend connection
      * @return transaction engine
      */
-    public static TransactionEngine create(final String sql) {
+    public static TransactionEngine create(final String sql, final BackendConnection backendConnection) {
         switch (RULE_REGISTRY.getTransactionType()) {
             case XA:
                 return new XaTransactionEngine(sql);
             default:
-                return new DefaultTransactionEngine(sql);
+                return new DefaultTransactionEngine(sql, backendConnection);
         }
     }
 }
@@ -53,6 +53,6 @@ public final class XaTransactionEngine extends TransactionEngine {
     }
     
     private boolean isInTransaction(final TCLType tclType) throws SQLException {
-        return TCLType.ROLLBACK != tclType || Status.STATUS_NO_TRANSACTION != RULE_REGISTRY.getTransactionManager().getStatus();
+        return TCLType.BEGIN == tclType || Status.STATUS_NO_TRANSACTION != RULE_REGISTRY.getTransactionManager().getStatus();
     }
 }
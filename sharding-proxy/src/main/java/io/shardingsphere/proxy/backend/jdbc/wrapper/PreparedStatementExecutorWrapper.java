@@ -45,32 +45,37 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     
     private static final RuleRegistry RULE_REGISTRY = RuleRegistry.getInstance();
     
+    private final PreparedStatementRoutingEngine routingEngine;
+    
     private final List<Object> parameters;
     
     @Override
     public SQLRouteResult route(final String sql, final DatabaseType databaseType) {
-        return RULE_REGISTRY.isMasterSlaveOnly() ? doMasterSlaveRoute(sql) : doShardingRoute(sql, databaseType);
+        return RULE_REGISTRY.isMasterSlaveOnly() ? doMasterSlaveRoute(sql, databaseType) : doShardingRoute(sql, databaseType);
     }
     
-    private SQLRouteResult doMasterSlaveRoute(final String sql) {
-        SQLStatement sqlStatement = new SQLJudgeEngine(sql).judge();
+    private SQLRouteResult doMasterSlaveRoute(final String sql, final DatabaseType databaseType) {
+        SQLStatement sqlStatement = new SQLJudgeEngine(databaseType, sql).judge();
         SQLRouteResult result = new SQLRouteResult(sqlStatement);
-        for (String each : new MasterSlaveRouter(RULE_REGISTRY.getMasterSlaveRule(), RULE_REGISTRY.isShowSQL()).route(sql)) {
+        for (String each : new MasterSlaveRouter(RULE_REGISTRY.getMasterSlaveRule(), databaseType, RULE_REGISTRY.isShowSQL()).route(sql, sqlStatement.getType())) {
             result.getExecutionUnits().add(new SQLExecutionUnit(each, new SQLUnit(sql, Collections.<List<Object>>emptyList())));
         }
         return result;
     }
     
     private SQLRouteResult doShardingRoute(final String sql, final DatabaseType databaseType) {
-        return new PreparedStatementRoutingEngine(
-                sql, RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(), databaseType, RULE_REGISTRY.isShowSQL(), RULE_REGISTRY.getMetaData().getDataSource()).route(parameters);
+        PreparedStatementRoutingEngine routingEngine = null == this.routingEngine ? new PreparedStatementRoutingEngine(sql, RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(),
+                databaseType, RULE_REGISTRY.isShowSQL(), RULE_REGISTRY.getMetaData().getDataSource(), RULE_REGISTRY.getParsingResultCache()) : this.routingEngine;
+        return routingEngine.route(parameters);
     }
     
     @Override
-    public Statement createStatement(final Connection connection, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+    public Statement createStatement(final Connection connection, final SQLUnit sqlUnit, final boolean isReturnGeneratedKeys) throws SQLException {
+        String sql = sqlUnit.getSql();
         PreparedStatement result = isReturnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
-        for (int i = 0; i < parameters.size(); i++) {
-            result.setObject(i + 1, parameters.get(i));
+        List<Object> unitParameters = sqlUnit.getParameterSets().isEmpty() ? parameters : sqlUnit.getParameterSets().get(0);
+        for (int i = 0; i < unitParameters.size(); i++) {
+            result.setObject(i + 1, unitParameters.get(i));
         }
         return result;
     }
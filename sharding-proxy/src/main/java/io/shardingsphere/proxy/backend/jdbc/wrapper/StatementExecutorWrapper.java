@@ -44,13 +44,13 @@ public final class StatementExecutorWrapper implements JDBCExecutorWrapper {
     
     @Override
     public SQLRouteResult route(final String sql, final DatabaseType databaseType) {
-        return RULE_REGISTRY.isMasterSlaveOnly() ? doMasterSlaveRoute(sql) : doShardingRoute(sql, databaseType);
+        return RULE_REGISTRY.isMasterSlaveOnly() ? doMasterSlaveRoute(sql, databaseType) : doShardingRoute(sql, databaseType);
     }
     
-    private SQLRouteResult doMasterSlaveRoute(final String sql) {
-        SQLStatement sqlStatement = new SQLJudgeEngine(sql).judge();
+    private SQLRouteResult doMasterSlaveRoute(final String sql, final DatabaseType databaseType) {
+        SQLStatement sqlStatement = new SQLJudgeEngine(databaseType, sql).judge();
         SQLRouteResult result = new SQLRouteResult(sqlStatement);
-        for (String each : new MasterSlaveRouter(RULE_REGISTRY.getMasterSlaveRule(), RULE_REGISTRY.isShowSQL()).route(sql)) {
+        for (String each : new MasterSlaveRouter(RULE_REGISTRY.getMasterSlaveRule(), databaseType, RULE_REGISTRY.isShowSQL()).route(sql, sqlStatement.getType())) {
             result.getExecutionUnits().add(new SQLExecutionUnit(each, new SQLUnit(sql, Collections.<List<Object>>emptyList())));
         }
         return result;
@@ -63,7 +63,7 @@ public final class StatementExecutorWrapper implements JDBCExecutorWrapper {
     }
     
     @Override
-    public Statement createStatement(final Connection connection, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+    public Statement createStatement(final Connection connection, final SQLUnit sqlUnit, final boolean isReturnGeneratedKeys) throws SQLException {
         return connection.createStatement();
     }
     
@@ -26,7 +26,13 @@ import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoader;
 import io.shardingsphere.core.parsing.SQLJudgeEngine;
+import io.shardingsphere.core.parsing.SQLTypeJudgeEngine;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dcl.DCLStatement;
+import io.shardingsphere.core.parsing.parser.sql.ddl.DDLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.parsing.parser.sql.tcl.TCLStatement;
 import io.shardingsphere.core.routing.SQLExecutionUnit;
 import io.shardingsphere.core.routing.SQLRouteResult;
 import io.shardingsphere.core.routing.StatementRoutingEngine;
@@ -34,7 +40,9 @@ import io.shardingsphere.core.routing.router.masterslave.MasterSlaveRouter;
 import io.shardingsphere.proxy.backend.AbstractBackendHandler;
 import io.shardingsphere.proxy.backend.BackendExecutorContext;
 import io.shardingsphere.proxy.backend.ResultPacket;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.backend.netty.client.BackendNettyClient;
+import io.shardingsphere.proxy.backend.netty.client.response.ResponseHandler;
 import io.shardingsphere.proxy.backend.netty.future.FutureRegistry;
 import io.shardingsphere.proxy.backend.netty.future.SynchronizedFuture;
 import io.shardingsphere.proxy.backend.netty.client.response.mysql.MySQLQueryResult;
@@ -81,6 +89,8 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     private final String sql;
     
+    private final BackendConnection backendConnection;
+    
     private final DatabaseType databaseType;
     
     private final Map<String, List<Channel>> channelMap = new HashMap<>();
@@ -95,21 +105,48 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     @Override
     protected CommandResponsePackets execute0() throws InterruptedException, ExecutionException, TimeoutException {
-        return RULE_REGISTRY.isMasterSlaveOnly() ? executeForMasterSlave() : executeForSharding();
+        try {
+            return RULE_REGISTRY.isMasterSlaveOnly() ? executeForMasterSlave() : executeForSharding();
+        } catch (final InterruptedException | ExecutionException | TimeoutException ex) {
+            channelRelease();
+            throw ex;
+        }
     }
     
     private CommandResponsePackets executeForMasterSlave() throws InterruptedException, ExecutionException, TimeoutException {
-        String dataSourceName = new MasterSlaveRouter(RULE_REGISTRY.getMasterSlaveRule(), RULE_REGISTRY.isShowSQL()).route(sql).iterator().next();
+        SQLType sqlType = new SQLTypeJudgeEngine(databaseType, sql).judge();
+        String dataSourceName = new MasterSlaveRouter(RULE_REGISTRY.getMasterSlaveRule(), databaseType, RULE_REGISTRY.isShowSQL()).route(sql, sqlType).iterator().next();
         synchronizedFuture = new SynchronizedFuture(1);
         FutureRegistry.getInstance().put(connectionId, synchronizedFuture);
-        executeSQL(dataSourceName, sql);
-        List<QueryResult> queryResults = synchronizedFuture.get(RULE_REGISTRY.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
-        FutureRegistry.getInstance().delete(connectionId);
+        List<QueryResult> queryResults;
+        try {
+            executeSQL(dataSourceName, sql);
+            queryResults = synchronizedFuture.get(RULE_REGISTRY.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
+        } finally {
+            FutureRegistry.getInstance().delete(connectionId);
+        }
         List<CommandResponsePackets> packets = new LinkedList<>();
         for (QueryResult each : queryResults) {
             packets.add(((MySQLQueryResult) each).getCommandResponsePackets());
         }
-        return merge(new SQLJudgeEngine(sql).judge(), packets, queryResults);
+        return merge(getSQLStatementForMerge(sqlType), packets, queryResults);
+    }
+    
+    private SQLStatement getSQLStatementForMerge(final SQLType sqlType) {
+        switch (sqlType) {
+            case DQL:
+                return new SelectStatement();
+            case DML:
+                return new DMLStatement();
+            case DDL:
+                return new DDLStatement();
+            case TCL:
+                return new TCLStatement();
+            case DCL:
+                return new DCLStatement();
+            default:
+                return new SQLJudgeEngine(databaseType, sql).judge();
+        }
     }
     
     private CommandResponsePackets executeForSharding() throws InterruptedException, ExecutionException, TimeoutException {
@@ -121,11 +158,15 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         }
         synchronizedFuture = new SynchronizedFuture(routeResult.getExecutionUnits().size());
         FutureRegistry.getInstance().put(connectionId, synchronizedFuture);
-        for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
-            executeSQL(each.getDataSource(), each.getSqlUnit().getSql());
+        List<QueryResult> queryResults;
+        try {
+            for (SQLExecutionUnit each : routeResult.getExecutionUnits()) {
+                executeSQL(each.getDataSource(), each.getSqlUnit().getSql());
+            }
+            queryResults = synchronizedFuture.get(RULE_REGISTRY.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
+        } finally {
+            FutureRegistry.getInstance().delete(connectionId);
         }
-        List<QueryResult> queryResults = synchronizedFuture.get(RULE_REGISTRY.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
-        FutureRegistry.getInstance().delete(connectionId);
         List<CommandResponsePackets> packets = new ArrayList<>(queryResults.size());
         for (QueryResult each : queryResults) {
             MySQLQueryResult queryResult = (MySQLQueryResult) each;
@@ -152,6 +193,7 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         SimpleChannelPool pool = BackendNettyClient.getInstance().getPoolMap().get(dataSourceName);
         Channel channel = pool.acquire().get(RULE_REGISTRY.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
         channelMap.get(dataSourceName).add(channel);
+        ResponseHandler.getAuthorizedFuture(channel).get(RULE_REGISTRY.getBackendNIOConfig().getConnectionTimeoutSeconds(), TimeUnit.SECONDS);
         ChannelRegistry.getInstance().putConnectionId(channel.id().asShortText(), connectionId);
         channel.writeAndFlush(new ComQueryPacket(sequenceId, sql));
     }
@@ -163,10 +205,11 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         }
         for (DatabasePacket each : headPackets.getPackets()) {
             if (each instanceof ErrPacket) {
+                channelRelease();
                 return new CommandResponsePackets(each);
             }
         }
-        if (SQLType.TCL == sqlStatement.getType()) {
+        if (SQLType.DQL != sqlStatement.getType() && SQLType.DAL != sqlStatement.getType()) {
             channelRelease();
         }
         if (SQLType.DML == sqlStatement.getType()) {
@@ -193,8 +236,11 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     private CommandResponsePackets mergeDQLorDAL(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
         try {
-            mergedResult = MergeEngineFactory.newInstance(RULE_REGISTRY.getShardingRule(), queryResults, sqlStatement, RULE_REGISTRY.getMetaData().getTable()).merge();
+            mergedResult = MergeEngineFactory.newInstance(
+                    RULE_REGISTRY.getShardingRule(), queryResults, sqlStatement, RULE_REGISTRY.getMetaData().getTable(), RULE_REGISTRY.getMaxGroupsSizeInMemory()).merge();
+            backendConnection.add(mergedResult);
         } catch (final SQLException ex) {
+            channelRelease();
             return new CommandResponsePackets(new ErrPacket(1, ex));
         }
         return packets.get(0);
@@ -232,5 +278,6 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
                 BackendNettyClient.getInstance().getPoolMap().get(entry.getKey()).release(each);
             }
         }
+        channelMap.clear();
     }
 }
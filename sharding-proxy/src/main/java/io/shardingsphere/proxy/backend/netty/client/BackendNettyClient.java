@@ -29,6 +29,7 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.pool.AbstractChannelPoolMap;
 import io.netty.channel.pool.ChannelPoolMap;
 import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.pool.FixedChannelPool.AcquireTimeoutAction;
 import io.netty.channel.pool.SimpleChannelPool;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
@@ -128,7 +129,8 @@ public final class BackendNettyClient {
             @Override
             protected SimpleChannelPool newPool(final String dataSourceName) {
                 DataSourceMetaData dataSourceMetaData = RULE_REGISTRY.getMetaData().getDataSource().getActualDataSourceMetaData(dataSourceName);
-                return new FixedChannelPool(bootstrap.remoteAddress(dataSourceMetaData.getHostName(), dataSourceMetaData.getPort()), new BackendNettyClientChannelPoolHandler(dataSourceName), MAX_CONNECTIONS);
+                return new FixedChannelPool(bootstrap.remoteAddress(dataSourceMetaData.getHostName(), dataSourceMetaData.getPort()), new BackendNettyClientChannelPoolHandler(dataSourceName),
+                        new BackendNettyClientChannelHealthChecker(), AcquireTimeoutAction.FAIL, TimeUnit.SECONDS.toMillis(CONNECTION_TIMEOUT_SECONDS), MAX_CONNECTIONS, Integer.MAX_VALUE, true);
             }
         };
         for (String each : RULE_REGISTRY.getDataSourceConfigurationMap().keySet()) {
@@ -141,8 +143,10 @@ public final class BackendNettyClient {
                     log.error(ex.getMessage(), ex);
                 }
             }
-            for (int i = 0; i < MAX_CONNECTIONS; i++) {
-                pool.release(channels[i]);
+            for (Channel channel : channels) {
+                if (null != channel) {
+                    pool.release(channel);
+                }
             }
         }
     }
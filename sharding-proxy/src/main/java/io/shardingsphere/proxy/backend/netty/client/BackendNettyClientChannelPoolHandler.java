@@ -36,17 +36,17 @@ public final class BackendNettyClientChannelPoolHandler implements ChannelPoolHa
     
     @Override
     public void channelReleased(final Channel channel) {
-        log.info("channelReleased. Channel ID: {}" + channel.id().asShortText());
+        log.debug("channelReleased. Channel ID: {}", channel.id().asShortText());
     }
     
     @Override
     public void channelAcquired(final Channel channel) {
-        log.info("channelAcquired. Channel ID: {}" + channel.id().asShortText());
+        log.debug("channelAcquired. Channel ID: {}", channel.id().asShortText());
     }
     
     @Override
     public void channelCreated(final Channel channel) {
-        log.info("channelCreated. Channel ID: {}" + channel.id().asShortText());
+        log.debug("channelCreated. Channel ID: {}", channel.id().asShortText());
         channel.pipeline().addLast(new BackendNettyClientChannelInitializer(dataSourceName));
     }
 }
@@ -18,8 +18,13 @@
 package io.shardingsphere.proxy.backend.netty.client.response;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Promise;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.proxy.runtime.ChannelRegistry;
 
 /**
  * SQL executed response handler.
@@ -29,18 +34,52 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
  */
 public abstract class ResponseHandler extends ChannelInboundHandlerAdapter {
     
+    private static final AttributeKey<Promise<Void>> AUTHORIZED_FUTURE = AttributeKey.valueOf("authorizedFuture");
+    
+    private boolean handshaked;
+    
     private boolean authorized;
     
+    /**
+     * Get authorized future of channel.
+     * 
+     * <p>Future is succeeded after backend database accepted authentication, and failed if authentication is refused or channel is closed.</p>
+     * 
+     * @param channel channel of backend database
+     * @return authorized future
+     */
+    public static Promise<Void> getAuthorizedFuture(final Channel channel) {
+        Promise<Void> result = channel.attr(AUTHORIZED_FUTURE).get();
+        if (null != result) {
+            return result;
+        }
+        Promise<Void> promise = channel.eventLoop().newPromise();
+        result = channel.attr(AUTHORIZED_FUTURE).setIfAbsent(promise);
+        return null == result ? promise : result;
+    }
+    
     @Override
     public void channelRead(final ChannelHandlerContext context, final Object message) {
         ByteBuf byteBuf = (ByteBuf) message;
         int header = getHeader(byteBuf);
-        
-        if (!authorized) {
+        if (authorized) {
+            executeCommand(context, byteBuf, header);
+        } else if (!handshaked) {
             auth(context, byteBuf);
-            authorized = true;
+            handshaked = true;
         } else {
-            executeCommand(context, byteBuf, header);
+            authResult(context, byteBuf, header);
+        }
+    }
+    
+    private void authResult(final ChannelHandlerContext context, final ByteBuf byteBuf, final int header) {
+        try {
+            checkAuthResult(context, byteBuf, header);
+            authorized = true;
+            getAuthorizedFuture(context.channel()).trySuccess(null);
+        } catch (final ShardingException ex) {
+            getAuthorizedFuture(context.channel()).tryFailure(ex);
+            context.close();
         }
     }
     
@@ -48,11 +87,17 @@ public abstract class ResponseHandler extends ChannelInboundHandlerAdapter {
     
     protected abstract void auth(ChannelHandlerContext context, ByteBuf byteBuf);
     
+    protected abstract void checkAuthResult(ChannelHandlerContext context, ByteBuf byteBuf, int header);
+    
     protected abstract void executeCommand(ChannelHandlerContext context, ByteBuf byteBuf, int header);
     
+    protected abstract void channelClosed(ChannelHandlerContext context);
+    
     @Override
-    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
-        //TODO delete connection map
-        super.channelInactive(ctx);
+    public void channelInactive(final ChannelHandlerContext context) throws Exception {
+        getAuthorizedFuture(context.channel()).tryFailure(new ShardingException("Backend channel closed before authorized."));
+        channelClosed(context);
+        ChannelRegistry.getInstance().removeConnectionId(context.channel().id().asShortText());
+        super.channelInactive(context);
     }
 }
@@ -26,6 +26,7 @@ import io.shardingsphere.proxy.backend.netty.client.response.ResponseHandler;
 import io.shardingsphere.proxy.backend.netty.future.FutureRegistry;
 import io.shardingsphere.proxy.config.RuleRegistry;
 import io.shardingsphere.proxy.runtime.ChannelRegistry;
+import io.shardingsphere.proxy.transport.mysql.codec.MySQLCompressionCodec;
 import io.shardingsphere.proxy.transport.mysql.constant.CapabilityFlag;
 import io.shardingsphere.proxy.transport.mysql.constant.ServerInfo;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
@@ -60,6 +61,8 @@ public final class MySQLResponseHandler extends ResponseHandler {
     
     private final Map<Integer, MySQLQueryResult> resultMap;
     
+    private boolean compressionNegotiated;
+    
     public MySQLResponseHandler(final String dataSourceName) {
         dataSourceParameter = RuleRegistry.getInstance().getDataSourceConfigurationMap().get(dataSourceName);
         dataSourceMetaData = RuleRegistry.getInstance().getMetaData().getDataSource().getActualDataSourceMetaData(dataSourceName);
@@ -80,10 +83,12 @@ public final class MySQLResponseHandler extends ResponseHandler {
     protected void auth(final ChannelHandlerContext context, final ByteBuf byteBuf) {
         try (MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf)) {
             HandshakePacket handshakePacket = new HandshakePacket(payload);
+            compressionNegotiated = RuleRegistry.getInstance().getCompressionConfig().isBackendEnabled()
+                    && 0 != (handshakePacket.getCapabilityFlagsLower() & CapabilityFlag.CLIENT_COMPRESS.getValue());
             byte[] authResponse = securePasswordAuthentication(
                     (null == dataSourceParameter.getPassword() ? "" : dataSourceParameter.getPassword()).getBytes(), handshakePacket.getAuthPluginData().getAuthPluginData());
             HandshakeResponse41Packet handshakeResponse41Packet = new HandshakeResponse41Packet(
-                    handshakePacket.getSequenceId() + 1, CapabilityFlag.calculateHandshakeCapabilityFlagsLower(), 16777215, ServerInfo.CHARSET, 
+                    handshakePacket.getSequenceId() + 1, CapabilityFlag.calculateHandshakeCapabilityFlagsLower(compressionNegotiated), 16777215, ServerInfo.CHARSET, 
                     dataSourceParameter.getUsername(), authResponse, dataSourceMetaData.getSchemeName());
             ChannelRegistry.getInstance().putConnectionId(context.channel().id().asShortText(), handshakePacket.getConnectionId());
             context.writeAndFlush(handshakeResponse41Packet);
@@ -108,6 +113,24 @@ public final class MySQLResponseHandler extends ResponseHandler {
         }
     }
     
+    @Override
+    protected void checkAuthResult(final ChannelHandlerContext context, final ByteBuf byteBuf, final int header) {
+        try (MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf)) {
+            switch (header) {
+                case OKPacket.HEADER:
+                    if (compressionNegotiated) {
+                        context.pipeline().addFirst(new MySQLCompressionCodec(RuleRegistry.getInstance().getCompressionConfig().getThreshold(), true));
+                    }
+                    return;
+                case ErrPacket.HEADER:
+                    ErrPacket errPacket = new ErrPacket(payload);
+                    throw new ShardingException("Authentication of `%s` failed, error code: %s, message: %s", dataSourceParameter.getUsername(), errPacket.getErrorCode(), errPacket.getErrorMessage());
+                default:
+                    throw new ShardingException("Unsupported authentication response header: %s", header);
+            }
+        }
+    }
+    
     @Override
     protected void executeCommand(final ChannelHandlerContext context, final ByteBuf byteBuf, final int header) {
         switch (header) {
@@ -170,6 +193,16 @@ public final class MySQLResponseHandler extends ResponseHandler {
         }
     }
     
+    @Override
+    protected void channelClosed(final ChannelHandlerContext context) {
+        for (MySQLQueryResult each : resultMap.values()) {
+            if (each.isColumnFinished()) {
+                each.setRowFinished(new EofPacket(each.getCurrentSequenceId() + 1));
+            }
+        }
+        resultMap.clear();
+    }
+    
     private void commandPacket(final ChannelHandlerContext context, final ByteBuf byteBuf) {
         int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
         MySQLQueryResult mysqlQueryResult = resultMap.get(connectionId);
@@ -18,32 +18,33 @@
 package io.shardingsphere.proxy.backend.netty.future;
 
 import io.shardingsphere.core.merger.QueryResult;
-import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Synchronized future for get multiple netty returns.
+ * 
+ * <p>Responses are set by netty event loop threads concurrently, and got by backend handler thread.</p>
  *
  * @author wangkai
  * @author linjiaqi
  */
-@Slf4j
 public final class SynchronizedFuture implements Future<List<QueryResult>> {
     
     private final CountDownLatch latch;
     
-    private final List<QueryResult> responses;
-    
-    private boolean isDone;
+    private final Queue<QueryResult> responses;
     
     public SynchronizedFuture(final int resultSize) {
         latch = new CountDownLatch(resultSize);
-        responses = new ArrayList<>(resultSize);
+        responses = new ConcurrentLinkedQueue<>();
     }
     
     @Override
@@ -58,13 +59,13 @@ public final class SynchronizedFuture implements Future<List<QueryResult>> {
     
     @Override
     public boolean isDone() {
-        return isDone;
+        return 0 == latch.getCount();
     }
     
     @Override
     public List<QueryResult> get() throws InterruptedException {
         latch.await();
-        return responses;
+        return new ArrayList<>(responses);
     }
     
     /**
@@ -73,16 +74,15 @@ public final class SynchronizedFuture implements Future<List<QueryResult>> {
      * @param timeout wait timeout
      * @param unit time unit
      * @return responses
+     * @throws InterruptedException interrupted exception
+     * @throws TimeoutException timeout exception if not all responses are set in waiting time
      */
     @Override
-    public List<QueryResult> get(final long timeout, final TimeUnit unit) {
-        try {
-            latch.await(timeout, unit);
-            isDone = true;
-        } catch (final InterruptedException ex) {
-            log.error(ex.getMessage(), ex);
+    public List<QueryResult> get(final long timeout, final TimeUnit unit) throws InterruptedException, TimeoutException {
+        if (!latch.await(timeout, unit)) {
+            throw new TimeoutException(String.format("Only %d of %d responses received in %d %s.", responses.size(), responses.size() + latch.getCount(), timeout, unit));
         }
-        return responses;
+        return new ArrayList<>(responses);
     }
     
     /**
@@ -29,6 +29,7 @@ import io.shardingsphere.core.metadata.ShardingMetaData;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataInitializer;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.rule.ProxyAuthority;
@@ -75,12 +76,16 @@ public final class RuleRegistry {
     
     private ConnectionMode connectionMode;
     
+    private int maxGroupsSizeInMemory;
+    
     private int acceptorSize;
     
     private int executorSize;
     
     private BackendNIOConfiguration backendNIOConfig;
     
+    private CompressionConfiguration compressionConfig;
+    
     private TransactionType transactionType;
     
     private TransactionManager transactionManager;
@@ -89,6 +94,8 @@ public final class RuleRegistry {
     
     private ShardingMetaData metaData;
     
+    private ParsingResultCache parsingResultCache;
+    
     /**
      * Get instance of sharding rule registry.
      *
@@ -108,18 +115,24 @@ public final class RuleRegistry {
         ShardingProperties shardingProperties = new ShardingProperties(null == properties ? new Properties() : properties);
         showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
         connectionMode = ConnectionMode.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.CONNECTION_MODE));
+        maxGroupsSizeInMemory = shardingProperties.getValue(ShardingPropertiesConstant.MAX_GROUPS_SIZE_IN_MEMORY);
         // TODO :zhaojun add distribute transaction for 3.1.x 
         transactionType = TransactionType.NONE;
 //        transactionType = TransactionType.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.PROXY_TRANSACTION_MODE));
         transactionManager = ProxyTransactionLoader.load(transactionType);
         acceptorSize = shardingProperties.getValue(ShardingPropertiesConstant.ACCEPTOR_SIZE);
         executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        // TODO :jiaqi force off use NIO for backend, this feature is not complete yet
-        boolean useNIO = false;
-//        boolean proxyBackendUseNio = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_USE_NIO);
+        boolean useNIO = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_USE_NIO);
         int databaseConnectionCount = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_MAX_CONNECTIONS);
         int connectionTimeoutSeconds = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS);
         backendNIOConfig = new BackendNIOConfiguration(useNIO, databaseConnectionCount, connectionTimeoutSeconds);
+        boolean frontendCompressionEnabled = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_FRONTEND_COMPRESSION_ENABLED);
+        boolean backendCompressionEnabled = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_BACKEND_COMPRESSION_ENABLED);
+        int compressionThreshold = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_COMPRESSION_THRESHOLD);
+        compressionConfig = new CompressionConfiguration(frontendCompressionEnabled, backendCompressionEnabled, compressionThreshold);
+        long parsingResultCacheMaxSize = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_SIZE);
+        long parsingResultCacheMaxWeight = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_MAX_WEIGHT);
+        parsingResultCache = new ParsingResultCache(parsingResultCacheMaxSize, parsingResultCacheMaxWeight);
         shardingRule = new ShardingRule(
                 null == config.getShardingRule() ? new ShardingRuleConfiguration() : config.getShardingRule().getShardingRuleConfiguration(), config.getDataSources().keySet());
         if (null != config.getMasterSlaveRule()) {
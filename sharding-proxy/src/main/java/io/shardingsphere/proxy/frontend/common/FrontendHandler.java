@@ -20,6 +20,7 @@ package io.shardingsphere.proxy.frontend.common;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
 import io.shardingsphere.proxy.frontend.common.executor.ChannelThreadExecutorGroup;
 
 /**
@@ -33,10 +34,12 @@ public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
     
     @Override
     public void channelActive(final ChannelHandlerContext context) {
-        ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
+        ChannelThreadExecutorGroup.getInstance().register(context.channel().id(), getUserGroup());
         handshake(context);
     }
     
+    protected abstract EventLoopGroup getUserGroup();
+    
     protected abstract void handshake(ChannelHandlerContext context);
     
     @Override
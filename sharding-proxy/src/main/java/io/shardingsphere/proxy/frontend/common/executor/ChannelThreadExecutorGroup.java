@@ -18,20 +18,24 @@
 package io.shardingsphere.proxy.frontend.common.executor;
 
 import io.netty.channel.ChannelId;
+import io.shardingsphere.core.constant.TransactionType;
+import io.shardingsphere.proxy.config.RuleRegistry;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 /**
  * Channel thread executor group.
  * 
  * <p>
- *     Manage the thread for each channel invoking.
- *     This ensure XA transaction framework processed by current thread id.
+ *     Manage the serial executor for each channel invoking, commands of one channel are executed in order by bounded shared threads.
+ *     Channel of XA transaction is pinned to a thread from bounded dedicated executor pool while XA transaction is active,
+ *     this ensure XA transaction framework processed by current thread id. Size of pool is same with acceptor size.
  * </p>
  * 
  * @author zhaojun
@@ -42,7 +46,11 @@ public final class ChannelThreadExecutorGroup {
     
     private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup();
     
-    private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
+    private static final RuleRegistry RULE_REGISTRY = RuleRegistry.getInstance();
+    
+    private final Map<ChannelId, ChannelExecutor> channelExecutors = new ConcurrentHashMap<>();
+    
+    private DedicatedExecutorPool dedicatedExecutorPool;
     
     /**
      * Get channel thread executor group.
@@ -57,27 +65,68 @@ public final class ChannelThreadExecutorGroup {
      * Register channel.
      *
      * @param channelId channel id
+     * @param sharedExecutor executor shared by all channels
+     */
+    public void register(final ChannelId channelId, final Executor sharedExecutor) {
+        if (TransactionType.XA.equals(RULE_REGISTRY.getTransactionType())) {
+            channelExecutors.put(channelId, new XASerialExecutor(getDedicatedExecutorPool()));
+        } else {
+            channelExecutors.put(channelId, new SerialExecutor(sharedExecutor));
+        }
+    }
+    
+    private synchronized DedicatedExecutorPool getDedicatedExecutorPool() {
+        if (null == dedicatedExecutorPool) {
+            dedicatedExecutorPool = new DedicatedExecutorPool(RULE_REGISTRY.getAcceptorSize());
+        }
+        return dedicatedExecutorPool;
+    }
+    
+    /**
+     * Get executor of current channel.
+     *
+     * @param channelId channel id
+     * @return executor of current channel
      */
-    public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+    public Executor get(final ChannelId channelId) {
+        return channelExecutors.get(channelId);
     }
     
     /**
-     * Get executor service of current channel.
+     * Get count of tasks waiting for execution of current channel.
      *
      * @param channelId channel id
-     * @return executor service of current channel
+     * @return count of tasks waiting for execution, 0 if channel is not registered
+     */
+    public int getQueueSize(final ChannelId channelId) {
+        ChannelExecutor channelExecutor = channelExecutors.get(channelId);
+        return null == channelExecutor ? 0 : channelExecutor.getQueueSize();
+    }
+    
+    /**
+     * Get count of tasks waiting for execution of all channels.
+     *
+     * @return count of tasks waiting for execution, key is channel id
      */
-    public ExecutorService get(final ChannelId channelId) {
-        return executorServices.get(channelId);
+    public Map<ChannelId, Integer> getQueueSizes() {
+        Map<ChannelId, Integer> result = new HashMap<>(channelExecutors.size(), 1);
+        for (Entry<ChannelId, ChannelExecutor> entry : channelExecutors.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getQueueSize());
+        }
+        return result;
     }
     
     /**
      * Unregister channel.
+     * 
+     * <p>Tasks already submitted are still executed, pinned thread is returned to pool after them.</p>
      *
      * @param channelId channel id
      */
     public void unregister(final ChannelId channelId) {
-        executorServices.remove(channelId).shutdown();
+        ChannelExecutor channelExecutor = channelExecutors.remove(channelId);
+        if (channelExecutor instanceof XASerialExecutor) {
+            ((XASerialExecutor) channelExecutor).close();
+        }
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.frontend.common.executor;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Dedicated executor pool.
+ * 
+ * <p>
+ * Pool holds bounded single thread executors, each one is lent to one channel at a time.
+ * Executors are created lazily until maximum size, channel which can not acquire executor waits in order, and is handed the next released one.
+ * Threads are daemon, because pool lives as long as proxy.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class DedicatedExecutorPool {
+    
+    private static final ThreadFactory THREAD_FACTORY = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-XA-%d").build();
+    
+    private final int maximumSize;
+    
+    private final Queue<ExecutorService> idleExecutors = new LinkedList<>();
+    
+    private final Queue<XASerialExecutor> waitingExecutors = new LinkedList<>();
+    
+    private int size;
+    
+    /**
+     * Acquire executor.
+     * 
+     * @param waitingExecutor channel executor which is handed an executor when released, if no executor available now
+     * @return executor, null if no executor available now
+     */
+    public synchronized ExecutorService acquire(final XASerialExecutor waitingExecutor) {
+        ExecutorService result = idleExecutors.poll();
+        if (null != result) {
+            return result;
+        }
+        if (size < maximumSize) {
+            size++;
+            return Executors.newSingleThreadExecutor(THREAD_FACTORY);
+        }
+        waitingExecutors.offer(waitingExecutor);
+        return null;
+    }
+    
+    /**
+     * Release executor.
+     * 
+     * @param executor executor to be released
+     */
+    public void release(final ExecutorService executor) {
+        XASerialExecutor waitingExecutor;
+        synchronized (this) {
+            waitingExecutor = waitingExecutors.poll();
+            if (null == waitingExecutor) {
+                idleExecutors.offer(executor);
+                return;
+            }
+        }
+        waitingExecutor.onAcquired(executor);
+    }
+    
+    /**
+     * Get count of created executors.
+     *
+     * @return count of created executors
+     */
+    public synchronized int size() {
+        return size;
+    }
+}
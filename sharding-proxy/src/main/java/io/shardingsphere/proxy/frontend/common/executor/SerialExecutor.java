@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.frontend.common.executor;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serial executor.
+ * 
+ * <p>
+ * Tasks of one serial executor run one after another in submission order, but are carried by threads of the shared delegate executor.
+ * Only one task is handed to delegate each time, so a busy session can not occupy a thread which other sessions are waiting for.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class SerialExecutor implements ChannelExecutor {
+    
+    private final Executor delegate;
+    
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger queueSize = new AtomicInteger();
+    
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    
+    private final Runnable drainTask = new Runnable() {
+        
+        @Override
+        public void run() {
+            try {
+                Runnable task = tasks.poll();
+                if (null != task) {
+                    queueSize.decrementAndGet();
+                    task.run();
+                }
+            } finally {
+                scheduled.set(false);
+                scheduleIfNecessary();
+            }
+        }
+    };
+    
+    @Override
+    public void execute(final Runnable command) {
+        tasks.offer(command);
+        queueSize.incrementAndGet();
+        scheduleIfNecessary();
+    }
+    
+    private void scheduleIfNecessary() {
+        if (tasks.isEmpty() || !scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            delegate.execute(drainTask);
+        } catch (final RejectedExecutionException ex) {
+            scheduled.set(false);
+            throw ex;
+        }
+    }
+    
+    @Override
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+}
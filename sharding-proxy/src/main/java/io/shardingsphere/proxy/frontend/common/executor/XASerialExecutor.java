@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.frontend.common.executor;
+
+import io.shardingsphere.core.constant.TCLType;
+import io.shardingsphere.core.transaction.event.XaTransactionEvent;
+import io.shardingsphere.proxy.config.RuleRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.transaction.Status;
+import java.sql.SQLException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * XA serial executor.
+ * 
+ * <p>
+ * XA transaction is associated with thread by transaction manager, so commands of one XA transaction must run on the same thread.
+ * Command which begins XA transaction is only known after parsing, so every command is carried by a thread lent from dedicated executor pool.
+ * The thread is pinned to channel while XA transaction is active, and returned to pool after the command which commits or rolls back.
+ * Tasks run one after another in submission order as {@code SerialExecutor}.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class XASerialExecutor implements ChannelExecutor {
+    
+    private static final RuleRegistry RULE_REGISTRY = RuleRegistry.getInstance();
+    
+    private final DedicatedExecutorPool dedicatedExecutorPool;
+    
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger queueSize = new AtomicInteger();
+    
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    
+    private volatile ExecutorService heldExecutor;
+    
+    private volatile boolean closed;
+    
+    private final Runnable drainTask = new Runnable() {
+        
+        @Override
+        public void run() {
+            try {
+                Runnable task = tasks.poll();
+                if (null != task) {
+                    queueSize.decrementAndGet();
+                    task.run();
+                }
+            } finally {
+                releaseIfNecessary();
+                scheduled.set(false);
+                scheduleIfNecessary();
+            }
+        }
+    };
+    
+    @Override
+    public void execute(final Runnable command) {
+        tasks.offer(command);
+        queueSize.incrementAndGet();
+        scheduleIfNecessary();
+    }
+    
+    private void scheduleIfNecessary() {
+        if (tasks.isEmpty() || !scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        ExecutorService executor = null == heldExecutor ? dedicatedExecutorPool.acquire(this) : heldExecutor;
+        if (null != executor) {
+            onAcquired(executor);
+        }
+    }
+    
+    void onAcquired(final ExecutorService executor) {
+        heldExecutor = executor;
+        executor.execute(drainTask);
+    }
+    
+    private void releaseIfNecessary() {
+        if (isXATransactionActive()) {
+            if (!closed) {
+                return;
+            }
+            rollback();
+        }
+        ExecutorService executor = heldExecutor;
+        heldExecutor = null;
+        dedicatedExecutorPool.release(executor);
+    }
+    
+    private boolean isXATransactionActive() {
+        try {
+            return Status.STATUS_NO_TRANSACTION != RULE_REGISTRY.getTransactionManager().getStatus();
+        } catch (final SQLException ex) {
+            log.error(ex.getMessage(), ex);
+            return true;
+        }
+    }
+    
+    private void rollback() {
+        try {
+            RULE_REGISTRY.getTransactionManager().rollback(new XaTransactionEvent(TCLType.ROLLBACK, "ROLLBACK"));
+        } catch (final SQLException ex) {
+            log.error(ex.getMessage(), ex);
+        }
+    }
+    
+    /**
+     * Close executor.
+     * 
+     * <p>Tasks already submitted are still executed, XA transaction left active is rolled back and the pinned thread is returned to pool after them.</p>
+     */
+    public void close() {
+        execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                closed = true;
+            }
+        });
+    }
+    
+    @Override
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+}
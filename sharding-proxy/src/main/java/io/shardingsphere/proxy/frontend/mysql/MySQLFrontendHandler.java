@@ -21,17 +21,23 @@ import com.google.common.base.Optional;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.EventLoopGroup;
+import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.frontend.common.FrontendHandler;
-import io.shardingsphere.proxy.frontend.common.executor.ExecutorGroup;
+import io.shardingsphere.proxy.frontend.common.executor.ChannelThreadExecutorGroup;
+import io.shardingsphere.proxy.config.RuleRegistry;
 import io.shardingsphere.proxy.runtime.ChannelRegistry;
 import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
+import io.shardingsphere.proxy.transport.mysql.codec.MySQLCompressionCodec;
+import io.shardingsphere.proxy.transport.mysql.constant.CapabilityFlag;
 import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
+import io.shardingsphere.proxy.transport.mysql.constant.StatusFlag;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketFactory;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryCommandPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
@@ -40,8 +46,10 @@ import io.shardingsphere.proxy.transport.mysql.packet.handshake.ConnectionIdGene
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.HandshakePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.HandshakeResponse41Packet;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * MySQL frontend handler.
@@ -51,17 +59,34 @@ import java.sql.SQLException;
  * @author wangkai
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class MySQLFrontendHandler extends FrontendHandler {
     
+    private static final int FLUSH_THRESHOLD = 128;
+    
     private final EventLoopGroup eventLoopGroup;
     
     private final AuthorityHandler authorityHandler = new AuthorityHandler();
     
+    private final AtomicReference<CommandExecutor> suspendedCommandExecutor = new AtomicReference<>();
+    
+    private final BackendConnection backendConnection = new BackendConnection();
+    
+    private final BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+    
+    private volatile int clientCapabilityFlags;
+    
+    @Override
+    protected EventLoopGroup getUserGroup() {
+        return eventLoopGroup;
+    }
+    
     @Override
     protected void handshake(final ChannelHandlerContext context) {
         int connectionId = ConnectionIdGenerator.getInstance().nextId();
         ChannelRegistry.getInstance().putConnectionId(context.channel().id().asShortText(), connectionId);
-        context.writeAndFlush(new HandshakePacket(connectionId, authorityHandler.getAuthPluginData()));
+        int capabilityFlagsLower = CapabilityFlag.calculateHandshakeCapabilityFlagsLower(RuleRegistry.getInstance().getCompressionConfig().isFrontendEnabled());
+        context.writeAndFlush(new HandshakePacket(connectionId, authorityHandler.getAuthPluginData(), capabilityFlagsLower));
     }
     
     @Override
@@ -69,7 +94,11 @@ public final class MySQLFrontendHandler extends FrontendHandler {
         try (MySQLPacketPayload payload = new MySQLPacketPayload(message)) {
             HandshakeResponse41Packet response41 = new HandshakeResponse41Packet(payload);
             if (authorityHandler.login(response41.getUsername(), response41.getAuthResponse())) {
+                clientCapabilityFlags = response41.getCapabilityFlags();
                 context.writeAndFlush(new OKPacket(response41.getSequenceId() + 1));
+                if (isCompressionNegotiated(response41.getCapabilityFlags())) {
+                    context.pipeline().addFirst(new MySQLCompressionCodec(RuleRegistry.getInstance().getCompressionConfig().getThreshold(), false));
+                }
             } else {
                 // TODO localhost should replace to real ip address
                 context.writeAndFlush(new ErrPacket(response41.getSequenceId() + 1, 
@@ -78,20 +107,51 @@ public final class MySQLFrontendHandler extends FrontendHandler {
         }
     }
     
+    private boolean isCompressionNegotiated(final int clientCapabilityFlags) {
+        return RuleRegistry.getInstance().getCompressionConfig().isFrontendEnabled() && 0 != (clientCapabilityFlags & CapabilityFlag.CLIENT_COMPRESS.getValue());
+    }
+    
     @Override
     protected void executeCommand(final ChannelHandlerContext context, final ByteBuf message) {
-        new ExecutorGroup(eventLoopGroup, context.channel().id()).getExecutorService().execute(new CommandExecutor(context, message));
+        execute(context, new CommandExecutor(context, message));
+    }
+    
+    private void execute(final ChannelHandlerContext context, final Runnable runnable) {
+        ChannelThreadExecutorGroup.getInstance().get(context.channel().id()).execute(runnable);
     }
     
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
-            synchronized (this) {
-                this.notifyAll();
+            CommandExecutor commandExecutor = suspendedCommandExecutor.getAndSet(null);
+            if (null != commandExecutor) {
+                execute(context, commandExecutor);
             }
         }
     }
     
+    @Override
+    public void channelInactive(final ChannelHandlerContext context) {
+        suspendedCommandExecutor.set(null);
+        execute(context, new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    binaryStatementRegistry.closeCursors();
+                } catch (final SQLException ex) {
+                    log.error(ex.getMessage(), ex);
+                }
+                try {
+                    backendConnection.close();
+                } catch (final SQLException ex) {
+                    log.error(ex.getMessage(), ex);
+                }
+            }
+        });
+        super.channelInactive(context);
+    }
+    
     @RequiredArgsConstructor
     class CommandExecutor implements Runnable {
         
@@ -99,54 +159,127 @@ public final class MySQLFrontendHandler extends FrontendHandler {
         
         private final ByteBuf message;
         
+        private QueryCommandPacket queryCommandPacket;
+        
         private int currentSequenceId;
         
         @Override
         public void run() {
-            try (MySQLPacketPayload payload = new MySQLPacketPayload(message);
-                 BackendConnection backendConnection = new BackendConnection()) {
-                CommandPacket commandPacket = getCommandPacket(payload, backendConnection);
-                Optional<CommandResponsePackets> responsePackets = commandPacket.execute();
-                if (!responsePackets.isPresent()) {
-                    return;
-                }
-                for (DatabasePacket each : responsePackets.get().getPackets()) {
-                    context.writeAndFlush(each);
-                }
-                if (commandPacket instanceof QueryCommandPacket && !(responsePackets.get().getHeadPacket() instanceof OKPacket) && !(responsePackets.get().getHeadPacket() instanceof ErrPacket)) {
-                    writeMoreResults((QueryCommandPacket) commandPacket, responsePackets.get().getPackets().size());
-                }
+            boolean suspended = false;
+            try {
+                suspended = null == queryCommandPacket ? executeCommand() : writeMoreResults();
             } catch (final SQLException ex) {
                 context.writeAndFlush(new ErrPacket(++currentSequenceId, ex));
                 // CHECKSTYLE:OFF
             } catch (final Exception ex) {
                 // CHECKSTYLE:ON
-                context.writeAndFlush(new ErrPacket(1, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, ex.getMessage()));
+                context.writeAndFlush(new ErrPacket(++currentSequenceId, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, ex.getMessage()));
+            } finally {
+                if (suspended) {
+                    MasterVisitedManager.clear();
+                } else {
+                    release();
+                }
             }
         }
         
-        private CommandPacket getCommandPacket(final MySQLPacketPayload payload, final BackendConnection backendConnection) {
+        private boolean executeCommand() throws SQLException {
+            try (MySQLPacketPayload payload = new MySQLPacketPayload(message)) {
+                CommandPacket commandPacket = getCommandPacket(payload);
+                Optional<CommandResponsePackets> responsePackets = commandPacket.execute();
+                if (!responsePackets.isPresent()) {
+                    return false;
+                }
+                if (commandPacket instanceof QueryCommandPacket) {
+                    queryCommandPacket = (QueryCommandPacket) commandPacket;
+                    return writeResponse(responsePackets.get()) || writeNextResults();
+                }
+                for (DatabasePacket each : responsePackets.get().getPackets()) {
+                    context.write(each);
+                }
+                context.flush();
+                return false;
+            }
+        }
+        
+        private boolean writeResponse(final CommandResponsePackets responsePackets) throws SQLException {
+            for (DatabasePacket each : responsePackets.getPackets()) {
+                context.write(each);
+                currentSequenceId = each.getSequenceId();
+            }
+            DatabasePacket headPacket = responsePackets.getHeadPacket();
+            return !(headPacket instanceof OKPacket) && !(headPacket instanceof ErrPacket) && !isCursorOpened(responsePackets) && writeRows();
+        }
+        
+        private boolean isCursorOpened(final CommandResponsePackets responsePackets) {
+            DatabasePacket tailPacket = null;
+            for (DatabasePacket each : responsePackets.getPackets()) {
+                tailPacket = each;
+            }
+            return tailPacket instanceof EofPacket && 0 != (((EofPacket) tailPacket).getStatusFlags() & StatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue());
+        }
+        
+        private CommandPacket getCommandPacket(final MySQLPacketPayload payload) {
             int sequenceId = payload.readInt1();
             int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
-            return CommandPacketFactory.getCommandPacket(sequenceId, connectionId, payload, backendConnection);
+            return CommandPacketFactory.getCommandPacket(sequenceId, connectionId, payload, backendConnection, binaryStatementRegistry, clientCapabilityFlags);
         }
         
-        private void writeMoreResults(final QueryCommandPacket queryCommandPacket, final int headPacketsCount) throws SQLException {
-            currentSequenceId = headPacketsCount;
-            while (queryCommandPacket.next()) {
-                while (!context.channel().isWritable()) {
-                    synchronized (MySQLFrontendHandler.this) {
-                        try {
-                            MySQLFrontendHandler.this.wait();
-                        } catch (final InterruptedException ignore) {
-                        }
-                    }
+        private boolean writeMoreResults() throws SQLException {
+            return writeRows() || writeNextResults();
+        }
+        
+        private boolean writeNextResults() throws SQLException {
+            while (queryCommandPacket.hasMoreResults()) {
+                Optional<CommandResponsePackets> responsePackets = queryCommandPacket.executeNext(currentSequenceId);
+                if (!responsePackets.isPresent()) {
+                    break;
+                }
+                if (writeResponse(responsePackets.get())) {
+                    return true;
                 }
+            }
+            context.flush();
+            return false;
+        }
+        
+        private boolean writeRows() throws SQLException {
+            int unflushedCount = 0;
+            while (context.channel().isActive() && queryCommandPacket.next()) {
                 DatabasePacket resultValue = queryCommandPacket.getResultValue();
                 currentSequenceId = resultValue.getSequenceId();
-                context.writeAndFlush(resultValue);
+                context.write(resultValue);
+                if (!context.channel().isWritable()) {
+                    context.flush();
+                    unflushedCount = 0;
+                    if (suspend()) {
+                        return true;
+                    }
+                } else if (++unflushedCount >= FLUSH_THRESHOLD) {
+                    context.flush();
+                    unflushedCount = 0;
+                }
+            }
+            int statusFlags = StatusFlag.calculateSessionStatusFlags(backendConnection.isAutoCommit(), backendConnection.isInTransaction());
+            if (queryCommandPacket.hasMoreResults()) {
+                statusFlags |= StatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue();
+            }
+            context.write(new EofPacket(++currentSequenceId, 0, statusFlags));
+            return false;
+        }
+        
+        private boolean suspend() {
+            suspendedCommandExecutor.set(this);
+            boolean resumeNow = context.channel().isWritable() || !context.channel().isActive();
+            return !(resumeNow && suspendedCommandExecutor.compareAndSet(this, null));
+        }
+        
+        private void release() {
+            try {
+                backendConnection.release();
+            } catch (final SQLException ex) {
+                log.error(ex.getMessage(), ex);
             }
-            context.writeAndFlush(new EofPacket(++currentSequenceId));
         }
     }
 }
@@ -63,4 +63,13 @@ public final class ChannelRegistry {
     public int getConnectionId(final String channelId) {
         return connectionIds.getIfPresent(channelId);
     }
+    
+    /**
+     * Remove connection id by channel ID.
+     *
+     * @param channelId netty channel ID
+     */
+    public void removeConnectionId(final String channelId) {
+        connectionIds.invalidate(channelId);
+    }
 }
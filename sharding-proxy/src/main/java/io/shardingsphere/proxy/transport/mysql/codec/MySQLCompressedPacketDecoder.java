@@ -0,0 +1,136 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.shardingsphere.core.exception.ShardingException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * MySQL compressed packet decoder.
+ * 
+ * <p>Decompressed payloads are passed to MySQL packet codec as stream, one payload may contain several packets or part of packet.</p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressedPacketDecoder extends ByteToMessageDecoder {
+    
+    /**
+     * Header length of compressed packet.
+     */
+    public static final int HEADER_LENGTH = 7;
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    private static final FastThreadLocal<Inflater> INFLATER = new FastThreadLocal<Inflater>() {
+        
+        @Override
+        protected Inflater initialValue() {
+            return new Inflater();
+        }
+        
+        @Override
+        protected void onRemoval(final Inflater value) {
+            value.end();
+        }
+    };
+    
+    private static final FastThreadLocal<byte[]> INPUT_BUFFER = new FastThreadLocal<byte[]>() {
+        
+        @Override
+        protected byte[] initialValue() {
+            return new byte[BUFFER_SIZE];
+        }
+    };
+    
+    private static final FastThreadLocal<byte[]> OUTPUT_BUFFER = new FastThreadLocal<byte[]>() {
+        
+        @Override
+        protected byte[] initialValue() {
+            return new byte[BUFFER_SIZE];
+        }
+    };
+    
+    private final MySQLCompressedPacketEncoder encoder;
+    
+    @Override
+    protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) {
+        if (in.readableBytes() < HEADER_LENGTH) {
+            return;
+        }
+        int compressedLength = in.getUnsignedMediumLE(in.readerIndex());
+        if (in.readableBytes() < HEADER_LENGTH + compressedLength) {
+            return;
+        }
+        in.skipBytes(3);
+        encoder.setSequenceId(in.readUnsignedByte() + 1);
+        int uncompressedLength = in.readUnsignedMediumLE();
+        out.add(0 == uncompressedLength ? in.readRetainedSlice(compressedLength) : inflate(context, in, compressedLength, uncompressedLength));
+    }
+    
+    private ByteBuf inflate(final ChannelHandlerContext context, final ByteBuf in, final int compressedLength, final int uncompressedLength) {
+        int endIndex = in.readerIndex() + compressedLength;
+        ByteBuf result = context.alloc().buffer(uncompressedLength);
+        boolean inflated = false;
+        try {
+            inflate(in, endIndex, uncompressedLength, result);
+            inflated = true;
+            return result;
+        } finally {
+            in.readerIndex(endIndex);
+            if (!inflated) {
+                result.release();
+            }
+        }
+    }
+    
+    private void inflate(final ByteBuf in, final int endIndex, final int uncompressedLength, final ByteBuf out) {
+        Inflater inflater = INFLATER.get();
+        byte[] inputBuffer = INPUT_BUFFER.get();
+        byte[] outputBuffer = OUTPUT_BUFFER.get();
+        inflater.reset();
+        try {
+            while (!inflater.finished() && out.readableBytes() < uncompressedLength) {
+                if (inflater.needsInput()) {
+                    if (in.readerIndex() == endIndex) {
+                        throw new ShardingException("Incomplete compressed packet, expected length: %s, actual length: %s", uncompressedLength, out.readableBytes());
+                    }
+                    int inputLength = Math.min(BUFFER_SIZE, endIndex - in.readerIndex());
+                    in.readBytes(inputBuffer, 0, inputLength);
+                    inflater.setInput(inputBuffer, 0, inputLength);
+                } else if (inflater.needsDictionary()) {
+                    throw new ShardingException("Unsupported compressed packet with preset dictionary.");
+                }
+                out.writeBytes(outputBuffer, 0, inflater.inflate(outputBuffer, 0, Math.min(BUFFER_SIZE, uncompressedLength - out.readableBytes())));
+            }
+        } catch (final DataFormatException ex) {
+            throw new ShardingException(ex);
+        }
+        if (out.readableBytes() != uncompressedLength) {
+            throw new ShardingException("Incomplete compressed packet, expected length: %s, actual length: %s", uncompressedLength, out.readableBytes());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.PromiseNotifier;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * MySQL compressed packet encoder.
+ * 
+ * <p>
+ * Packets written before flush are compressed together, and split into compressed packets of max payload length.
+ * Payload shorter than threshold or not shrunk by compression is sent uncompressed.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressedPacketEncoder extends ChannelOutboundHandlerAdapter {
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    private static final FastThreadLocal<Deflater> DEFLATER = new FastThreadLocal<Deflater>() {
+        
+        @Override
+        protected Deflater initialValue() {
+            return new Deflater();
+        }
+        
+        @Override
+        protected void onRemoval(final Deflater value) {
+            value.end();
+        }
+    };
+    
+    private static final FastThreadLocal<byte[]> INPUT_BUFFER = new FastThreadLocal<byte[]>() {
+        
+        @Override
+        protected byte[] initialValue() {
+            return new byte[BUFFER_SIZE];
+        }
+    };
+    
+    private static final FastThreadLocal<byte[]> OUTPUT_BUFFER = new FastThreadLocal<byte[]>() {
+        
+        @Override
+        protected byte[] initialValue() {
+            return new byte[BUFFER_SIZE];
+        }
+    };
+    
+    private final int threshold;
+    
+    private final boolean clientSide;
+    
+    @Setter
+    private int sequenceId;
+    
+    private CompositeByteBuf pendingBuffer;
+    
+    private final List<ChannelPromise> pendingPromises = new LinkedList<>();
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object message, final ChannelPromise promise) {
+        if (!(message instanceof ByteBuf)) {
+            context.write(message, promise);
+            return;
+        }
+        if (null == pendingBuffer) {
+            pendingBuffer = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+        }
+        pendingBuffer.addComponent(true, (ByteBuf) message);
+        if (!promise.isVoid()) {
+            pendingPromises.add(promise);
+        }
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) {
+        if (null != pendingBuffer) {
+            if (clientSide) {
+                sequenceId = 0;
+            }
+            ByteBuf compressedPackets = context.alloc().buffer();
+            try {
+                compress(pendingBuffer, compressedPackets);
+            } finally {
+                pendingBuffer.release();
+                pendingBuffer = null;
+            }
+            ChannelFuture future = context.write(compressedPackets);
+            if (!pendingPromises.isEmpty()) {
+                future.addListener(new PromiseNotifier<Void, ChannelFuture>(pendingPromises.toArray(new ChannelPromise[pendingPromises.size()])));
+                pendingPromises.clear();
+            }
+        }
+        context.flush();
+    }
+    
+    @Override
+    public void close(final ChannelHandlerContext context, final ChannelPromise promise) throws Exception {
+        discardPending();
+        super.close(context, promise);
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) {
+        discardPending();
+    }
+    
+    private void discardPending() {
+        if (null != pendingBuffer) {
+            pendingBuffer.release();
+            pendingBuffer = null;
+        }
+        for (ChannelPromise each : pendingPromises) {
+            each.tryFailure(new ClosedChannelException());
+        }
+        pendingPromises.clear();
+    }
+    
+    private void compress(final ByteBuf in, final ByteBuf out) {
+        while (in.isReadable()) {
+            int length = Math.min(in.readableBytes(), MAX_PAYLOAD_LENGTH);
+            if (length < threshold || !writeCompressedPacket(in, length, out)) {
+                writeUncompressedPacket(in, length, out);
+            }
+            in.skipBytes(length);
+        }
+    }
+    
+    private boolean writeCompressedPacket(final ByteBuf in, final int length, final ByteBuf out) {
+        int headerIndex = out.writerIndex();
+        out.writeZero(MySQLCompressedPacketDecoder.HEADER_LENGTH);
+        int compressedLength = deflate(in, length, out);
+        if (compressedLength >= length) {
+            out.writerIndex(headerIndex);
+            return false;
+        }
+        out.setMediumLE(headerIndex, compressedLength);
+        out.setByte(headerIndex + 3, sequenceId++);
+        out.setMediumLE(headerIndex + 4, length);
+        return true;
+    }
+    
+    private int deflate(final ByteBuf in, final int length, final ByteBuf out) {
+        Deflater deflater = DEFLATER.get();
+        byte[] inputBuffer = INPUT_BUFFER.get();
+        byte[] outputBuffer = OUTPUT_BUFFER.get();
+        deflater.reset();
+        int startIndex = out.writerIndex();
+        int inputIndex = in.readerIndex();
+        int endIndex = inputIndex + length;
+        while (inputIndex < endIndex) {
+            int inputLength = Math.min(BUFFER_SIZE, endIndex - inputIndex);
+            in.getBytes(inputIndex, inputBuffer, 0, inputLength);
+            inputIndex += inputLength;
+            deflater.setInput(inputBuffer, 0, inputLength);
+            if (inputIndex == endIndex) {
+                deflater.finish();
+            }
+            while (inputIndex == endIndex ? !deflater.finished() : !deflater.needsInput()) {
+                out.writeBytes(outputBuffer, 0, deflater.deflate(outputBuffer));
+            }
+            if (out.writerIndex() - startIndex >= length) {
+                break;
+            }
+        }
+        return out.writerIndex() - startIndex;
+    }
+    
+    private void writeUncompressedPacket(final ByteBuf in, final int length, final ByteBuf out) {
+        out.writeMediumLE(length);
+        out.writeByte(sequenceId++);
+        out.writeMediumLE(0);
+        out.writeBytes(in, in.readerIndex(), length);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.codec;
+
+import io.netty.channel.CombinedChannelDuplexHandler;
+
+/**
+ * MySQL compressed protocol codec.
+ * 
+ * <p>
+ * Codec should be added in front of MySQL packet codec after authentication succeed, if compression is negotiated during handshake.
+ * Sequence ID of compressed packet is independent from sequence ID of MySQL packet,
+ * server side continues sequence ID received from client, client side resets it at the start of each command.
+ * </p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/compressed-packet-header.html">Compressed Packet</a>
+ *
+ * @author agent
+ */
+public final class MySQLCompressionCodec extends CombinedChannelDuplexHandler<MySQLCompressedPacketDecoder, MySQLCompressedPacketEncoder> {
+    
+    public MySQLCompressionCodec(final int threshold, final boolean clientSide) {
+        MySQLCompressedPacketEncoder encoder = new MySQLCompressedPacketEncoder(threshold, clientSide);
+        init(new MySQLCompressedPacketDecoder(encoder), encoder);
+    }
+}
@@ -18,6 +18,7 @@
 package io.shardingsphere.proxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.shardingsphere.proxy.transport.common.codec.PacketCodec;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
@@ -28,33 +29,102 @@ import java.util.List;
 /**
  * MySQL packet codec.
  * 
+ * <p>
+ * Packet is encoded into output buffer directly, header is reserved first and written after payload.
+ * Payload not less than 16MB - 1 is split into several packets, and split packets are reassembled when decoding.
+ * Sequence IDs consumed by split packets are added to sequence ID of following packets until next command begins.
+ * </p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/sending-more-than-16mbyte.html">Sending more than 16MB</a>
+ * 
  * @author zhangliang 
  */
 public final class MySQLPacketCodec extends PacketCodec<MySQLPacket> {
     
+    private static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private int sequenceIdShift;
+    
+    private CompositeByteBuf splitPayload;
+    
     @Override
     protected boolean isValidHeader(final int readableBytes) {
-        return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+        return readableBytes >= HEADER_LENGTH;
     }
     
     @Override
     protected void doDecode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int readableBytes) {
-        int payloadLength = in.markReaderIndex().readMediumLE();
+        int payloadLength = in.markReaderIndex().readUnsignedMediumLE();
         int realPacketLength = payloadLength + MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
         if (readableBytes < realPacketLength) {
             in.resetReaderIndex();
             return;
         }
-        out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+        if (null == splitPayload) {
+            if (0 == in.getUnsignedByte(in.readerIndex())) {
+                sequenceIdShift = 0;
+            }
+            if (payloadLength < MAX_PAYLOAD_LENGTH) {
+                out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+                return;
+            }
+            splitPayload = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+            splitPayload.addComponent(true, in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+            return;
+        }
+        in.skipBytes(MySQLPacket.SEQUENCE_LENGTH);
+        splitPayload.addComponent(true, in.readRetainedSlice(payloadLength));
+        sequenceIdShift++;
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.add(splitPayload);
+            splitPayload = null;
+        }
     }
     
     @Override
     protected void doEncode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        if (0 == message.getSequenceId()) {
+            sequenceIdShift = 0;
+        }
+        int headerIndex = out.writerIndex();
+        out.writeZero(HEADER_LENGTH);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, message.getSequenceId() + sequenceIdShift);
+            return;
+        }
+        ByteBuf payload = out.copy(headerIndex + HEADER_LENGTH, payloadLength);
+        try {
+            out.writerIndex(headerIndex);
+            writeSplitPackets(message.getSequenceId(), payload, out);
+        } finally {
+            payload.release();
+        }
+    }
+    
+    private void writeSplitPackets(final int sequenceId, final ByteBuf payload, final ByteBuf out) {
+        int firstSequenceId = sequenceId + sequenceIdShift;
+        int count = 0;
+        int length;
+        do {
+            length = Math.min(payload.readableBytes(), MAX_PAYLOAD_LENGTH);
+            out.writeMediumLE(length);
+            out.writeByte(firstSequenceId + count++);
+            out.writeBytes(payload, length);
+        } while (MAX_PAYLOAD_LENGTH == length);
+        sequenceIdShift += count - 1;
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) throws Exception {
+        if (null != splitPayload) {
+            splitPayload.release();
+            splitPayload = null;
         }
+        super.handlerRemoved(context);
     }
 }
@@ -93,13 +93,23 @@ public enum CapabilityFlag {
                 CLIENT_PROTOCOL_41, CLIENT_INTERACTIVE, CLIENT_IGNORE_SIGPIPE, CLIENT_TRANSACTIONS, CLIENT_SECURE_CONNECTION);
     }
     
+    /**
+     * Get handshake capability flags lower bit with compression.
+     *
+     * @param compressionEnabled compressed protocol enabled or not
+     * @return handshake capability flags lower bit
+     */
+    public static int calculateHandshakeCapabilityFlagsLower(final boolean compressionEnabled) {
+        return compressionEnabled ? calculateHandshakeCapabilityFlagsLower() | CLIENT_COMPRESS.value : calculateHandshakeCapabilityFlagsLower();
+    }
+    
     /**
      * Get handshake capability flags upper bit.
      *
      * @return handshake capability flags upper bit
      */
     public static int calculateHandshakeCapabilityFlagsUpper() {
-        return 0;
+        return calculateCapabilityFlags(CLIENT_MULTI_STATEMENTS, CLIENT_MULTI_RESULTS) >>> 16;
     }
     
     // TODO use xor to calculate lower and upper
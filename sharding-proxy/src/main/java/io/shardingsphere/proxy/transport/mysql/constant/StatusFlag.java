@@ -60,4 +60,16 @@ public enum StatusFlag {
     SERVER_SESSION_STATE_CHANGED(0x4000);
     
     private final int value;
+    
+    /**
+     * Calculate status flags of session.
+     *
+     * @param autoCommit auto commit mode or not
+     * @param inTransaction in transaction or not
+     * @return status flags of session
+     */
+    public static int calculateSessionStatusFlags(final boolean autoCommit, final boolean inTransaction) {
+        int result = autoCommit ? SERVER_STATUS_AUTOCOMMIT.value : 0;
+        return inTransaction ? result | SERVER_STATUS_IN_TRANS.value : result;
+    }
 }
@@ -265,8 +265,21 @@ public final class MySQLPacketPayload implements AutoCloseable {
             byteBuf.writeByte(0);
             return;
         }
-        writeIntLenenc(value.getBytes().length);
-        byteBuf.writeBytes(value.getBytes());
+        byte[] bytes = value.getBytes();
+        writeIntLenenc(bytes.length);
+        byteBuf.writeBytes(bytes);
+    }
+    
+    /**
+     * Write length encoded bytes to byte buffers.
+     * 
+     * @see <a href="https://dev.mysql.com/doc/internals/en/string.html#packet-Protocol::LengthEncodedString">LengthEncodedString</a>
+     *
+     * @param value length encoded bytes
+     */
+    public void writeBytesLenenc(final byte[] value) {
+        writeIntLenenc(value.length);
+        byteBuf.writeBytes(value);
     }
     
     /**
@@ -20,8 +20,10 @@ package io.shardingsphere.proxy.transport.mysql.packet.command;
 import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.admin.UnsupportedCommandPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.close.ComStmtClosePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.ComStmtExecutePacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.fetch.ComStmtFetchPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.prepare.ComStmtPreparePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.fieldlist.ComFieldListPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.admin.initdb.ComInitDbPacket;
@@ -44,9 +46,12 @@ public final class CommandPacketFactory {
      * @param connectionId MySQL connection id
      * @param payload MySQL packet payload
      * @param backendConnection backend connection
+     * @param binaryStatementRegistry binary prepared statement registry of session
+     * @param clientCapabilityFlags capability flags negotiated with client
      * @return Command packet
      */
-    public static CommandPacket getCommandPacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection) {
+    public static CommandPacket getCommandPacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload,
+                                                 final BackendConnection backendConnection, final BinaryStatementRegistry binaryStatementRegistry, final int clientCapabilityFlags) {
         int commandPacketTypeValue = payload.readInt1();
         CommandPacketType type = CommandPacketType.valueOf(commandPacketTypeValue);
         switch (type) {
@@ -57,13 +62,15 @@ public final class CommandPacketFactory {
             case COM_FIELD_LIST:
                 return new ComFieldListPacket(sequenceId, connectionId, payload, backendConnection);
             case COM_QUERY:
-                return new ComQueryPacket(sequenceId, connectionId, payload, backendConnection);
+                return new ComQueryPacket(sequenceId, connectionId, payload, backendConnection, clientCapabilityFlags);
             case COM_STMT_PREPARE:
-                return new ComStmtPreparePacket(sequenceId, payload);
+                return new ComStmtPreparePacket(sequenceId, payload, binaryStatementRegistry);
             case COM_STMT_EXECUTE:
-                return new ComStmtExecutePacket(sequenceId, connectionId, payload, backendConnection);
+                return new ComStmtExecutePacket(sequenceId, connectionId, payload, backendConnection, binaryStatementRegistry);
+            case COM_STMT_FETCH:
+                return new ComStmtFetchPacket(sequenceId, payload, backendConnection, binaryStatementRegistry);
             case COM_STMT_CLOSE:
-                return new ComStmtClosePacket(sequenceId, payload);
+                return new ComStmtClosePacket(sequenceId, payload, binaryStatementRegistry);
             case COM_PING:
                 return new ComPingPacket(sequenceId);
             case COM_SLEEP:
@@ -86,7 +93,6 @@ public final class CommandPacketFactory {
             case COM_STMT_SEND_LONG_DATA:
             case COM_STMT_RESET:
             case COM_SET_OPTION:
-            case COM_STMT_FETCH:
             case COM_DAEMON:
             case COM_BINLOG_DUMP_GTID:
             case COM_RESET_CONNECTION:
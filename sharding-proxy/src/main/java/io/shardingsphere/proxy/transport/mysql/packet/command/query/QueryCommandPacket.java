@@ -17,8 +17,10 @@
 
 package io.shardingsphere.proxy.transport.mysql.packet.command.query;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 
 import java.sql.SQLException;
 
@@ -45,4 +47,20 @@ public interface QueryCommandPacket extends CommandPacket {
      * @throws SQLException SQL exception
      */
     DatabasePacket getResultValue() throws SQLException;
+    
+    /**
+     * Judge whether has more results for multiple statements.
+     *
+     * @return has more results or not
+     */
+    boolean hasMoreResults();
+    
+    /**
+     * Execute next statement for multiple statements.
+     *
+     * @param sequenceId sequence ID of last sent packet
+     * @return result packets to be sent, absent if no more statements
+     * @throws SQLException SQL exception
+     */
+    Optional<CommandResponsePackets> executeNext(int sequenceId) throws SQLException;
 }
@@ -17,25 +17,69 @@
 
 package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary;
 
+import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
+import io.shardingsphere.proxy.backend.BackendHandler;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendResources;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
+import java.sql.SQLException;
 import java.util.List;
 
 /**
  * Binary prepared statement.
+ * 
+ * <p>Routing engine keeps parsed result of SQL for all executions, it is null for master-slave only rule.</p>
+ * 
+ * <p>Cursor keeps result of execution opened for COM_STMT_FETCH, it is null if no cursor opened.
+ * Resources of cursor are detached from backend connection, and closed when cursor is closed.</p>
  *
  * @author zhangyonglun
  */
 @RequiredArgsConstructor
 @Getter
-@Setter
 public final class BinaryStatement {
     
     private final String sql;
     
     private final int parametersCount;
     
+    private final PreparedStatementRoutingEngine routingEngine;
+    
+    @Setter
     private List<BinaryStatementParameterType> parameterTypes;
+    
+    private BackendHandler cursor;
+    
+    @Getter(AccessLevel.NONE)
+    private BackendResources cursorResources;
+    
+    /**
+     * Open cursor, previous cursor is closed.
+     * 
+     * @param cursor backend handler which keeps result of execution
+     * @param cursorResources resources of cursor
+     * @throws SQLException SQL exception
+     */
+    public void openCursor(final BackendHandler cursor, final BackendResources cursorResources) throws SQLException {
+        closeCursor();
+        this.cursor = cursor;
+        this.cursorResources = cursorResources;
+    }
+    
+    /**
+     * Close cursor and its resources.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void closeCursor() throws SQLException {
+        cursor = null;
+        if (null != cursorResources) {
+            BackendResources resources = cursorResources;
+            cursorResources = null;
+            resources.close();
+        }
+    }
 }
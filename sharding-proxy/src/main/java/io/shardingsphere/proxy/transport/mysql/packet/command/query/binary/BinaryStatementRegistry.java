@@ -17,54 +17,36 @@
 
 package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary;
 
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
-
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Binary prepared statement registry.
+ * 
+ * <p>Registry is held by frontend session, statement is removed when it is closed and all statements are dropped with session.</p>
  *
  * @author zhangliang
  * @author zhangyonglun
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
 public final class BinaryStatementRegistry {
     
-    private static final BinaryStatementRegistry INSTANCE = new BinaryStatementRegistry();
-    
-    private final ConcurrentMap<String, Integer> statementIdAssigner = new ConcurrentHashMap<>(65535, 1);
-    
-    private final ConcurrentMap<Integer, BinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
+    private final ConcurrentMap<Integer, BinaryStatement> binaryStatements = new ConcurrentHashMap<>();
     
     private final AtomicInteger sequence = new AtomicInteger();
     
     /**
-     * Get prepared statement registry instance.
+     * Register binary prepared statement.
      * 
-     * @return prepared statement registry instance
-     */
-    public static BinaryStatementRegistry getInstance() {
-        return INSTANCE;
-    }
-    
-    /**
-     * Register SQL.
-     * 
-     * @param sql SQL
-     * @param parametersCount parameters count
+     * @param binaryStatement binary prepared statement
      * @return statement ID
      */
-    public int register(final String sql, final int parametersCount) {
-        Integer result = statementIdAssigner.get(sql);
-        if (null != result) {
-            return result;
-        }
-        result = sequence.incrementAndGet();
-        statementIdAssigner.putIfAbsent(sql, result);
-        binaryStatements.putIfAbsent(result, new BinaryStatement(sql, parametersCount));
+    public int register(final BinaryStatement binaryStatement) {
+        int result = sequence.incrementAndGet();
+        binaryStatements.put(result, binaryStatement);
         return result;
     }
     
@@ -77,4 +59,59 @@ public final class BinaryStatementRegistry {
     public BinaryStatement getBinaryStatement(final int statementId) {
         return binaryStatements.get(statementId);
     }
+    
+    /**
+     * Remove binary prepared statement.
+     *
+     * @param statementId statement ID
+     */
+    public void remove(final int statementId) {
+        binaryStatements.remove(statementId);
+    }
+    
+    /**
+     * Judge whether any statement has opened cursor.
+     *
+     * @return has opened cursor or not
+     */
+    public boolean hasOpenedCursor() {
+        for (BinaryStatement each : binaryStatements.values()) {
+            if (null != each.getCursor()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Close cursors of all statements.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void closeCursors() throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (BinaryStatement each : binaryStatements.values()) {
+            try {
+                each.closeCursor();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        if (!exceptions.isEmpty()) {
+            SQLException ex = new SQLException();
+            for (SQLException each : exceptions) {
+                ex.setNextException(each);
+            }
+            throw ex;
+        }
+    }
+    
+    /**
+     * Get registered statements count.
+     *
+     * @return registered statements count
+     */
+    public int size() {
+        return binaryStatements.size();
+    }
 }
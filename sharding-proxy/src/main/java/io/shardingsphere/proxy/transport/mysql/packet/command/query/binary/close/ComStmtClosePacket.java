@@ -21,9 +21,13 @@ import com.google.common.base.Optional;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatement;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.sql.SQLException;
+
 /**
  * COM_STMT_CLOSE command packet.
  * 
@@ -39,9 +43,12 @@ public class ComStmtClosePacket implements CommandPacket {
     
     private final int statementId;
     
-    public ComStmtClosePacket(final int sequenceId, final MySQLPacketPayload payload) {
+    private final BinaryStatementRegistry binaryStatementRegistry;
+    
+    public ComStmtClosePacket(final int sequenceId, final MySQLPacketPayload payload, final BinaryStatementRegistry binaryStatementRegistry) {
         this.sequenceId = sequenceId;
         statementId = payload.readInt4();
+        this.binaryStatementRegistry = binaryStatementRegistry;
     }
     
     @Override
@@ -51,7 +58,15 @@ public class ComStmtClosePacket implements CommandPacket {
     @Override
     public Optional<CommandResponsePackets> execute() {
         log.debug("COM_STMT_CLOSE received for Sharding-Proxy: {}", statementId);
-        // TODO :yonglun need to clean PreparedStatementRegistry?
+        BinaryStatement binaryStatement = binaryStatementRegistry.getBinaryStatement(statementId);
+        binaryStatementRegistry.remove(statementId);
+        if (null != binaryStatement) {
+            try {
+                binaryStatement.closeCursor();
+            } catch (final SQLException ex) {
+                log.error(ex.getMessage(), ex);
+            }
+        }
         return Optional.absent();
     }
 }
@@ -27,17 +27,20 @@ import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.constant.NewParametersBoundFlag;
+import io.shardingsphere.proxy.transport.mysql.constant.StatusFlag;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryCommandPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatement;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementParameterType;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -54,6 +57,8 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     
     private static final int NULL_BITMAP_OFFSET = 0;
     
+    private static final int CURSOR_TYPE_READ_ONLY = 0x01;
+    
     @Getter
     private final int sequenceId;
     
@@ -69,12 +74,16 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     
     private final List<Object> parameters;
     
+    private final BackendConnection backendConnection;
+    
     private final BackendHandler backendHandler;
     
-    public ComStmtExecutePacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection) {
+    public ComStmtExecutePacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload,
+                                final BackendConnection backendConnection, final BinaryStatementRegistry binaryStatementRegistry) {
         this.sequenceId = sequenceId;
         statementId = payload.readInt4();
-        binaryStatement = BinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        binaryStatement = binaryStatementRegistry.getBinaryStatement(statementId);
+        Preconditions.checkArgument(null != binaryStatement, "Unknown prepared statement handler (%s) given to mysqld_stmt_execute", statementId);
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parametersCount = binaryStatement.getParametersCount();
@@ -87,7 +96,9 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
             binaryStatement.setParameterTypes(getParameterTypes(payload, parametersCount));
         }
         parameters = getParameters(payload, parametersCount);
-        backendHandler = BackendHandlerFactory.newBinaryProtocolInstance(connectionId, sequenceId, binaryStatement.getSql(), parameters, backendConnection, DatabaseType.MySQL);
+        this.backendConnection = backendConnection;
+        backendHandler = BackendHandlerFactory.newBinaryProtocolInstance(
+                connectionId, sequenceId, binaryStatement.getSql(), binaryStatement.getRoutingEngine(), parameters, backendConnection, DatabaseType.MySQL);
     }
     
     private List<BinaryStatementParameterType> getParameterTypes(final MySQLPacketPayload payload, final int parametersCount) {
@@ -128,9 +139,38 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     }
     
     @Override
-    public Optional<CommandResponsePackets> execute() {
+    public Optional<CommandResponsePackets> execute() throws SQLException {
         log.debug("COM_STMT_EXECUTE received for Sharding-Proxy: {}", statementId);
-        return Optional.of(backendHandler.execute());
+        binaryStatement.closeCursor();
+        CommandResponsePackets result = backendHandler.execute();
+        if (0 == (flags & CURSOR_TYPE_READ_ONLY) || !(getTailPacket(result) instanceof EofPacket)) {
+            return Optional.of(result);
+        }
+        binaryStatement.openCursor(backendHandler, backendConnection.detach());
+        return Optional.of(openCursor(result));
+    }
+    
+    private DatabasePacket getTailPacket(final CommandResponsePackets responsePackets) {
+        DatabasePacket result = null;
+        for (DatabasePacket each : responsePackets.getPackets()) {
+            result = each;
+        }
+        return result;
+    }
+    
+    private CommandResponsePackets openCursor(final CommandResponsePackets headerPackets) {
+        CommandResponsePackets result = new CommandResponsePackets();
+        Iterator<DatabasePacket> iterator = headerPackets.getPackets().iterator();
+        while (iterator.hasNext()) {
+            DatabasePacket each = iterator.next();
+            if (iterator.hasNext()) {
+                result.getPackets().add(each);
+            } else {
+                result.getPackets().add(new EofPacket(each.getSequenceId(), 0,
+                        StatusFlag.calculateSessionStatusFlags(backendConnection.isAutoCommit(), backendConnection.isInTransaction()) | StatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue()));
+            }
+        }
+        return result;
     }
     
     @Override
@@ -143,4 +183,14 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
         ResultPacket resultPacket = backendHandler.getResultValue();
         return new BinaryResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getColumnCount(), resultPacket.getData(), resultPacket.getColumnTypes());
     }
+    
+    @Override
+    public boolean hasMoreResults() {
+        return false;
+    }
+    
+    @Override
+    public Optional<CommandResponsePackets> executeNext(final int sequenceId) {
+        return Optional.absent();
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.fetch;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.proxy.backend.BackendHandler;
+import io.shardingsphere.proxy.backend.ResultPacket;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
+import io.shardingsphere.proxy.transport.mysql.constant.ServerErrorCode;
+import io.shardingsphere.proxy.transport.mysql.constant.StatusFlag;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatement;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.BinaryResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+
+/**
+ * COM_STMT_FETCH command packet.
+ * 
+ * <p>Fetch rows from cursor opened by COM_STMT_EXECUTE, cursor is closed after last row sent.</p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/com-stmt-fetch.html">COM_STMT_FETCH</a>
+ *
+ * @author agent
+ */
+@Slf4j
+public final class ComStmtFetchPacket implements CommandPacket {
+    
+    @Getter
+    private final int sequenceId;
+    
+    private final int statementId;
+    
+    private final int numRows;
+    
+    private final BackendConnection backendConnection;
+    
+    private final BinaryStatementRegistry binaryStatementRegistry;
+    
+    public ComStmtFetchPacket(final int sequenceId, final MySQLPacketPayload payload, final BackendConnection backendConnection, final BinaryStatementRegistry binaryStatementRegistry) {
+        this.sequenceId = sequenceId;
+        statementId = payload.readInt4();
+        numRows = payload.readInt4();
+        this.backendConnection = backendConnection;
+        this.binaryStatementRegistry = binaryStatementRegistry;
+    }
+    
+    @Override
+    public void write(final MySQLPacketPayload payload) {
+        payload.writeInt4(statementId);
+        payload.writeInt4(numRows);
+    }
+    
+    @Override
+    public Optional<CommandResponsePackets> execute() throws SQLException {
+        log.debug("COM_STMT_FETCH received for Sharding-Proxy: {}", statementId);
+        BinaryStatement binaryStatement = binaryStatementRegistry.getBinaryStatement(statementId);
+        if (null == binaryStatement || null == binaryStatement.getCursor()) {
+            return Optional.of(new CommandResponsePackets(new ErrPacket(1, ServerErrorCode.ER_STMT_HAS_NO_OPEN_CURSOR, statementId)));
+        }
+        BackendHandler cursor = binaryStatement.getCursor();
+        CommandResponsePackets result = new CommandResponsePackets();
+        int statusFlags = StatusFlag.calculateSessionStatusFlags(backendConnection.isAutoCommit(), backendConnection.isInTransaction()) | StatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue();
+        int currentSequenceId = 0;
+        for (int i = 0; i < numRows; i++) {
+            if (!cursor.next()) {
+                binaryStatement.closeCursor();
+                result.getPackets().add(new EofPacket(++currentSequenceId, 0, statusFlags | StatusFlag.SERVER_STATUS_LAST_ROW_SENT.getValue()));
+                return Optional.of(result);
+            }
+            ResultPacket resultPacket = cursor.getResultValue();
+            result.getPackets().add(new BinaryResultSetRowPacket(++currentSequenceId, resultPacket.getColumnCount(), resultPacket.getData(), resultPacket.getColumnTypes()));
+        }
+        result.getPackets().add(new EofPacket(++currentSequenceId, 0, statusFlags));
+        return Optional.of(result);
+    }
+}
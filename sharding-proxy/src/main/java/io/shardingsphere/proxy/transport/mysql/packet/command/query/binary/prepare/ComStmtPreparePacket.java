@@ -24,12 +24,14 @@ import io.shardingsphere.core.parsing.SQLParsingEngine;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.PreparedStatementRoutingEngine;
 import io.shardingsphere.proxy.config.RuleRegistry;
 import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatement;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
 import lombok.Getter;
@@ -47,16 +49,17 @@ public final class ComStmtPreparePacket implements CommandPacket {
     
     private static final RuleRegistry RULE_REGISTRY = RuleRegistry.getInstance();
     
-    private static final BinaryStatementRegistry PREPARED_STATEMENT_REGISTRY = BinaryStatementRegistry.getInstance();
-    
     @Getter
     private final int sequenceId;
     
     private final String sql;
     
-    public ComStmtPreparePacket(final int sequenceId, final MySQLPacketPayload payload) {
+    private final BinaryStatementRegistry binaryStatementRegistry;
+    
+    public ComStmtPreparePacket(final int sequenceId, final MySQLPacketPayload payload, final BinaryStatementRegistry binaryStatementRegistry) {
         this.sequenceId = sequenceId;
         sql = payload.readStringEOF();
+        this.binaryStatementRegistry = binaryStatementRegistry;
     }
     
     @Override
@@ -68,9 +71,10 @@ public final class ComStmtPreparePacket implements CommandPacket {
     public Optional<CommandResponsePackets> execute() {
         log.debug("COM_STMT_PREPARE received for Sharding-Proxy: {}", sql);
         int currentSequenceId = 0;
-        SQLStatement sqlStatement = new SQLParsingEngine(DatabaseType.MySQL, sql, RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable()).parse(true);
-        CommandResponsePackets result = new CommandResponsePackets(new ComStmtPrepareOKPacket(
-                ++currentSequenceId, PREPARED_STATEMENT_REGISTRY.register(sql, sqlStatement.getParametersIndex()), getNumColumns(sqlStatement), sqlStatement.getParametersIndex(), 0));
+        SQLStatement sqlStatement = new SQLParsingEngine(
+                DatabaseType.MySQL, sql, RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(), RULE_REGISTRY.getParsingResultCache()).parse(true);
+        int statementId = binaryStatementRegistry.register(new BinaryStatement(sql, sqlStatement.getParametersIndex(), createRoutingEngine()));
+        CommandResponsePackets result = new CommandResponsePackets(new ComStmtPrepareOKPacket(++currentSequenceId, statementId, getNumColumns(sqlStatement), sqlStatement.getParametersIndex(), 0));
         for (int i = 0; i < sqlStatement.getParametersIndex(); i++) {
             // TODO add column name
             result.getPackets().add(new ColumnDefinition41Packet(++currentSequenceId, ShardingConstant.LOGIC_SCHEMA_NAME,
@@ -83,6 +87,11 @@ public final class ComStmtPreparePacket implements CommandPacket {
         return Optional.of(result);
     }
     
+    private PreparedStatementRoutingEngine createRoutingEngine() {
+        return RULE_REGISTRY.isMasterSlaveOnly() ? null : new PreparedStatementRoutingEngine(sql, RULE_REGISTRY.getShardingRule(), RULE_REGISTRY.getMetaData().getTable(),
+                DatabaseType.MySQL, RULE_REGISTRY.isShowSQL(), RULE_REGISTRY.getMetaData().getDataSource(), RULE_REGISTRY.getParsingResultCache());
+    }
+    
     private int getNumColumns(final SQLStatement sqlStatement) {
         if (sqlStatement instanceof SelectStatement) {
             return ((SelectStatement) sqlStatement).getItems().size();
@@ -55,6 +55,8 @@ public final class TextResultSetRowPacket implements MySQLPacket {
         for (Object each : data) {
             if (null == each) {
                 payload.writeInt1(NULL);
+            } else if (each instanceof byte[]) {
+                payload.writeBytesLenenc((byte[]) each);
             } else {
                 payload.writeStringLenenc(each.toString());
             }
@@ -19,6 +19,8 @@ package io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query;
 
 import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
+import io.shardingsphere.core.util.SQLUtil;
 import io.shardingsphere.proxy.backend.BackendHandler;
 import io.shardingsphere.proxy.backend.BackendHandlerFactory;
 import io.shardingsphere.proxy.backend.ResultPacket;
@@ -26,21 +28,35 @@ import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.proxy.backend.jdbc.transaction.TransactionEngine;
 import io.shardingsphere.proxy.backend.jdbc.transaction.TransactionEngineFactory;
 import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
+import io.shardingsphere.proxy.transport.mysql.constant.CapabilityFlag;
+import io.shardingsphere.proxy.transport.mysql.constant.StatusFlag;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandPacketType;
 import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryCommandPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
 import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * COM_QUERY command packet.
+ * 
+ * <p>
+ * Multiple statements in one packet are executed one by one if {@code CLIENT_MULTI_STATEMENTS} is negotiated with client, each of them is routed independently.
+ * Result of each statement except the last one is sent with {@code SERVER_MORE_RESULTS_EXISTS} flag.
+ * Statements after failed one are not executed, resources of previous statement are released before executing next one.
+ * </p>
  *
  * @see <a href="https://dev.mysql.com/doc/internals/en/com-query.html">COM_QUERY</a>
+ * @see <a href="https://dev.mysql.com/doc/internals/en/multi-statement.html">Multi-Statement</a>
  *
  * @author zhangliang
  * @author linjiaqi
@@ -52,24 +68,42 @@ public final class ComQueryPacket implements QueryCommandPacket {
     @Getter
     private final int sequenceId;
     
+    private final int connectionId;
+    
     private final String sql;
     
-    private final BackendHandler backendHandler;
+    private final BackendConnection backendConnection;
+    
+    private final Iterator<String> statements;
+    
+    private BackendHandler backendHandler;
     
-    private final TransactionEngine transactionEngine;
+    private int sequenceIdOffset;
     
-    public ComQueryPacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection) {
+    private boolean failed;
+    
+    public ComQueryPacket(final int sequenceId, final int connectionId, final MySQLPacketPayload payload, final BackendConnection backendConnection, final int clientCapabilityFlags) {
         this.sequenceId = sequenceId;
+        this.connectionId = connectionId;
         sql = payload.readStringEOF();
-        backendHandler = BackendHandlerFactory.newTextProtocolInstance(connectionId, sequenceId, sql, backendConnection, DatabaseType.MySQL);
-        transactionEngine = TransactionEngineFactory.create(sql);
+        this.backendConnection = backendConnection;
+        statements = splitStatements(sql, clientCapabilityFlags).iterator();
     }
     
     public ComQueryPacket(final int sequenceId, final String sql) {
         this.sequenceId = sequenceId;
+        connectionId = 0;
         this.sql = sql;
-        backendHandler = null;
-        transactionEngine = null;
+        backendConnection = null;
+        statements = Collections.singletonList(sql).iterator();
+    }
+    
+    private static List<String> splitStatements(final String sql, final int clientCapabilityFlags) {
+        if (0 == (clientCapabilityFlags & CapabilityFlag.CLIENT_MULTI_STATEMENTS.getValue())) {
+            return Collections.singletonList(sql);
+        }
+        List<String> result = SQLUtil.splitStatements(sql, DatabaseType.MySQL);
+        return result.size() > 1 ? result : Collections.singletonList(sql);
     }
     
     @Override
@@ -80,8 +114,60 @@ public final class ComQueryPacket implements QueryCommandPacket {
     
     @Override
     public Optional<CommandResponsePackets> execute() throws SQLException {
-        log.debug("COM_QUERY received for Sharding-Proxy: {}", sql);
-        return Optional.of(transactionEngine.execute() ? new CommandResponsePackets(new OKPacket(1)) : backendHandler.execute());
+        return Optional.of(executeStatement(0));
+    }
+    
+    @Override
+    public boolean hasMoreResults() {
+        return !failed && statements.hasNext();
+    }
+    
+    @Override
+    public Optional<CommandResponsePackets> executeNext(final int sequenceId) throws SQLException {
+        if (!hasMoreResults()) {
+            return Optional.absent();
+        }
+        releasePreviousStatement();
+        return Optional.of(executeStatement(sequenceId));
+    }
+    
+    private void releasePreviousStatement() throws SQLException {
+        boolean masterVisited = MasterVisitedManager.isMasterVisited();
+        backendConnection.release();
+        if (masterVisited) {
+            MasterVisitedManager.setMasterVisited();
+        }
+    }
+    
+    private CommandResponsePackets executeStatement(final int sequenceIdOffset) throws SQLException {
+        String statement = statements.next();
+        log.debug("COM_QUERY received for Sharding-Proxy: {}", statement);
+        this.sequenceIdOffset = sequenceIdOffset;
+        TransactionEngine transactionEngine = TransactionEngineFactory.create(statement, backendConnection);
+        CommandResponsePackets result;
+        if (transactionEngine.execute()) {
+            result = new CommandResponsePackets(new OKPacket(1));
+        } else {
+            backendHandler = BackendHandlerFactory.newTextProtocolInstance(connectionId, sequenceId, statement, backendConnection, DatabaseType.MySQL);
+            result = backendHandler.execute();
+        }
+        failed = result.getHeadPacket() instanceof ErrPacket;
+        return 0 == sequenceIdOffset && !hasMoreResults() ? result : adjustForMultipleStatements(result);
+    }
+    
+    private CommandResponsePackets adjustForMultipleStatements(final CommandResponsePackets responsePackets) {
+        CommandResponsePackets result = new CommandResponsePackets();
+        for (DatabasePacket each : responsePackets.getPackets()) {
+            if (each instanceof OKPacket) {
+                OKPacket okPacket = (OKPacket) each;
+                int statusFlags = hasMoreResults() ? okPacket.getStatusFlags() | StatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue() : okPacket.getStatusFlags();
+                result.getPackets().add(new OKPacket(
+                        sequenceIdOffset + okPacket.getSequenceId(), okPacket.getAffectedRows(), okPacket.getLastInsertId(), statusFlags, okPacket.getWarnings(), okPacket.getInfo()));
+            } else {
+                result.getPackets().add(0 == sequenceIdOffset ? each : new ResequencedPacket(sequenceIdOffset + each.getSequenceId(), (MySQLPacket) each));
+            }
+        }
+        return result;
     }
     
     @Override
@@ -92,6 +178,6 @@ public final class ComQueryPacket implements QueryCommandPacket {
     @Override
     public DatabasePacket getResultValue() throws SQLException {
         ResultPacket resultPacket = backendHandler.getResultValue();
-        return new TextResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getData());
+        return new TextResultSetRowPacket(sequenceIdOffset + resultPacket.getSequenceId(), resultPacket.getData());
     }
 }
@@ -41,24 +41,24 @@ public final class OKPacket implements MySQLPacket {
      */
     public static final int HEADER = 0x00;
     
-    private static final int STATUS_FLAG = StatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue();
-    
     private final int sequenceId;
     
     private final long affectedRows;
     
     private final long lastInsertId;
     
+    private final int statusFlags;
+    
     private final int warnings;
     
     private final String info;
     
     public OKPacket(final int sequenceId) {
-        this(sequenceId, 0L, 0L, 0, "");
+        this(sequenceId, 0L, 0L, StatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue(), 0, "");
     }
     
     public OKPacket(final int sequenceId, final long affectedRows, final long lastInsertId) {
-        this(sequenceId, affectedRows, lastInsertId, 0, "");
+        this(sequenceId, affectedRows, lastInsertId, StatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue(), 0, "");
     }
     
     public OKPacket(final MySQLPacketPayload payload) {
@@ -66,7 +66,7 @@ public final class OKPacket implements MySQLPacket {
         Preconditions.checkArgument(HEADER == payload.readInt1());
         affectedRows = payload.readIntLenenc();
         lastInsertId = payload.readIntLenenc();
-        payload.readInt2();
+        statusFlags = payload.readInt2();
         warnings = payload.readInt2();
         info = payload.readStringEOF();
     }
@@ -76,7 +76,7 @@ public final class OKPacket implements MySQLPacket {
         payload.writeInt1(HEADER);
         payload.writeIntLenenc(affectedRows);
         payload.writeIntLenenc(lastInsertId);
-        payload.writeInt2(STATUS_FLAG);
+        payload.writeInt2(statusFlags);
         payload.writeInt2(warnings);
         payload.writeStringEOF(info);
     }
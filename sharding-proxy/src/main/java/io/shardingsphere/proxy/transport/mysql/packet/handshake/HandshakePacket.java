@@ -41,7 +41,7 @@ public final class HandshakePacket implements MySQLPacket {
     
     private final String serverVersion = ServerInfo.SERVER_VERSION;
     
-    private final int capabilityFlagsLower = CapabilityFlag.calculateHandshakeCapabilityFlagsLower();
+    private final int capabilityFlagsLower;
     
     private final int characterSet = ServerInfo.CHARSET;
     
@@ -56,9 +56,14 @@ public final class HandshakePacket implements MySQLPacket {
     private final AuthPluginData authPluginData;
     
     public HandshakePacket(final int connectionId, final AuthPluginData authPluginData) {
+        this(connectionId, authPluginData, CapabilityFlag.calculateHandshakeCapabilityFlagsLower());
+    }
+    
+    public HandshakePacket(final int connectionId, final AuthPluginData authPluginData, final int capabilityFlagsLower) {
         sequenceId = 0;
         this.connectionId = connectionId;
         this.authPluginData = authPluginData;
+        this.capabilityFlagsLower = capabilityFlagsLower;
     }
     
     public HandshakePacket(final MySQLPacketPayload payload) {
@@ -67,7 +72,7 @@ public final class HandshakePacket implements MySQLPacket {
         payload.readStringNul();
         connectionId = payload.readInt4();
         final byte[] authPluginDataPart1 = payload.readStringNul().getBytes();
-        payload.readInt2();
+        capabilityFlagsLower = payload.readInt2();
         payload.readInt1();
         Preconditions.checkArgument(statusFlag.getValue() == payload.readInt2());
         payload.readInt2();
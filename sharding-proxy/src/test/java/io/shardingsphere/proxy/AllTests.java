@@ -17,6 +17,17 @@
 
 package io.shardingsphere.proxy;
 
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnectionTest;
+import io.shardingsphere.proxy.backend.jdbc.transaction.DefaultTransactionEngineTest;
+import io.shardingsphere.proxy.backend.netty.future.SynchronizedFutureTest;
+import io.shardingsphere.proxy.frontend.common.executor.SerialExecutorTest;
+import io.shardingsphere.proxy.frontend.common.executor.XASerialExecutorTest;
+import io.shardingsphere.proxy.frontend.mysql.MySQLFrontendHandlerTest;
+import io.shardingsphere.proxy.transport.mysql.codec.MySQLCompressionCodecTest;
+import io.shardingsphere.proxy.transport.mysql.codec.MySQLPacketCodecTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistryTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.fetch.ComStmtFetchPacketTest;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.TextResultSetRowPacketTest;
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.AuthPluginDataTest;
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.AuthorityHandlerTest;
 import io.shardingsphere.proxy.transport.mysql.packet.handshake.ConnectionIdGeneratorTest;
@@ -31,10 +42,21 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
         AuthorityHandlerTest.class,
         AuthPluginDataTest.class,
+        BackendConnectionTest.class,
+        BinaryStatementRegistryTest.class,
+        ComStmtFetchPacketTest.class,
         ConnectionIdGeneratorTest.class,
+        DefaultTransactionEngineTest.class,
         HandshakePacketTest.class,
         HandshakeResponse41PacketTest.class,
-        RandomGeneratorTest.class
+        MySQLCompressionCodecTest.class,
+        MySQLFrontendHandlerTest.class,
+        MySQLPacketCodecTest.class,
+        RandomGeneratorTest.class,
+        SerialExecutorTest.class,
+        SynchronizedFutureTest.class,
+        TextResultSetRowPacketTest.class,
+        XASerialExecutorTest.class
 })
 public class AllTests {
 }
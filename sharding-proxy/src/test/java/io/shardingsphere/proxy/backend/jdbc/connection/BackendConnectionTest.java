@@ -0,0 +1,265 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.connection;
+
+import io.shardingsphere.core.constant.TransactionType;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.rule.DataSourceParameter;
+import io.shardingsphere.proxy.backend.jdbc.datasource.JDBCBackendDataSource;
+import io.shardingsphere.proxy.config.RuleRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class BackendConnectionTest {
+    
+    private final BackendConnection backendConnection = new BackendConnection();
+    
+    private final Connection connection0 = mock(Connection.class);
+    
+    private final Connection connection1 = mock(Connection.class);
+    
+    @Before
+    public void setUp() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        JDBCBackendDataSource backendDataSource = new JDBCBackendDataSource(TransactionType.NONE, Collections.<String, DataSourceParameter>emptyMap());
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection0, connection1);
+        backendDataSource.getDataSourceMap().put("ds_0", dataSource);
+        Field field = RuleRegistry.class.getDeclaredField("backendDataSource");
+        field.setAccessible(true);
+        field.set(RuleRegistry.getInstance(), backendDataSource);
+    }
+    
+    @Test
+    public void assertGetConnectionInAutoCommit() throws SQLException {
+        assertThat(backendConnection.getConnection("ds_0"), is(connection0));
+        assertThat(backendConnection.getConnection("ds_0"), is(connection1));
+        verify(connection0, never()).setAutoCommit(false);
+    }
+    
+    @Test
+    public void assertReleaseInAutoCommit() throws SQLException {
+        backendConnection.getConnection("ds_0");
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        backendConnection.add(statement);
+        backendConnection.add(resultSet);
+        backendConnection.release();
+        verify(resultSet).close();
+        verify(statement).close();
+        verify(connection0).close();
+    }
+    
+    @Test
+    public void assertReleaseMergedResult() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        backendConnection.add(mergedResult);
+        backendConnection.release();
+        verify(mergedResult).close();
+        backendConnection.release();
+        verify(mergedResult).close();
+    }
+    
+    @Test
+    public void assertCloseMergedResult() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        backendConnection.begin();
+        backendConnection.getConnection("ds_0");
+        backendConnection.add(mergedResult);
+        backendConnection.close();
+        verify(mergedResult).close();
+    }
+    
+    @Test
+    public void assertCommitWithMergedResult() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        backendConnection.begin();
+        backendConnection.getConnection("ds_0");
+        backendConnection.add(mergedResult);
+        backendConnection.commit();
+        verify(mergedResult).close();
+    }
+    
+    @Test
+    public void assertDetachInAutoCommit() throws SQLException {
+        backendConnection.getConnection("ds_0");
+        Statement statement = mock(Statement.class);
+        MergedResult mergedResult = mock(MergedResult.class);
+        backendConnection.add(statement);
+        backendConnection.add(mergedResult);
+        BackendResources actual = backendConnection.detach();
+        backendConnection.release();
+        verify(mergedResult, never()).close();
+        verify(statement, never()).close();
+        verify(connection0, never()).close();
+        actual.close();
+        verify(mergedResult).close();
+        verify(statement).close();
+        verify(connection0).close();
+    }
+    
+    @Test
+    public void assertDetachInTransaction() throws SQLException {
+        backendConnection.begin();
+        backendConnection.getConnection("ds_0");
+        Statement statement = mock(Statement.class);
+        backendConnection.add(statement);
+        BackendResources actual = backendConnection.detach();
+        backendConnection.release();
+        verify(statement, never()).close();
+        actual.close();
+        verify(statement).close();
+        verify(connection0, never()).close();
+        assertThat(backendConnection.getConnection("ds_0"), is(connection0));
+    }
+    
+    @Test
+    public void assertGetConnectionInTransaction() throws SQLException {
+        backendConnection.begin();
+        assertTrue(backendConnection.isInTransaction());
+        assertThat(backendConnection.getConnection("ds_0"), is(connection0));
+        assertThat(backendConnection.getConnection("ds_0"), is(connection0));
+        verify(connection0).setAutoCommit(false);
+    }
+    
+    @Test
+    public void assertReleaseInTransaction() throws SQLException {
+        backendConnection.begin();
+        backendConnection.getConnection("ds_0");
+        Statement statement = mock(Statement.class);
+        backendConnection.add(statement);
+        backendConnection.release();
+        verify(statement).close();
+        verify(connection0, never()).close();
+        assertThat(backendConnection.getConnection("ds_0"), is(connection0));
+    }
+    
+    @Test
+    public void assertCommit() throws SQLException {
+        backendConnection.begin();
+        backendConnection.getConnection("ds_0");
+        backendConnection.commit();
+        verify(connection0).commit();
+        verify(connection0).setAutoCommit(true);
+        verify(connection0).close();
+        assertFalse(backendConnection.isInTransaction());
+        assertThat(backendConnection.getConnection("ds_0"), not(connection0));
+    }
+    
+    @Test
+    public void assertRollback() throws SQLException {
+        backendConnection.begin();
+        backendConnection.getConnection("ds_0");
+        backendConnection.rollback();
+        verify(connection0).rollback();
+        verify(connection0, never()).commit();
+        verify(connection0).setAutoCommit(true);
+        verify(connection0).close();
+        assertFalse(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertCloseInTransaction() throws SQLException {
+        backendConnection.begin();
+        backendConnection.getConnection("ds_0");
+        backendConnection.close();
+        verify(connection0).rollback();
+        verify(connection0, never()).commit();
+        verify(connection0).close();
+        assertFalse(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertCloseInAutoCommit() throws SQLException {
+        backendConnection.getConnection("ds_0");
+        backendConnection.close();
+        verify(connection0, never()).rollback();
+        verify(connection0).close();
+    }
+    
+    @Test
+    public void assertCommitAndRollbackInManualCommit() throws SQLException {
+        backendConnection.setAutoCommit(false);
+        assertTrue(backendConnection.isInTransaction());
+        assertThat(backendConnection.getConnection("ds_0"), is(connection0));
+        backendConnection.commit();
+        verify(connection0).commit();
+        verify(connection0).close();
+        assertTrue(backendConnection.isInTransaction());
+        assertThat(backendConnection.getConnection("ds_0"), is(connection1));
+        verify(connection1).setAutoCommit(false);
+        backendConnection.rollback();
+        verify(connection1).rollback();
+        verify(connection1, never()).commit();
+        verify(connection1).close();
+        assertFalse(backendConnection.isAutoCommit());
+        assertTrue(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertSetAutoCommitOnInManualCommit() throws SQLException {
+        backendConnection.setAutoCommit(false);
+        backendConnection.getConnection("ds_0");
+        backendConnection.setAutoCommit(true);
+        verify(connection0).commit();
+        verify(connection0).close();
+        assertTrue(backendConnection.isAutoCommit());
+        assertFalse(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertCloseInManualCommit() throws SQLException {
+        backendConnection.setAutoCommit(false);
+        backendConnection.getConnection("ds_0");
+        backendConnection.close();
+        verify(connection0).rollback();
+        assertTrue(backendConnection.isAutoCommit());
+        assertFalse(backendConnection.isInTransaction());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertCommitWithException() throws SQLException {
+        backendConnection.begin();
+        backendConnection.getConnection("ds_0");
+        doThrow(new SQLException()).when(connection0).commit();
+        try {
+            backendConnection.commit();
+        } finally {
+            verify(connection0).close();
+            assertFalse(backendConnection.isInTransaction());
+        }
+    }
+}
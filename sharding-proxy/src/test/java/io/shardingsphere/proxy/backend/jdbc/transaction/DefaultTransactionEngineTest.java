@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.jdbc.transaction;
+
+import io.shardingsphere.core.constant.TransactionType;
+import io.shardingsphere.core.rule.DataSourceParameter;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
+import io.shardingsphere.proxy.backend.jdbc.datasource.JDBCBackendDataSource;
+import io.shardingsphere.proxy.config.RuleRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class DefaultTransactionEngineTest {
+    
+    private final BackendConnection backendConnection = new BackendConnection();
+    
+    private final DataSource dataSource = mock(DataSource.class);
+    
+    private final Connection connection = mock(Connection.class);
+    
+    @Before
+    public void setUp() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        JDBCBackendDataSource backendDataSource = new JDBCBackendDataSource(TransactionType.NONE, Collections.<String, DataSourceParameter>emptyMap());
+        when(dataSource.getConnection()).thenReturn(connection);
+        backendDataSource.getDataSourceMap().put("ds_0", dataSource);
+        Field field = RuleRegistry.class.getDeclaredField("backendDataSource");
+        field.setAccessible(true);
+        field.set(RuleRegistry.getInstance(), backendDataSource);
+    }
+    
+    @Test
+    public void assertExecuteBegin() throws SQLException {
+        assertTrue(new DefaultTransactionEngine("BEGIN", backendConnection).execute());
+        assertTrue(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertExecuteStartTransaction() throws SQLException {
+        assertTrue(new DefaultTransactionEngine("start transaction", backendConnection).execute());
+        assertTrue(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertExecuteSetAutoCommitOff() throws SQLException {
+        assertTrue(new DefaultTransactionEngine("SET AUTOCOMMIT=0", backendConnection).execute());
+        assertFalse(backendConnection.isAutoCommit());
+        assertTrue(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertExecuteBeginInTransaction() throws SQLException {
+        backendConnection.begin();
+        backendConnection.getConnection("ds_0");
+        assertTrue(new DefaultTransactionEngine("BEGIN", backendConnection).execute());
+        verify(connection).commit();
+        assertTrue(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertExecuteCommit() throws SQLException {
+        backendConnection.begin();
+        backendConnection.getConnection("ds_0");
+        assertTrue(new DefaultTransactionEngine("COMMIT", backendConnection).execute());
+        verify(connection).commit();
+        verify(connection).setAutoCommit(true);
+        assertFalse(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertExecuteSetAutoCommitOn() throws SQLException {
+        new DefaultTransactionEngine("SET AUTOCOMMIT=0", backendConnection).execute();
+        backendConnection.getConnection("ds_0");
+        assertTrue(new DefaultTransactionEngine("SET AUTOCOMMIT=1", backendConnection).execute());
+        verify(connection).commit();
+        verify(connection).setAutoCommit(true);
+        assertTrue(backendConnection.isAutoCommit());
+        assertFalse(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertExecuteSetAutoCommitOnInAutoCommit() throws SQLException {
+        assertTrue(new DefaultTransactionEngine("set autocommit = 1", backendConnection).execute());
+        assertTrue(backendConnection.isAutoCommit());
+        assertFalse(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertExecuteInManualCommit() throws SQLException {
+        Connection nextConnection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection, nextConnection);
+        assertTrue(new DefaultTransactionEngine("set autocommit=0", backendConnection).execute());
+        backendConnection.getConnection("ds_0");
+        assertTrue(new DefaultTransactionEngine("COMMIT", backendConnection).execute());
+        verify(connection).commit();
+        assertFalse(backendConnection.isAutoCommit());
+        assertTrue(backendConnection.isInTransaction());
+        backendConnection.getConnection("ds_0");
+        verify(nextConnection).setAutoCommit(false);
+        assertTrue(new DefaultTransactionEngine("ROLLBACK", backendConnection).execute());
+        verify(nextConnection).rollback();
+        verify(nextConnection, never()).commit();
+        assertFalse(backendConnection.isAutoCommit());
+        assertTrue(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertExecuteRollback() throws SQLException {
+        backendConnection.begin();
+        backendConnection.getConnection("ds_0");
+        assertTrue(new DefaultTransactionEngine("ROLLBACK", backendConnection).execute());
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        assertFalse(backendConnection.isInTransaction());
+    }
+    
+    @Test
+    public void assertExecuteNotTCL() throws SQLException {
+        assertFalse(new DefaultTransactionEngine("SELECT 1", backendConnection).execute());
+        assertFalse(backendConnection.isInTransaction());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.backend.netty.future;
+
+import io.shardingsphere.core.merger.QueryResult;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SynchronizedFutureTest {
+    
+    @Test
+    public void assertGetWithConcurrentResponses() throws InterruptedException, TimeoutException {
+        int resultSize = 1000;
+        final SynchronizedFuture synchronizedFuture = new SynchronizedFuture(resultSize);
+        final QueryResult queryResult = mock(QueryResult.class);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < resultSize; i++) {
+                executorService.submit(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        try {
+                            startLatch.await();
+                        } catch (final InterruptedException ignore) {
+                        }
+                        synchronizedFuture.setResponse(queryResult);
+                    }
+                });
+            }
+            assertFalse(synchronizedFuture.isDone());
+            startLatch.countDown();
+            assertThat(synchronizedFuture.get(10, TimeUnit.SECONDS).size(), is(resultSize));
+            assertTrue(synchronizedFuture.isDone());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    @Test(expected = TimeoutException.class)
+    public void assertGetWithTimeout() throws InterruptedException, TimeoutException {
+        SynchronizedFuture synchronizedFuture = new SynchronizedFuture(2);
+        synchronizedFuture.setResponse(mock(QueryResult.class));
+        synchronizedFuture.get(10, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.frontend.common.executor;
+
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SerialExecutorTest {
+    
+    @Test
+    public void assertExecuteInSubmissionOrder() throws InterruptedException {
+        ExecutorService sharedExecutorService = Executors.newFixedThreadPool(4);
+        try {
+            SerialExecutor serialExecutor = new SerialExecutor(sharedExecutorService);
+            final List<Integer> actual = new LinkedList<>();
+            final CountDownLatch latch = new CountDownLatch(100);
+            for (int i = 0; i < 100; i++) {
+                final int index = i;
+                serialExecutor.execute(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        actual.add(index);
+                        latch.countDown();
+                    }
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 100; i++) {
+                assertThat(actual.get(i), is(i));
+            }
+        } finally {
+            sharedExecutorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertGetQueueSize() {
+        ManualExecutor manualExecutor = new ManualExecutor();
+        SerialExecutor serialExecutor = new SerialExecutor(manualExecutor);
+        serialExecutor.execute(new NoopTask());
+        serialExecutor.execute(new NoopTask());
+        serialExecutor.execute(new NoopTask());
+        assertThat(serialExecutor.getQueueSize(), is(3));
+        assertThat(manualExecutor.tasks.size(), is(1));
+        manualExecutor.runNext();
+        assertThat(serialExecutor.getQueueSize(), is(2));
+        assertThat(manualExecutor.tasks.size(), is(1));
+        manualExecutor.runNext();
+        manualExecutor.runNext();
+        assertThat(serialExecutor.getQueueSize(), is(0));
+        assertTrue(manualExecutor.tasks.isEmpty());
+    }
+    
+    private static final class ManualExecutor implements Executor {
+        
+        private final Queue<Runnable> tasks = new LinkedList<>();
+        
+        @Override
+        public void execute(final Runnable command) {
+            tasks.offer(command);
+        }
+        
+        private void runNext() {
+            tasks.poll().run();
+        }
+    }
+    
+    private static final class NoopTask implements Runnable {
+        
+        @Override
+        public void run() {
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.frontend.common.executor;
+
+import io.shardingsphere.core.transaction.event.TransactionEvent;
+import io.shardingsphere.core.transaction.spi.TransactionManager;
+import io.shardingsphere.proxy.config.RuleRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import javax.transaction.Status;
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class XASerialExecutorTest {
+    
+    private final AtomicInteger status = new AtomicInteger(Status.STATUS_NO_TRANSACTION);
+    
+    private final TransactionManager transactionManager = mock(TransactionManager.class);
+    
+    private Object originalTransactionManager;
+    
+    @Before
+    public void setUp() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        when(transactionManager.getStatus()).thenAnswer(new Answer<Integer>() {
+            
+            @Override
+            public Integer answer(final InvocationOnMock invocation) {
+                return status.get();
+            }
+        });
+        Field field = RuleRegistry.class.getDeclaredField("transactionManager");
+        field.setAccessible(true);
+        originalTransactionManager = field.get(RuleRegistry.getInstance());
+        field.set(RuleRegistry.getInstance(), transactionManager);
+    }
+    
+    @After
+    public void tearDown() throws NoSuchFieldException, IllegalAccessException {
+        Field field = RuleRegistry.class.getDeclaredField("transactionManager");
+        field.setAccessible(true);
+        field.set(RuleRegistry.getInstance(), originalTransactionManager);
+    }
+    
+    @Test
+    public void assertExecuteWithoutXATransaction() throws InterruptedException {
+        DedicatedExecutorPool dedicatedExecutorPool = new DedicatedExecutorPool(1);
+        XASerialExecutor first = new XASerialExecutor(dedicatedExecutorPool);
+        XASerialExecutor second = new XASerialExecutor(dedicatedExecutorPool);
+        CountDownLatch latch = new CountDownLatch(2);
+        first.execute(new CountDownTask(latch, new AtomicReference<Thread>()));
+        second.execute(new CountDownTask(latch, new AtomicReference<Thread>()));
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(dedicatedExecutorPool.size(), is(1));
+    }
+    
+    @Test
+    public void assertPinThreadWhileXATransactionActive() throws InterruptedException {
+        DedicatedExecutorPool dedicatedExecutorPool = new DedicatedExecutorPool(1);
+        XASerialExecutor first = new XASerialExecutor(dedicatedExecutorPool);
+        XASerialExecutor second = new XASerialExecutor(dedicatedExecutorPool);
+        status.set(Status.STATUS_ACTIVE);
+        AtomicReference<Thread> firstThread = new AtomicReference<>();
+        CountDownLatch firstLatch = new CountDownLatch(1);
+        first.execute(new CountDownTask(firstLatch, firstThread));
+        assertTrue(firstLatch.await(10, TimeUnit.SECONDS));
+        AtomicReference<Thread> secondThread = new AtomicReference<>();
+        CountDownLatch secondLatch = new CountDownLatch(1);
+        second.execute(new CountDownTask(secondLatch, secondThread));
+        assertFalse(secondLatch.await(200, TimeUnit.MILLISECONDS));
+        status.set(Status.STATUS_NO_TRANSACTION);
+        first.execute(new CountDownTask(new CountDownLatch(1), new AtomicReference<Thread>()));
+        assertTrue(secondLatch.await(10, TimeUnit.SECONDS));
+        assertThat(secondThread.get(), is(firstThread.get()));
+    }
+    
+    @Test
+    public void assertCloseWithXATransactionActive() throws SQLException, InterruptedException {
+        DedicatedExecutorPool dedicatedExecutorPool = new DedicatedExecutorPool(1);
+        XASerialExecutor first = new XASerialExecutor(dedicatedExecutorPool);
+        XASerialExecutor second = new XASerialExecutor(dedicatedExecutorPool);
+        status.set(Status.STATUS_ACTIVE);
+        first.execute(new CountDownTask(new CountDownLatch(1), new AtomicReference<Thread>()));
+        first.close();
+        verify(transactionManager, timeout(10000)).rollback(any(TransactionEvent.class));
+        CountDownLatch latch = new CountDownLatch(1);
+        second.execute(new CountDownTask(latch, new AtomicReference<Thread>()));
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CountDownTask implements Runnable {
+        
+        private final CountDownLatch latch;
+        
+        private final AtomicReference<Thread> thread;
+        
+        @Override
+        public void run() {
+            thread.set(Thread.currentThread());
+            latch.countDown();
+        }
+    }
+}
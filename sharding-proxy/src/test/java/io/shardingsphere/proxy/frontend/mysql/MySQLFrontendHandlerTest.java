@@ -0,0 +1,271 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.frontend.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelId;
+import io.netty.channel.EventLoopGroup;
+import io.shardingsphere.core.constant.TransactionType;
+import io.shardingsphere.core.rule.DataSourceParameter;
+import io.shardingsphere.core.rule.ProxyAuthority;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
+import io.shardingsphere.proxy.backend.jdbc.datasource.JDBCBackendDataSource;
+import io.shardingsphere.proxy.config.CompressionConfiguration;
+import io.shardingsphere.proxy.config.RuleRegistry;
+import io.shardingsphere.proxy.frontend.common.executor.ChannelThreadExecutorGroup;
+import io.shardingsphere.proxy.runtime.ChannelRegistry;
+import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
+import io.shardingsphere.proxy.transport.mysql.constant.CapabilityFlag;
+import io.shardingsphere.proxy.transport.mysql.constant.StatusFlag;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.QueryCommandPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.OKPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.handshake.HandshakeResponse41Packet;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MySQLFrontendHandlerTest {
+    
+    private final Connection connection = mock(Connection.class);
+    
+    private final ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+    
+    private final Channel channel = mock(Channel.class);
+    
+    @Before
+    public void setUp() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        JDBCBackendDataSource backendDataSource = new JDBCBackendDataSource(TransactionType.NONE, Collections.<String, DataSourceParameter>emptyMap());
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        backendDataSource.getDataSourceMap().put("ds_0", dataSource);
+        setRuleRegistryField("backendDataSource", backendDataSource);
+        setRuleRegistryField("transactionType", TransactionType.NONE);
+        setRuleRegistryField("compressionConfig", new CompressionConfiguration(false, false, 0));
+        ProxyAuthority proxyAuthority = new ProxyAuthority();
+        proxyAuthority.setUsername("root");
+        setRuleRegistryField("proxyAuthority", proxyAuthority);
+        ChannelId channelId = mock(ChannelId.class);
+        when(channelId.asShortText()).thenReturn("channel_0");
+        ChannelRegistry.getInstance().putConnectionId("channel_0", 1);
+        when(channel.id()).thenReturn(channelId);
+        when(context.channel()).thenReturn(channel);
+        ChannelThreadExecutorGroup.getInstance().register(channelId, new Executor() {
+            
+            @Override
+            public void execute(final Runnable command) {
+                command.run();
+            }
+        });
+    }
+    
+    private void setRuleRegistryField(final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
+        Field field = RuleRegistry.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(RuleRegistry.getInstance(), value);
+    }
+    
+    @Test
+    public void assertRollbackTransactionWhenChannelInactive() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        MySQLFrontendHandler frontendHandler = new MySQLFrontendHandler(mock(EventLoopGroup.class));
+        BackendConnection backendConnection = getBackendConnection(frontendHandler);
+        backendConnection.begin();
+        backendConnection.getConnection("ds_0");
+        frontendHandler.channelInactive(context);
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).close();
+        assertFalse(backendConnection.isInTransaction());
+        verify(context).fireChannelInactive();
+    }
+    
+    @Test
+    public void assertExecuteMultiStatementsWhenNegotiated() throws NoSuchFieldException, IllegalAccessException {
+        MySQLFrontendHandler frontendHandler = new MySQLFrontendHandler(mock(EventLoopGroup.class));
+        frontendHandler.channelRead(context, createHandshakeResponse(CapabilityFlag.CLIENT_MULTI_STATEMENTS.getValue() | CapabilityFlag.CLIENT_MULTI_RESULTS.getValue()));
+        frontendHandler.channelRead(context, createComQuery("BEGIN; BEGIN"));
+        ArgumentCaptor<Object> packetCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(2)).write(packetCaptor.capture());
+        List<Object> actual = packetCaptor.getAllValues();
+        assertThat(((OKPacket) actual.get(0)).getSequenceId(), is(1));
+        assertTrue(isMoreResultsExists((OKPacket) actual.get(0)));
+        assertThat(((OKPacket) actual.get(1)).getSequenceId(), is(2));
+        assertFalse(isMoreResultsExists((OKPacket) actual.get(1)));
+        assertTrue(getBackendConnection(frontendHandler).isInTransaction());
+    }
+    
+    @Test
+    public void assertExecuteMultiStatementsAsSingleStatementWhenNotNegotiated() throws NoSuchFieldException, IllegalAccessException {
+        MySQLFrontendHandler frontendHandler = new MySQLFrontendHandler(mock(EventLoopGroup.class));
+        frontendHandler.channelRead(context, createHandshakeResponse(0));
+        frontendHandler.channelRead(context, createComQuery("BEGIN; BEGIN"));
+        verify(context, never()).write(any());
+        assertFalse(getBackendConnection(frontendHandler).isInTransaction());
+    }
+    
+    @Test
+    public void assertWriteRowsWithFlushBatching() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(true);
+        QueryCommandPacket queryCommandPacket = createQueryCommandPacket(300);
+        createCommandExecutor(new MySQLFrontendHandler(mock(EventLoopGroup.class)), queryCommandPacket).run();
+        verify(queryCommandPacket, times(301)).next();
+        ArgumentCaptor<Object> packetCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(301)).write(packetCaptor.capture());
+        assertThat(packetCaptor.getValue(), instanceOf(EofPacket.class));
+        verify(context, times(3)).flush();
+    }
+    
+    @Test
+    public void assertSuspendWhenChannelNotWritable() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(true, false);
+        MySQLFrontendHandler frontendHandler = new MySQLFrontendHandler(mock(EventLoopGroup.class));
+        QueryCommandPacket queryCommandPacket = createQueryCommandPacket(300);
+        Runnable commandExecutor = createCommandExecutor(frontendHandler, queryCommandPacket);
+        commandExecutor.run();
+        verify(queryCommandPacket, times(2)).next();
+        verify(context, times(2)).write(any());
+        verify(context).flush();
+        assertThat(getSuspendedCommandExecutor(frontendHandler).get(), is((Object) commandExecutor));
+    }
+    
+    @Test
+    public void assertResumeWhenChannelWritabilityChanged() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(true, false);
+        MySQLFrontendHandler frontendHandler = new MySQLFrontendHandler(mock(EventLoopGroup.class));
+        QueryCommandPacket queryCommandPacket = createQueryCommandPacket(300);
+        createCommandExecutor(frontendHandler, queryCommandPacket).run();
+        when(channel.isWritable()).thenReturn(true);
+        frontendHandler.channelWritabilityChanged(context);
+        verify(queryCommandPacket, times(301)).next();
+        ArgumentCaptor<Object> packetCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(301)).write(packetCaptor.capture());
+        assertThat(packetCaptor.getValue(), instanceOf(EofPacket.class));
+        verify(context, times(4)).flush();
+        assertThat(getSuspendedCommandExecutor(frontendHandler).get(), nullValue());
+    }
+    
+    @Test
+    public void assertNotSuspendWhenChannelBecomesWritableDuringSuspending() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(true, false, true);
+        MySQLFrontendHandler frontendHandler = new MySQLFrontendHandler(mock(EventLoopGroup.class));
+        QueryCommandPacket queryCommandPacket = createQueryCommandPacket(300);
+        createCommandExecutor(frontendHandler, queryCommandPacket).run();
+        verify(queryCommandPacket, times(301)).next();
+        verify(context, times(301)).write(any());
+        assertThat(getSuspendedCommandExecutor(frontendHandler).get(), nullValue());
+    }
+    
+    @Test
+    public void assertNotSuspendWhenChannelClosedDuringSuspending() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        when(channel.isActive()).thenReturn(true, false);
+        when(channel.isWritable()).thenReturn(false);
+        MySQLFrontendHandler frontendHandler = new MySQLFrontendHandler(mock(EventLoopGroup.class));
+        QueryCommandPacket queryCommandPacket = createQueryCommandPacket(300);
+        createCommandExecutor(frontendHandler, queryCommandPacket).run();
+        verify(queryCommandPacket).next();
+        verify(context, times(2)).write(any());
+        assertThat(getSuspendedCommandExecutor(frontendHandler).get(), nullValue());
+    }
+    
+    private QueryCommandPacket createQueryCommandPacket(final int rowCount) throws SQLException {
+        QueryCommandPacket result = mock(QueryCommandPacket.class);
+        final AtomicInteger remainingRowCount = new AtomicInteger(rowCount);
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return remainingRowCount.getAndDecrement() > 0;
+            }
+        });
+        when(result.getResultValue()).thenReturn(mock(DatabasePacket.class));
+        return result;
+    }
+    
+    private Runnable createCommandExecutor(final MySQLFrontendHandler frontendHandler, final QueryCommandPacket queryCommandPacket) throws NoSuchFieldException, IllegalAccessException {
+        MySQLFrontendHandler.CommandExecutor result = frontendHandler.new CommandExecutor(context, Unpooled.buffer());
+        Field field = MySQLFrontendHandler.CommandExecutor.class.getDeclaredField("queryCommandPacket");
+        field.setAccessible(true);
+        field.set(result, queryCommandPacket);
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private AtomicReference<Object> getSuspendedCommandExecutor(final MySQLFrontendHandler frontendHandler) throws NoSuchFieldException, IllegalAccessException {
+        Field field = MySQLFrontendHandler.class.getDeclaredField("suspendedCommandExecutor");
+        field.setAccessible(true);
+        return (AtomicReference<Object>) field.get(frontendHandler);
+    }
+    
+    private ByteBuf createHandshakeResponse(final int capabilityFlags) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer());
+        payload.writeInt1(1);
+        new HandshakeResponse41Packet(1, CapabilityFlag.CLIENT_PROTOCOL_41.getValue() | capabilityFlags, 0, 0, "root", new byte[0], null).write(payload);
+        return payload.getByteBuf();
+    }
+    
+    private ByteBuf createComQuery(final String sql) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer());
+        payload.writeInt1(0);
+        new ComQueryPacket(0, sql).write(payload);
+        return payload.getByteBuf();
+    }
+    
+    private boolean isMoreResultsExists(final OKPacket okPacket) {
+        return 0 != (okPacket.getStatusFlags() & StatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue());
+    }
+    
+    private BackendConnection getBackendConnection(final MySQLFrontendHandler frontendHandler) throws NoSuchFieldException, IllegalAccessException {
+        Field field = MySQLFrontendHandler.class.getDeclaredField("backendConnection");
+        field.setAccessible(true);
+        return (BackendConnection) field.get(frontendHandler);
+    }
+}
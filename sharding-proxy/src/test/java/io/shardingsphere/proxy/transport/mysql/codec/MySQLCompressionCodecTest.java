@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.codec;
+
+import com.google.common.base.Strings;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLCompressionCodecTest {
+    
+    private static final int THRESHOLD = 50;
+    
+    @Test
+    public void assertEncodeWithoutCompression() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(THRESHOLD, false));
+        channel.writeOutbound(Unpooled.copiedBuffer("SELECT 1", StandardCharsets.UTF_8));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readUnsignedMediumLE(), is(8));
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(0));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is("SELECT 1"));
+        actual.release();
+    }
+    
+    @Test
+    public void assertEncodeWithCompression() {
+        String payload = Strings.repeat("SELECT * FROM t_order; ", 100);
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(THRESHOLD, false));
+        channel.writeOutbound(Unpooled.copiedBuffer(payload, StandardCharsets.UTF_8));
+        ByteBuf actual = channel.readOutbound();
+        int compressedLength = actual.readUnsignedMediumLE();
+        assertTrue(compressedLength < payload.length());
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(payload.length()));
+        assertThat(actual.readableBytes(), is(compressedLength));
+        actual.release();
+    }
+    
+    @Test
+    public void assertDecodeEncodedPackets() {
+        String payload = Strings.repeat("SELECT * FROM t_order; ", 100);
+        EmbeddedChannel clientChannel = new EmbeddedChannel(new MySQLCompressionCodec(THRESHOLD, true));
+        clientChannel.write(Unpooled.copiedBuffer(payload, StandardCharsets.UTF_8));
+        clientChannel.write(Unpooled.copiedBuffer("SELECT 1", StandardCharsets.UTF_8));
+        clientChannel.flush();
+        ByteBuf compressedPackets = clientChannel.readOutbound();
+        EmbeddedChannel serverChannel = new EmbeddedChannel(new MySQLCompressionCodec(THRESHOLD, false));
+        serverChannel.writeInbound(compressedPackets.readRetainedSlice(10), compressedPackets);
+        ByteBuf actual = serverChannel.readInbound();
+        assertThat(actual.toString(StandardCharsets.UTF_8), is(payload + "SELECT 1"));
+        actual.release();
+    }
+    
+    @Test
+    public void assertContinueSequenceIdOnServerSide() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(THRESHOLD, false));
+        ByteBuf request = Unpooled.buffer();
+        request.writeMediumLE(1);
+        request.writeByte(0);
+        request.writeMediumLE(0);
+        request.writeByte(0x0e);
+        channel.writeInbound(request);
+        ByteBuf command = channel.readInbound();
+        assertThat(command.readUnsignedByte(), is((short) 0x0e));
+        command.release();
+        channel.writeOutbound(Unpooled.copiedBuffer("OK", StandardCharsets.UTF_8));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.getUnsignedByte(3), is((short) 1));
+        actual.release();
+    }
+}
@@ -20,13 +20,19 @@ package io.shardingsphere.proxy.transport.mysql.codec;
 import com.google.common.collect.Lists;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
 import io.shardingsphere.proxy.transport.mysql.packet.command.admin.quit.ComQuitPacket;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -69,4 +75,60 @@ public class MySQLPacketCodecTest {
         when(byteBuf.writeBytes(ArgumentMatchers.<ByteBuf>any())).thenReturn(byteBuf);
         mySQLPacketCodec.doEncode(channelHandlerContext, message, byteBuf);
     }
+
+    @Test
+    public void assertEncodeAndSplitLargePacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLPacketCodec());
+        channel.writeOutbound(new FixedLengthPacket(1, 0xffffff + 10), new FixedLengthPacket(2, 5));
+        ByteBuf actual = Unpooled.buffer();
+        for (ByteBuf each = channel.readOutbound(); null != each; each = channel.readOutbound()) {
+            actual.writeBytes(each);
+            each.release();
+        }
+        assertThat(actual.readUnsignedMediumLE(), is(0xffffff));
+        assertThat(actual.readUnsignedByte(), is((short) 1));
+        actual.skipBytes(0xffffff);
+        assertThat(actual.readUnsignedMediumLE(), is(10));
+        assertThat(actual.readUnsignedByte(), is((short) 2));
+        actual.skipBytes(10);
+        assertThat(actual.readUnsignedMediumLE(), is(5));
+        assertThat(actual.readUnsignedByte(), is((short) 3));
+        assertThat(actual.readableBytes(), is(5));
+    }
+
+    @Test
+    public void assertDecodeAndReassembleSplitPackets() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLPacketCodec());
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(0xffffff);
+        in.writeByte(0);
+        in.writeZero(0xffffff);
+        in.writeMediumLE(0);
+        in.writeByte(1);
+        channel.writeInbound(in);
+        ByteBuf actual = channel.readInbound();
+        assertThat(actual.readableBytes(), is(0xffffff + 1));
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        actual.release();
+        channel.writeOutbound(new FixedLengthPacket(1, 1));
+        ByteBuf response = channel.readOutbound();
+        assertThat(response.getUnsignedByte(3), is((short) 2));
+        response.release();
+    }
+
+    @RequiredArgsConstructor
+    private static final class FixedLengthPacket implements MySQLPacket {
+
+        @Getter
+        private final int sequenceId;
+
+        private final int length;
+
+        @Override
+        public void write(final MySQLPacketPayload payload) {
+            byte[] bytes = new byte[length];
+            Arrays.fill(bytes, (byte) 1);
+            payload.writeBytes(bytes);
+        }
+    }
 }
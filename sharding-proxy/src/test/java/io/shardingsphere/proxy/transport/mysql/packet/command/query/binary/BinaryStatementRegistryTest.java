@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary;
+
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.proxy.backend.BackendHandler;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendResources;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class BinaryStatementRegistryTest {
+    
+    private final BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+    
+    @Test
+    public void assertRegisterSameSQL() {
+        String sql = "SELECT * FROM t_order WHERE order_id = ?";
+        int firstStatementId = binaryStatementRegistry.register(new BinaryStatement(sql, 1, null));
+        int secondStatementId = binaryStatementRegistry.register(new BinaryStatement(sql, 1, null));
+        assertThat(secondStatementId, not(firstStatementId));
+        assertThat(binaryStatementRegistry.getBinaryStatement(firstStatementId).getSql(), is(sql));
+        assertThat(binaryStatementRegistry.size(), is(2));
+    }
+    
+    @Test
+    public void assertRemove() {
+        int statementId = binaryStatementRegistry.register(new BinaryStatement("SELECT 1", 0, null));
+        binaryStatementRegistry.remove(statementId);
+        assertThat(binaryStatementRegistry.getBinaryStatement(statementId), nullValue());
+        assertThat(binaryStatementRegistry.size(), is(0));
+    }
+    
+    @Test
+    public void assertCloseCursors() throws SQLException {
+        BinaryStatement binaryStatement = new BinaryStatement("SELECT 1", 0, null);
+        Statement statement = mock(Statement.class);
+        binaryStatement.openCursor(mock(BackendHandler.class), new BackendResources(
+                Collections.<MergedResult>emptyList(), Collections.<ResultSet>emptyList(), Collections.singletonList(statement), Collections.<Connection>emptyList()));
+        binaryStatementRegistry.register(binaryStatement);
+        binaryStatementRegistry.closeCursors();
+        assertFalse(binaryStatementRegistry.hasOpenedCursor());
+        verify(statement).close();
+    }
+}
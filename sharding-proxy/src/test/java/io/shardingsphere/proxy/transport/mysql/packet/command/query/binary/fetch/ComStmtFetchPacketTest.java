@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.fetch;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.shardingsphere.proxy.backend.BackendHandler;
+import io.shardingsphere.proxy.backend.ResultPacket;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendConnection;
+import io.shardingsphere.proxy.backend.jdbc.connection.BackendResources;
+import io.shardingsphere.proxy.transport.common.packet.DatabasePacket;
+import io.shardingsphere.proxy.transport.mysql.constant.ColumnType;
+import io.shardingsphere.proxy.transport.mysql.constant.StatusFlag;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.proxy.transport.mysql.packet.command.CommandResponsePackets;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatement;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
+import io.shardingsphere.proxy.transport.mysql.packet.command.query.binary.execute.BinaryResultSetRowPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.EofPacket;
+import io.shardingsphere.proxy.transport.mysql.packet.generic.ErrPacket;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ComStmtFetchPacketTest {
+    
+    private final BinaryStatementRegistry binaryStatementRegistry = new BinaryStatementRegistry();
+    
+    private final Statement statement = mock(Statement.class);
+    
+    private BinaryStatement binaryStatement;
+    
+    private int statementId;
+    
+    @Before
+    public void setUp() throws SQLException {
+        BackendHandler cursor = mock(BackendHandler.class);
+        when(cursor.next()).thenReturn(true, true, true, false);
+        ResultPacket resultPacket = new ResultPacket(5, Collections.<Object>singletonList(1L), 1, Collections.singletonList(ColumnType.MYSQL_TYPE_LONGLONG));
+        when(cursor.getResultValue()).thenReturn(resultPacket);
+        binaryStatement = new BinaryStatement("SELECT order_id FROM t_order", 0, null);
+        binaryStatement.openCursor(cursor, new BackendResources(
+                Collections.<MergedResult>emptyList(), Collections.<ResultSet>emptyList(), Collections.singletonList(statement), Collections.<Connection>emptyList()));
+        statementId = binaryStatementRegistry.register(binaryStatement);
+    }
+    
+    @Test
+    public void assertFetchWithCursorExists() throws SQLException {
+        List<DatabasePacket> actual = fetch(statementId, 2);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), instanceOf(BinaryResultSetRowPacket.class));
+        assertThat(actual.get(0).getSequenceId(), is(1));
+        assertThat(actual.get(1).getSequenceId(), is(2));
+        assertThat(((EofPacket) actual.get(2)).getSequenceId(), is(3));
+        assertStatusFlag((EofPacket) actual.get(2), StatusFlag.SERVER_STATUS_CURSOR_EXISTS, true);
+        assertStatusFlag((EofPacket) actual.get(2), StatusFlag.SERVER_STATUS_LAST_ROW_SENT, false);
+        assertTrue(binaryStatementRegistry.hasOpenedCursor());
+        verify(statement, never()).close();
+    }
+    
+    @Test
+    public void assertFetchWithLastRowSent() throws SQLException {
+        fetch(statementId, 2);
+        List<DatabasePacket> actual = fetch(statementId, 2);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), instanceOf(BinaryResultSetRowPacket.class));
+        assertStatusFlag((EofPacket) actual.get(1), StatusFlag.SERVER_STATUS_LAST_ROW_SENT, true);
+        assertThat(binaryStatement.getCursor(), nullValue());
+        assertFalse(binaryStatementRegistry.hasOpenedCursor());
+        verify(statement).close();
+    }
+    
+    @Test
+    public void assertFetchWithoutCursor() throws SQLException {
+        binaryStatement.closeCursor();
+        List<DatabasePacket> actual = fetch(statementId, 2);
+        assertThat(actual.size(), is(1));
+        assertThat(((ErrPacket) actual.get(0)).getErrorCode(), is(1421));
+    }
+    
+    private List<DatabasePacket> fetch(final int statementId, final int numRows) throws SQLException {
+        ByteBuf byteBuf = Unpooled.buffer();
+        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf);
+        payload.writeInt4(statementId);
+        payload.writeInt4(numRows);
+        CommandResponsePackets actual = new ComStmtFetchPacket(0, payload, new BackendConnection(), binaryStatementRegistry).execute().get();
+        return new ArrayList<>(actual.getPackets());
+    }
+    
+    private void assertStatusFlag(final EofPacket eofPacket, final StatusFlag statusFlag, final boolean expected) {
+        assertThat(0 != (eofPacket.getStatusFlags() & statusFlag.getValue()), is(expected));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.proxy.transport.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.shardingsphere.proxy.transport.mysql.packet.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class TextResultSetRowPacketTest {
+    
+    @Test
+    public void assertWriteWithBytesSameAsObjects() {
+        ByteBuf expected = Unpooled.buffer();
+        new TextResultSetRowPacket(1, Arrays.<Object>asList(1, "foo", null)).write(new MySQLPacketPayload(expected));
+        ByteBuf actual = Unpooled.buffer();
+        new TextResultSetRowPacket(1, Arrays.<Object>asList("1".getBytes(), "foo".getBytes(), null)).write(new MySQLPacketPayload(actual));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertNewInstanceFromWrittenBytes() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        byteBuf.writeByte(2);
+        new TextResultSetRowPacket(2, Arrays.<Object>asList("1".getBytes(), "foo".getBytes())).write(new MySQLPacketPayload(byteBuf));
+        TextResultSetRowPacket actual = new TextResultSetRowPacket(new MySQLPacketPayload(byteBuf), 2);
+        assertThat(actual.getSequenceId(), is(2));
+        assertThat(actual.getData(), is(Arrays.<Object>asList("1", "foo")));
+    }
+}